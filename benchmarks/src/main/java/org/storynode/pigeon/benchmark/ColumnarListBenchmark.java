@@ -0,0 +1,89 @@
+package org.storynode.pigeon.benchmark;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.storynode.pigeon.collection.IntPairList;
+import org.storynode.pigeon.tuple.Pair;
+
+/**
+ * Scans and sorts of many <code>int</code> pairs held in an {@link IntPairList} compared with an
+ * {@link ArrayList} of boxed {@link Pair}s.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ColumnarListBenchmark {
+  @Param({"100000", "1000000"})
+  public int size;
+
+  private IntPairList columnar;
+  private List<Pair<Integer, Integer>> boxed;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    columnar = new IntPairList(size);
+    boxed = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      int first = random.nextInt();
+      columnar.add(first, i);
+      boxed.add(new Pair<>(first, i));
+    }
+  }
+
+  @Benchmark
+  public long columnarSumSeconds() {
+    long sum = 0;
+    for (int i = 0, n = columnar.size(); i < n; i++) {
+      sum += columnar.second(i);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long columnarStreamSumSeconds() {
+    return columnar.secondStream().asLongStream().sum();
+  }
+
+  @Benchmark
+  public IntPairList columnarSortByFirst() {
+    IntPairList copy = new IntPairList(columnar);
+    copy.sortByFirst();
+    return copy;
+  }
+
+  /** Baseline: the same scan over boxed pairs */
+  @Benchmark
+  public long boxedSumSeconds() {
+    long sum = 0;
+    for (Pair<Integer, Integer> pair : boxed) {
+      sum += pair.second();
+    }
+    return sum;
+  }
+
+  /** Baseline: the same stable sort over boxed pairs */
+  @Benchmark
+  public List<Pair<Integer, Integer>> boxedSortByFirst() {
+    List<Pair<Integer, Integer>> copy = new ArrayList<>(boxed);
+    copy.sort(Comparator.comparing(Pair::first));
+    return copy;
+  }
+}
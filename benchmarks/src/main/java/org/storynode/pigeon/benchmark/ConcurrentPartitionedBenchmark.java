@@ -0,0 +1,101 @@
+package org.storynode.pigeon.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.storynode.pigeon.collection.ConcurrentPartitioned;
+import org.storynode.pigeon.collection.Partitioned;
+
+/**
+ * Ingest throughput of a shared {@link ConcurrentPartitioned} compared with a {@link Partitioned}
+ * behind one global lock, from 1, 4 and as many threads as there are processors. Values are random
+ * in a bounded range, so the collections stop growing once every value has been seen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConcurrentPartitionedBenchmark {
+  private static final int VALUES = 1 << 20;
+
+  @Param({"64"})
+  public int partitionCount;
+
+  private ConcurrentPartitioned<Integer, Integer> concurrent;
+  private Partitioned<Integer, Integer> locked;
+
+  @State(Scope.Thread)
+  public static class Values {
+    private final SplittableRandom random = new SplittableRandom();
+
+    int next() {
+      return random.nextInt(VALUES);
+    }
+  }
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    int partitions = partitionCount;
+    concurrent = ConcurrentPartitioned.by(n -> n % partitions);
+    locked = Partitioned.by(n -> n % partitions);
+  }
+
+  private boolean addLocked(int value) {
+    synchronized (locked) {
+      return locked.add(value);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public boolean concurrentOneThread(Values values) {
+    return concurrent.add(values.next());
+  }
+
+  @Benchmark
+  @Threads(4)
+  public boolean concurrentFourThreads(Values values) {
+    return concurrent.add(values.next());
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public boolean concurrentAllThreads(Values values) {
+    return concurrent.add(values.next());
+  }
+
+  /** Baseline: a plain {@link Partitioned} behind a global lock */
+  @Benchmark
+  @Threads(1)
+  public boolean lockedOneThread(Values values) {
+    return addLocked(values.next());
+  }
+
+  /** Baseline: a plain {@link Partitioned} behind a global lock */
+  @Benchmark
+  @Threads(4)
+  public boolean lockedFourThreads(Values values) {
+    return addLocked(values.next());
+  }
+
+  /** Baseline: a plain {@link Partitioned} behind a global lock */
+  @Benchmark
+  @Threads(Threads.MAX)
+  public boolean lockedAllThreads(Values values) {
+    return addLocked(values.next());
+  }
+}
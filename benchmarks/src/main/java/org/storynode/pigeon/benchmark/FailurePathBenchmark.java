@@ -0,0 +1,113 @@
+package org.storynode.pigeon.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.storynode.pigeon.function.NeverThrow;
+import org.storynode.pigeon.result.Result;
+
+/**
+ * Cost of the failure path at different stack depths and error rates, comparing a thrown and caught
+ * exception, {@link Result#of} and {@link NeverThrow#executing} (which catch an exception thrown by
+ * the callee) and a {@link Result#err} propagated by return values.
+ *
+ * <p>Run with {@code -prof gc} to get the allocation per operation next to the throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FailurePathBenchmark {
+  private static final int OUTCOMES = 1024;
+
+  /** How many frames separate the caller from the place where the failure originates */
+  @Param({"1", "10", "100"})
+  public int depth;
+
+  /** The fraction of the calls that fail */
+  @Param({"0.0", "0.01", "0.5"})
+  public double errorRate;
+
+  private boolean[] failures;
+  private int cursor;
+
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    failures = new boolean[OUTCOMES];
+    for (int i = 0; i < OUTCOMES; i++) {
+      failures[i] = random.nextDouble() < errorRate;
+    }
+  }
+
+  private boolean nextFails() {
+    boolean fails = failures[cursor];
+    cursor = (cursor + 1) & (OUTCOMES - 1);
+    return fails;
+  }
+
+  @Benchmark
+  public int tryCatch() {
+    boolean fails = nextFails();
+    try {
+      return throwing(depth, fails);
+    } catch (Exception e) {
+      return -1;
+    }
+  }
+
+  @Benchmark
+  public int resultOf() {
+    boolean fails = nextFails();
+    return Result.<Integer, Exception>of(() -> throwing(depth, fails)).orElse(-1);
+  }
+
+  @Benchmark
+  public int neverThrowExecuting() {
+    boolean fails = nextFails();
+    return NeverThrow.<Integer, Exception>executing(() -> throwing(depth, fails)).orElse(-1);
+  }
+
+  @Benchmark
+  public int resultErr() {
+    boolean fails = nextFails();
+    return returning(depth, fails).orElse(-1);
+  }
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  private static int throwing(int depth, boolean fails) throws Exception {
+    if (depth > 1) {
+      return throwing(depth - 1, fails) + 1;
+    }
+
+    if (fails) {
+      throw new Exception("failed");
+    }
+    return 0;
+  }
+
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  private static Result<Integer, String> returning(int depth, boolean fails) {
+    if (depth > 1) {
+      return returning(depth - 1, fails).map(n -> n + 1);
+    }
+
+    if (fails) {
+      return Result.err("failed");
+    }
+    return Result.ok(0);
+  }
+}
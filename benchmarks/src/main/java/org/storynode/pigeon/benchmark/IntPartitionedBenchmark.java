@@ -0,0 +1,80 @@
+package org.storynode.pigeon.benchmark;
+
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.storynode.pigeon.collection.IntPartitioned;
+import org.storynode.pigeon.collection.Partitioned;
+
+/**
+ * Partition lookups and adds of an {@link IntPartitioned}, keyed by a primitive <code>int</code>,
+ * compared with a {@link Partitioned} boxing the same keys into a {@link java.util.HashMap}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class IntPartitionedBenchmark {
+  private static final int VALUES = 1 << 16;
+
+  @Param({"1024", "65536"})
+  public int partitionCount;
+
+  private IntPartitioned<Integer> primitive;
+  private Partitioned<Integer, Integer> boxed;
+  private int[] values;
+  private int index;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    int mask = partitionCount - 1;
+    primitive = IntPartitioned.by(n -> n & mask);
+    boxed = Partitioned.by(n -> n & mask);
+    values = new int[VALUES];
+    for (int i = 0; i < VALUES; i++) {
+      values[i] = random.nextInt(1 << 24);
+      primitive.add(values[i]);
+      boxed.add(values[i]);
+    }
+  }
+
+  private int next() {
+    return values[index++ & (VALUES - 1)];
+  }
+
+  @Benchmark
+  public Collection<Integer> primitiveGet() {
+    return primitive.get(next() & (partitionCount - 1));
+  }
+
+  @Benchmark
+  public boolean primitiveAdd() {
+    return primitive.add(next());
+  }
+
+  /** Baseline: the same lookup through boxed keys */
+  @Benchmark
+  public Collection<Integer> boxedGet() {
+    return boxed.get(next() & (partitionCount - 1));
+  }
+
+  /** Baseline: the same add through boxed keys */
+  @Benchmark
+  public boolean boxedAdd() {
+    return boxed.add(next());
+  }
+}
@@ -0,0 +1,77 @@
+package org.storynode.pigeon.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.storynode.pigeon.tuple.MutableTriplet;
+import org.storynode.pigeon.tuple.Triplet;
+import org.storynode.pigeon.tuple.Tuple;
+
+/**
+ * A count, sum and max reduction over many values, accumulated in a new {@link Triplet} for each
+ * value compared with a single reused {@link MutableTriplet}. Run with <code>-prof gc</code> to see
+ * the allocation rate of each.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MutableTupleBenchmark {
+  @Param({"10000", "1000000"})
+  public int size;
+
+  private int[] values;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    values = new int[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = random.nextInt(1_000);
+    }
+  }
+
+  @Benchmark
+  public Triplet<Integer, Long, Integer> immutableAccumulator() {
+    Triplet<Integer, Long, Integer> stats = Tuple.of(0, 0L, Integer.MIN_VALUE);
+    for (int value : values) {
+      stats = Tuple.of(stats.first() + 1, stats.second() + value, Math.max(stats.third(), value));
+    }
+    return stats;
+  }
+
+  @Benchmark
+  public Triplet<Integer, Long, Integer> mutableAccumulator() {
+    MutableTriplet<Integer, Long, Integer> stats = new MutableTriplet<>(0, 0L, Integer.MIN_VALUE);
+    for (int value : values) {
+      stats.set(stats.first() + 1, stats.second() + value, Math.max(stats.third(), value));
+    }
+    return stats.freeze();
+  }
+
+  /** Baseline: the same reduction on primitive locals */
+  @Benchmark
+  public long baselineLocals() {
+    int count = 0;
+    long sum = 0;
+    int max = Integer.MIN_VALUE;
+    for (int value : values) {
+      count++;
+      sum += value;
+      max = Math.max(max, value);
+    }
+    return count + sum + max;
+  }
+}
@@ -0,0 +1,85 @@
+package org.storynode.pigeon.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.storynode.pigeon.option.Option;
+
+/**
+ * Construction and mapping costs of {@link Option}, compared to {@link Optional} and to plain null
+ * checks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OptionBenchmark {
+  private String value = "pigeon";
+  private String absent = null;
+  private Option<String> some = Option.of(value);
+  private Option<String> none = Option.of(absent);
+  private Optional<String> present = Optional.of(value);
+  private Optional<String> empty = Optional.empty();
+
+  @Benchmark
+  public Option<String> optionOf() {
+    return Option.of(value);
+  }
+
+  @Benchmark
+  public Option<String> optionOfNull() {
+    return Option.of(absent);
+  }
+
+  @Benchmark
+  public Optional<String> baselineOptionalOfNullable() {
+    return Optional.ofNullable(value);
+  }
+
+  @Benchmark
+  public Option<Integer> someMap() {
+    return some.map(String::length);
+  }
+
+  @Benchmark
+  public Option<Integer> noneMap() {
+    return none.map(String::length);
+  }
+
+  @Benchmark
+  public Optional<Integer> baselineOptionalMap() {
+    return present.map(String::length);
+  }
+
+  @Benchmark
+  public Optional<Integer> baselineEmptyOptionalMap() {
+    return empty.map(String::length);
+  }
+
+  @Benchmark
+  public int someMapChainOrElse() {
+    return some.map(String::length).map(n -> n * 2).map(n -> n + 1).orElse(-1);
+  }
+
+  @Benchmark
+  public int baselineOptionalMapChainOrElse() {
+    return present.map(String::length).map(n -> n * 2).map(n -> n + 1).orElse(-1);
+  }
+
+  /** Baseline: the same chain written with null checks and no wrapper at all. */
+  @Benchmark
+  public int baselineNullCheckChain() {
+    String v = value;
+    return v == null ? -1 : v.length() * 2 + 1;
+  }
+}
@@ -0,0 +1,165 @@
+package org.storynode.pigeon.benchmark;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.storynode.pigeon.collection.EvictionPolicy;
+import org.storynode.pigeon.collection.PartitionStorage;
+import org.storynode.pigeon.collection.Partitioned;
+
+/**
+ * Loads and reads of a {@link Partitioned} holding many values spread over a few hundred
+ * partitions, for each {@link PartitionStorage}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+public class PartitionedBenchmark {
+  @Param({"100000", "1000000"})
+  public int size;
+
+  @Param({"256"})
+  public int partitionCount;
+
+  @Param({"TREE", "SORTED_ARRAY", "HASH"})
+  public PartitionStorage storage;
+
+  private Partitioned<Integer, Integer> partitioned;
+  private List<Integer> batch;
+  private int[] probes;
+  private int probe;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    int partitions = partitionCount;
+    partitioned = Partitioned.by(n -> n % partitions, storage);
+    batch = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      int value = random.nextInt(Integer.MAX_VALUE);
+      partitioned.add(value);
+      batch.add(value);
+    }
+    probes = new int[1024];
+    for (int i = 0; i < probes.length; i++) {
+      probes[i] = random.nextInt(Integer.MAX_VALUE);
+    }
+  }
+
+  @Benchmark
+  public boolean containsValue() {
+    return partitioned.containsValue(probes[probe++ & (probes.length - 1)]);
+  }
+
+  @Benchmark
+  public long iterateValues() {
+    long sum = 0;
+    for (int value : partitioned.values()) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public List<Integer> largestHundred() {
+    return partitioned.largest(100);
+  }
+
+  /** Baseline: the largest 100 values found by sorting a copy of all the values */
+  @Benchmark
+  public List<Integer> baselineLargestHundred() {
+    List<Integer> copy = new ArrayList<>(size);
+    for (Partitioned.Partition<Integer, Integer> partition : partitioned) {
+      copy.addAll(partition.values());
+    }
+    copy.sort(Comparator.reverseOrder());
+    return copy.subList(0, Math.min(100, copy.size()));
+  }
+
+  @Benchmark
+  public long sumRange() {
+    long sum = 0;
+    for (int value : partitioned.range(0, Integer.MAX_VALUE / 100)) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long parallelSum() {
+    return partitioned.values().parallelStream().mapToLong(Integer::longValue).sum();
+  }
+
+  /** Baseline: the same sum over a sequential stream */
+  @Benchmark
+  public long baselineSequentialSum() {
+    return partitioned.values().stream().mapToLong(Integer::longValue).sum();
+  }
+
+  @Benchmark
+  public long parallelPartitionSizes() {
+    return partitioned.parallelStream().mapToLong(p -> p.values().size()).sum();
+  }
+
+  @Benchmark
+  public Partitioned<Integer, Integer> bulkLoad() {
+    int partitions = partitionCount;
+    return Partitioned.by(n -> n % partitions, storage, batch);
+  }
+
+  /** Baseline: adding the same values one at a time */
+  @Benchmark
+  public Partitioned<Integer, Integer> baselineAddOneByOne() {
+    int partitions = partitionCount;
+    Partitioned<Integer, Integer> loaded = Partitioned.by(n -> n % partitions, storage);
+    for (Integer value : batch) {
+      loaded.add(value);
+    }
+    return loaded;
+  }
+
+  /** Adding the same values one at a time, keeping at most a hundred per partition */
+  @Benchmark
+  public Partitioned<Integer, Integer> boundedAddOneByOne() {
+    int partitions = partitionCount;
+    Partitioned<Integer, Integer> loaded =
+        new Partitioned<>(
+            n -> n % partitions,
+            storage,
+            100,
+            storage.isSorted() ? EvictionPolicy.KEEP_LARGEST : EvictionPolicy.EVICT_OLDEST,
+            null,
+            null);
+    for (Integer value : batch) {
+      loaded.add(value);
+    }
+    return loaded;
+  }
+
+  /** Baseline: copying every value into a single sorted set, as values() used to do */
+  @Benchmark
+  public int baselineCopyValues() {
+    TreeSet<Integer> copy = new TreeSet<>();
+    for (Partitioned.Partition<Integer, Integer> partition : partitioned) {
+      copy.addAll(partition.values());
+    }
+    return copy.size();
+  }
+}
@@ -0,0 +1,104 @@
+package org.storynode.pigeon.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.storynode.pigeon.error.ErrorCode;
+import org.storynode.pigeon.result.Result;
+
+/**
+ * Construction and chaining costs of {@link Result}, side by side with the equivalent plain code.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResultBenchmark {
+  private String value = "pigeon";
+  private String error = "failure";
+  private Result<String, String> ok = Result.ok(value);
+  private Result<String, String> err = Result.err(error);
+  private Rejection rejection = Rejection.RATE_LIMITED;
+
+  public enum Rejection implements ErrorCode {
+    RATE_LIMITED,
+    NOT_FOUND
+  }
+
+  @Benchmark
+  public Result<String, String> ok() {
+    return Result.ok(value);
+  }
+
+  @Benchmark
+  public Result<String, String> err() {
+    return Result.err(error);
+  }
+
+  /** A shared, pre-allocated Err for an error code: should cost the same as {@link #ok()}. */
+  @Benchmark
+  public Result<String, Rejection> failure() {
+    return Result.failure(rejection);
+  }
+
+  @Benchmark
+  public Result<Integer, String> okMap() {
+    return ok.map(String::length);
+  }
+
+  @Benchmark
+  public Result<Integer, String> errMap() {
+    return err.map(String::length);
+  }
+
+  @Benchmark
+  public Result<Integer, String> okMapChain() {
+    return ok.map(String::length).map(n -> n * 2).map(n -> n + 1);
+  }
+
+  @Benchmark
+  public Result<Integer, String> okFlatMapChain() {
+    return ok.flatMap(v -> Result.<Integer, String>ok(v.length()))
+        .flatMap(n -> Result.ok(n * 2))
+        .flatMap(n -> Result.ok(n + 1));
+  }
+
+  @Benchmark
+  public Result<Integer, String> okAndThenChain() {
+    return ok.andThen(v -> Result.<Integer, String>ok(v.length()))
+        .andThen(n -> Result.ok(n * 2))
+        .andThen(n -> Result.ok(n + 1));
+  }
+
+  @Benchmark
+  public Result<Integer, String> errAndThenChain() {
+    return err.andThen(v -> Result.<Integer, String>ok(v.length()))
+        .andThen(n -> Result.ok(n * 2))
+        .andThen(n -> Result.ok(n + 1));
+  }
+
+  @Benchmark
+  public int okUnwrapOrElse() {
+    return ok.map(String::length).orElse(-1);
+  }
+
+  /** Baseline: the same chain written with null checks and no wrapper at all. */
+  @Benchmark
+  public Integer baselineNullCheckChain() {
+    String v = value;
+    if (v == null) {
+      return null;
+    }
+    int n = v.length();
+    return n * 2 + 1;
+  }
+}
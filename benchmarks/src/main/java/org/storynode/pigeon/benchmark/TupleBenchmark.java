@@ -0,0 +1,74 @@
+package org.storynode.pigeon.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.storynode.pigeon.tuple.Pair;
+import org.storynode.pigeon.tuple.Triplet;
+import org.storynode.pigeon.tuple.Tuple;
+
+/** Construction, equality and hashing costs of tuples. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TupleBenchmark {
+  private String first = "pigeon";
+  private Integer second = 42;
+  private Pair<String, Integer> pair = Tuple.of(first, second);
+  private Pair<String, Integer> equalPair = Tuple.of(new String(first), second);
+  private Pair<String, Integer> otherPair = Tuple.of(first, 43);
+  private Triplet<String, Integer, Long> triplet = Tuple.of(first, second, 7L);
+  private Triplet<String, Integer, Long> equalTriplet = Tuple.of(new String(first), second, 7L);
+
+  @Benchmark
+  public Pair<String, Integer> pairOf() {
+    return Tuple.of(first, second);
+  }
+
+  @Benchmark
+  public Triplet<String, Integer, Long> tripletOf() {
+    return Tuple.of(first, second, 7L);
+  }
+
+  @Benchmark
+  public boolean pairEquals() {
+    return pair.equals(equalPair);
+  }
+
+  @Benchmark
+  public boolean pairNotEquals() {
+    return pair.equals(otherPair);
+  }
+
+  @Benchmark
+  public boolean tripletEquals() {
+    return triplet.equals(equalTriplet);
+  }
+
+  @Benchmark
+  public int pairHashCode() {
+    return pair.hashCode();
+  }
+
+  /** Baseline: equality of the same two fields compared by hand. */
+  @Benchmark
+  public boolean baselineFieldEquals() {
+    return first.equals(equalPair.first()) && second.equals(equalPair.second());
+  }
+
+  /** Baseline: hashing the same two fields by hand. */
+  @Benchmark
+  public int baselineFieldHashCode() {
+    return 31 * first.hashCode() + second.hashCode();
+  }
+}
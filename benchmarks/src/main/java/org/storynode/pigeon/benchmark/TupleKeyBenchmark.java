@@ -0,0 +1,119 @@
+package org.storynode.pigeon.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.storynode.pigeon.tuple.Quartet;
+import org.storynode.pigeon.tuple.Quintet;
+import org.storynode.pigeon.tuple.Tuple;
+
+/**
+ * Tuples of strings used as composite {@link HashMap} keys, where the hash code of a key is asked
+ * for on every lookup. The uncached variants are records with the same fields, which recompute
+ * their hash code on every call like tuples used to.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TupleKeyBenchmark {
+  @Param({"1000", "100000"})
+  public int size;
+
+  private Map<Quartet<String, String, String, String>, Integer> quartets;
+  private Map<Quintet<String, String, String, String, String>, Integer> quintets;
+  private Map<UncachedQuartet, Integer> uncachedQuartets;
+  private Map<UncachedQuintet, Integer> uncachedQuintets;
+  private Quartet<String, String, String, String>[] quartetProbes;
+  private Quintet<String, String, String, String, String>[] quintetProbes;
+  private UncachedQuartet[] uncachedQuartetProbes;
+  private UncachedQuintet[] uncachedQuintetProbes;
+  private int cursor;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    quartets = new HashMap<>();
+    quintets = new HashMap<>();
+    uncachedQuartets = new HashMap<>();
+    uncachedQuintets = new HashMap<>();
+    quartetProbes = new Quartet[size];
+    quintetProbes = new Quintet[size];
+    uncachedQuartetProbes = new UncachedQuartet[size];
+    uncachedQuintetProbes = new UncachedQuintet[size];
+
+    for (int i = 0; i < size; i++) {
+      String a = "tenant-" + (i % 97);
+      String b = "region-" + (i % 13);
+      String c = "service-" + (i % 1009);
+      String d = "endpoint-" + i;
+      String e = "GET";
+      quartets.put(Tuple.of(a, b, c, d), i);
+      quintets.put(Tuple.of(a, b, c, d, e), i);
+      uncachedQuartets.put(new UncachedQuartet(a, b, c, d), i);
+      uncachedQuintets.put(new UncachedQuintet(a, b, c, d, e), i);
+      // Probes are equal to, but not the same instances as, the stored keys
+      quartetProbes[i] = Tuple.of(a, b, c, new String(d));
+      quintetProbes[i] = Tuple.of(a, b, c, new String(d), e);
+      uncachedQuartetProbes[i] = new UncachedQuartet(a, b, c, new String(d));
+      uncachedQuintetProbes[i] = new UncachedQuintet(a, b, c, new String(d), e);
+    }
+  }
+
+  private int next() {
+    int i = cursor;
+    cursor = i + 1 == size ? 0 : i + 1;
+    return i;
+  }
+
+  @Benchmark
+  public Integer quartetLookup() {
+    return quartets.get(quartetProbes[next()]);
+  }
+
+  @Benchmark
+  public Integer quintetLookup() {
+    return quintets.get(quintetProbes[next()]);
+  }
+
+  @Benchmark
+  public int quintetHashCode() {
+    return quintetProbes[next()].hashCode();
+  }
+
+  /** Baseline: the lookup with a key that rehashes its four fields on every call */
+  @Benchmark
+  public Integer uncachedQuartetLookup() {
+    return uncachedQuartets.get(uncachedQuartetProbes[next()]);
+  }
+
+  /** Baseline: the lookup with a key that rehashes its five fields on every call */
+  @Benchmark
+  public Integer uncachedQuintetLookup() {
+    return uncachedQuintets.get(uncachedQuintetProbes[next()]);
+  }
+
+  /** Baseline: hashing five fields on every call */
+  @Benchmark
+  public int uncachedQuintetHashCode() {
+    return uncachedQuintetProbes[next()].hashCode();
+  }
+
+  private record UncachedQuartet(String first, String second, String third, String fourth) {}
+
+  private record UncachedQuintet(
+      String first, String second, String third, String fourth, String fifth) {}
+}
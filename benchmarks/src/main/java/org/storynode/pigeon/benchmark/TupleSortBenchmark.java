@@ -0,0 +1,113 @@
+package org.storynode.pigeon.benchmark;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.storynode.pigeon.tuple.Ordering;
+import org.storynode.pigeon.tuple.Triplet;
+import org.storynode.pigeon.tuple.Tuple;
+import org.storynode.pigeon.tuple.TupleComparators;
+
+/**
+ * Sorting large arrays of triplets with {@link TupleComparators} compared with the equivalent
+ * {@link Comparator#comparing} chains. Each invocation sorts a fresh copy of the same shuffled
+ * input. Run with a large heap (e.g. <code>-jvmArgs -Xmx8g</code>) for 10M tuples.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 2, jvmArgsAppend = "-Xmx8g")
+public class TupleSortBenchmark {
+  @Param({"1000000", "10000000"})
+  public int size;
+
+  private static final Comparator<Triplet<String, Integer, Long>> CHAINED =
+      Comparator.comparing((Triplet<String, Integer, Long> t) -> t.first())
+          .thenComparing(Triplet::second)
+          .thenComparing(Triplet::third);
+
+  private static final Comparator<Triplet<String, Integer, Long>> CHAINED_MIXED =
+      Comparator.comparing(
+              (Triplet<String, Integer, Long> t) -> t.first(),
+              Comparator.nullsLast(Comparator.<String>naturalOrder()))
+          .thenComparing(Triplet::second, Comparator.reverseOrder())
+          .thenComparing(Triplet::third);
+
+  private Triplet<String, Integer, Long>[] input;
+  private Triplet<String, Integer, Long>[] work;
+
+  @Setup(Level.Trial)
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    Random random = new Random(42);
+    String[] categories = new String[1000];
+    for (int i = 0; i < categories.length; i++) {
+      categories[i] = "category-" + i;
+    }
+
+    input = new Triplet[size];
+    for (int i = 0; i < size; i++) {
+      // Few distinct leading values, so most comparisons look past the first element
+      input[i] =
+          Tuple.of(
+              categories[random.nextInt(categories.length)],
+              random.nextInt(100),
+              random.nextLong());
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void copy() {
+    work = Arrays.copyOf(input, input.length);
+  }
+
+  @Benchmark
+  public Object[] natural() {
+    Arrays.sort(work, TupleComparators.triplet());
+    return work;
+  }
+
+  @Benchmark
+  public Object[] mixedOrderings() {
+    Arrays.sort(
+        work,
+        TupleComparators.triplet(
+            Ordering.ASCENDING_NULLS_LAST, Ordering.DESCENDING, Ordering.ASCENDING));
+    return work;
+  }
+
+  @Benchmark
+  public Object[] parallelNatural() {
+    Arrays.parallelSort(work, TupleComparators.triplet());
+    return work;
+  }
+
+  /** Baseline: the same ordering as {@link #natural()} through a chain of lambdas */
+  @Benchmark
+  public Object[] chained() {
+    Arrays.sort(work, CHAINED);
+    return work;
+  }
+
+  /** Baseline: the same ordering as {@link #mixedOrderings()} through a chain of lambdas */
+  @Benchmark
+  public Object[] chainedMixed() {
+    Arrays.sort(work, CHAINED_MIXED);
+    return work;
+  }
+}
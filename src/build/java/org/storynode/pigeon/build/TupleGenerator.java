@@ -0,0 +1,1097 @@
+package org.storynode.pigeon.build;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.IntFunction;
+
+/**
+ * Generates the fixed-arity tuple classes, from {@code Pair} to {@code Decet}, and the pairs of
+ * unboxed primitives, like {@code IntPair}, in the {@code org.storynode.pigeon.tuple} package,
+ * along with the columnar lists of those pairs, like {@code IntPairList}, in the {@code
+ * org.storynode.pigeon.collection} package. The sources are laid out as google-java-format would
+ * lay them out, so that they read like the rest of the project.
+ *
+ * <p>Runs during the <code>generate-sources</code> phase as a single-file source program, so it
+ * must only depend on the JDK. Usage: <code>java TupleGenerator.java &lt;output directory&gt;
+ * </code>
+ */
+public class TupleGenerator {
+  private static final String PACKAGE = "org.storynode.pigeon.tuple";
+  private static final String COLLECTION_PACKAGE = "org.storynode.pigeon.collection";
+
+  /** The line width of google-java-format, which formats the rest of the sources */
+  private static final int WIDTH = 100;
+
+  private static final String[] NAMES = {
+    "Pair", "Triplet", "Quartet", "Quintet", "Sextet", "Septet", "Octet", "Nonet", "Decet"
+  };
+
+  private static final String[] ORDINALS = {
+    "first", "second", "third", "fourth", "fifth", "sixth", "seventh", "eighth", "ninth", "tenth"
+  };
+
+  private static final String[] COUNTS = {
+    "two", "three", "four", "five", "six", "seven", "eight", "nine", "ten"
+  };
+
+  /** The largest arity of the tuples written by hand before they were generated */
+  private static final int HANDWRITTEN_ARITY = 5;
+
+  /** The version that added the tuples from {@code Sextet} to {@code Decet} */
+  private static final String GENERATED_SINCE = "0.6.1";
+
+  /** A primitive type an element of a primitive pair can have */
+  private record Primitive(String type, String box) {
+    /** The part of the primitive pair names this type stands for, like <code>Int</code> */
+    String prefix() {
+      return Character.toUpperCase(type.charAt(0)) + type.substring(1);
+    }
+
+    /** An expression comparing two values of this type for equality, like their boxes would */
+    String equal(String left, String right) {
+      return type.equals("double")
+          ? "Double.doubleToLongBits(" + left + ") == Double.doubleToLongBits(" + right + ")"
+          : left + " == " + right;
+    }
+  }
+
+  private static final Primitive INT = new Primitive("int", "Integer");
+  private static final Primitive LONG = new Primitive("long", "Long");
+  private static final Primitive DOUBLE = new Primitive("double", "Double");
+
+  /** The element types of each primitive pair */
+  private static final Primitive[][] PRIMITIVE_PAIRS = {
+    {INT, INT}, {LONG, LONG}, {DOUBLE, DOUBLE}, {INT, LONG}
+  };
+
+  /** The element types of the columnar lists of primitive pairs, like {@code IntPairList} */
+  private static final Primitive[] PAIR_LISTS = {INT, LONG, DOUBLE};
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      throw new IllegalArgumentException("Usage: TupleGenerator <output directory>");
+    }
+
+    Path directory = Path.of(args[0], PACKAGE.split("\\."));
+    Files.createDirectories(directory);
+    for (int i = 0; i < NAMES.length; i++) {
+      write(directory.resolve(NAMES[i] + ".java"), generate(NAMES[i], COUNTS[i], i + 2));
+    }
+    write(directory.resolve("TupleComparators.java"), generateComparators());
+    for (Primitive[] types : PRIMITIVE_PAIRS) {
+      String name = primitivePairName(types[0], types[1]);
+      write(directory.resolve(name + ".java"), generatePrimitivePair(types[0], types[1]));
+    }
+
+    Path collections = Path.of(args[0], COLLECTION_PACKAGE.split("\\."));
+    Files.createDirectories(collections);
+    for (Primitive type : PAIR_LISTS) {
+      String name = primitivePairName(type, type) + "List";
+      write(collections.resolve(name + ".java"), generatePairList(type));
+    }
+  }
+
+  private static void write(Path file, String source) throws IOException {
+    // Leave up to date files alone so the compiler does not see them as changed
+    if (!Files.exists(file) || !Files.readString(file).equals(source)) {
+      Files.writeString(file, source, StandardCharsets.UTF_8);
+    }
+  }
+
+  private static String generate(String name, String count, int arity) {
+    String typeParameters = join(", ", arity, i -> "T" + (i + 1));
+    String wildcards = join(", ", arity, i -> "?");
+    String self = name + "<" + typeParameters + ">";
+
+    List<String> lines = new ArrayList<>();
+    lines.add("package " + PACKAGE + ";");
+    lines.add("");
+    lines.add("import java.util.Objects;");
+    lines.add("import javax.annotation.processing.Generated;");
+    lines.add("import org.jetbrains.annotations.NotNull;");
+    lines.add("import org.storynode.pigeon.option.Option;");
+    lines.add("");
+    lines.add("/**");
+    lines.add(" * A {@link org.storynode.pigeon.tuple.Tuple} of " + count + " elements.");
+    lines.add(" *");
+    comment(
+        lines,
+        "<p>Tuples compare element by element, in order, as described by {@link #compareTo("
+            + name
+            + ")}. Every tuple is {@link java.lang.Comparable}, whatever the types of its elements,"
+            + " so comparing two tuples throws a {@link java.lang.ClassCastException} when it"
+            + " reaches a pair of elements that are not comparable with each other. {@link"
+            + " TupleComparators} only accept tuples of {@link java.lang.Comparable} elements, and"
+            + " check this at compile time instead.");
+    lines.add(" *");
+    for (int i = 0; i < arity; i++) {
+      lines.add(" * @param <T" + (i + 1) + "> The type of the " + ORDINALS[i] + " element");
+    }
+    lines.add(" * @author Andrea Coronese");
+    lines.add(" * @since " + (arity <= HANDWRITTEN_ARITY ? "1.0.0" : GENERATED_SINCE));
+    lines.add(" */");
+    lines.add("@Generated(\"" + TupleGenerator.class.getName() + "\")");
+    lines.add(
+        wrap(
+            "public final class " + self + " extends Tuple",
+            "implements Comparable<" + self + "> {"));
+    for (int i = 0; i < arity; i++) {
+      lines.add("  private final T" + (i + 1) + " " + ORDINALS[i] + ";");
+    }
+    lines.add("");
+    lines.add("  /** Cached hash code, 0 until first computed */");
+    lines.add("  private int hash;");
+    lines.add("");
+
+    lines.add("  /**");
+    lines.add("   * Constructor for " + name + ".");
+    lines.add("   *");
+    for (int i = 0; i < arity; i++) {
+      lines.add("   * @param " + ORDINALS[i] + " a T" + (i + 1) + " object");
+    }
+    lines.add("   */");
+    lines.addAll(
+        new Group(name + "(", atoms(arity, i -> "T" + (i + 1) + " " + ORDINALS[i]), ")")
+            .layout("  public ", " {"));
+    for (int i = 0; i < arity; i++) {
+      lines.add("    this." + ORDINALS[i] + " = " + ORDINALS[i] + ";");
+    }
+    lines.add("  }");
+
+    for (int i = 0; i < arity; i++) {
+      lines.add("");
+      lines.add("  /**");
+      lines.add("   * The " + ORDINALS[i] + " element of the tuple");
+      lines.add("   *");
+      lines.add("   * @return The " + ORDINALS[i] + " element");
+      lines.add("   */");
+      lines.add("  public T" + (i + 1) + " " + ORDINALS[i] + "() {");
+      lines.add("    return " + ORDINALS[i] + ";");
+      lines.add("  }");
+    }
+
+    lines.add("");
+    lines.add("  /** {@inheritDoc} */");
+    lines.add("  @Override");
+    lines.add("  public int cardinality() {");
+    lines.add("    return " + arity + ";");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /** {@inheritDoc} */");
+    lines.add("  @Override");
+    lines.add("  public @NotNull Option<Object> at(int index) {");
+    lines.add("    return switch (index) {");
+    for (int i = 0; i < arity; i++) {
+      lines.add("      case " + i + " -> Option.of(this." + ORDINALS[i] + ");");
+    }
+    lines.add("      default -> Option.none();");
+    lines.add("    };");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /** {@inheritDoc} */");
+    lines.add("  @Override");
+    lines.add("  public Object get(int index) {");
+    lines.add("    return switch (index) {");
+    for (int i = 0; i < arity; i++) {
+      lines.add("      case " + i + " -> this." + ORDINALS[i] + ";");
+    }
+    lines.add("      default -> throw new IndexOutOfBoundsException(index);");
+    lines.add("    };");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /**");
+    comment(
+        lines,
+        "   *",
+        "Compares this tuple with another one element by element, in order, stopping at the first"
+            + " pair of elements that differ. <code>null</code> elements come before any other"
+            + " value.");
+    lines.add("   *");
+    lines.add("   * @param other The tuple to compare with");
+    tag(
+        lines,
+        "   *",
+        "@return A negative number, zero, or a positive number as this tuple is less than, equal to,"
+            + " or greater than <code>other</code>");
+    tag(
+        lines,
+        "   *",
+        "@throws java.lang.ClassCastException if a pair of non-null elements to compare is not"
+            + " {@link java.lang.Comparable} with each other");
+    lines.add("   */");
+    lines.add("  @Override");
+    lines.add("  public int compareTo(@NotNull " + self + " other) {");
+    if (arity > 1) {
+      lines.add("    int c;");
+    }
+    for (int i = 0; i < arity - 1; i++) {
+      lines.add(
+          "    if ((c = compareElements("
+              + ORDINALS[i]
+              + ", other."
+              + ORDINALS[i]
+              + ")) != 0) return c;");
+    }
+    lines.add(
+        "    return compareElements("
+            + ORDINALS[arity - 1]
+            + ", other."
+            + ORDINALS[arity - 1]
+            + ");");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /** {@inheritDoc} */");
+    lines.add("  @Override");
+    lines.add("  public boolean equals(Object o) {");
+    lines.add("    if (this == o) return true;");
+    lines.add("    if (!(o instanceof " + name + "<" + wildcards + "> other)) return false;");
+    lines.addAll(
+        new Chain(
+                "&&",
+                atoms(arity, i -> "Objects.equals(" + ORDINALS[i] + ", other." + ORDINALS[i] + ")"))
+            .layout("    return ", ";"));
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /**");
+    lines.add("   * {@inheritDoc}");
+    lines.add("   *");
+    lines.add(
+        "   * <p>The hash code is computed on first use and cached, so the elements of the tuple must not");
+    lines.add("   * change their own hash code while the tuple is in use.");
+    lines.add("   */");
+    lines.add("  @Override");
+    lines.add("  public int hashCode() {");
+    lines.add("    int h = hash;");
+    lines.add("    if (h == 0) {");
+    lines.add("      // Same value as Objects.hash over the elements, without the varargs array");
+    lines.add("      h = 1;");
+    for (int i = 0; i < arity; i++) {
+      lines.add("      h = 31 * h + Objects.hashCode(" + ORDINALS[i] + ");");
+    }
+    lines.add("      hash = h;");
+    lines.add("    }");
+    lines.add("    return h;");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /** {@inheritDoc} */");
+    lines.add("  @Override");
+    lines.add("  public String toString() {");
+    List<Code> parts = new ArrayList<>();
+    parts.add(atom("\"" + name + "[\""));
+    for (int i = 0; i < arity; i++) {
+      parts.add(atom("\"" + (i == 0 ? "" : ", ") + ORDINALS[i] + "=\""));
+      parts.add(atom(ORDINALS[i]));
+    }
+    parts.add(atom("']'"));
+    lines.addAll(new Chain("+", parts).layout("    return ", ";"));
+    lines.add("  }");
+    lines.add("}");
+
+    return String.join("\n", lines) + "\n";
+  }
+
+  private static String generateComparators() {
+    List<String> lines = new ArrayList<>();
+    lines.add("package " + PACKAGE + ";");
+    lines.add("");
+    lines.add("import java.util.Comparator;");
+    lines.add("import java.util.List;");
+    lines.add("import java.util.Objects;");
+    lines.add("import java.util.concurrent.ConcurrentHashMap;");
+    lines.add("import java.util.concurrent.ConcurrentMap;");
+    lines.add("import javax.annotation.processing.Generated;");
+    lines.add("import org.jetbrains.annotations.NotNull;");
+    lines.add("");
+    lines.add("/**");
+    lines.add(
+        " * Lexicographic comparators for the fixed-arity tuples, with elements that are {@link");
+    lines.add(
+        " * java.lang.Comparable}. Tuples are compared element by element, in order, stopping at the first");
+    lines.add(
+        " * pair of elements that differ, and each position can be ordered in its own way with an {@link");
+    lines.add(" * Ordering}.");
+    lines.add(" *");
+    lines.add(
+        " * <p>Each arity has its own comparator class reading the elements of the tuples directly, so a");
+    lines.add(
+        " * comparison does not go through a chain of {@link java.util.Comparator#thenComparing} lambdas.");
+    lines.add(" * Comparators are created once for each combination of orderings and then reused.");
+    lines.add(" */");
+    lines.add("@Generated(\"" + TupleGenerator.class.getName() + "\")");
+    lines.add("public final class TupleComparators {");
+    lines.add("  private static final Ordering NATURAL = Ordering.ASCENDING_NULLS_FIRST;");
+    lines.add("  private static final ConcurrentMap<List<Ordering>, Comparator<?>> CACHE =");
+    lines.add("      new ConcurrentHashMap<>();");
+    for (int i = 0; i < NAMES.length; i++) {
+      int arity = i + 2;
+      Code comparator =
+          new Group("new " + NAMES[i] + "Comparator<>(", atoms(arity, j -> "NATURAL"), ")");
+      lines.addAll(
+          new Breaking("=", comparator)
+              .layout(
+                  "  private static final Comparator<?> NATURAL_" + NAMES[i].toUpperCase() + " ",
+                  ";"));
+    }
+    lines.add("");
+    lines.add("  private TupleComparators() {}");
+
+    for (int i = 0; i < NAMES.length; i++) {
+      int arity = i + 2;
+      String name = NAMES[i];
+      String method = Character.toLowerCase(name.charAt(0)) + name.substring(1);
+      Group bounded =
+          new Group(
+              "<",
+              atoms(arity, j -> "T" + (j + 1) + " extends Comparable<? super T" + (j + 1) + ">"),
+              ">",
+              8);
+      String self = name + "<" + join(", ", arity, j -> "T" + (j + 1)) + ">";
+
+      lines.add("");
+      lines.add("  /**");
+      comment(
+          lines,
+          "   *",
+          "The natural ordering of {@link "
+              + name
+              + "}s, the same as {@link "
+              + name
+              + "#compareTo("
+              + name
+              + ")}: every position is {@link Ordering#ASCENDING_NULLS_FIRST}.");
+      lines.add("   *");
+      for (int j = 0; j < arity; j++) {
+        lines.add("   * @param <T" + (j + 1) + "> The type of the " + ORDINALS[j] + " element");
+      }
+      lines.add("   * @return A comparator of {@link " + name + "}s");
+      lines.add("   */");
+      lines.add("  @SuppressWarnings(\"unchecked\")");
+      lines.addAll(bounded.layout("  public static ", ""));
+      lines.add("      @NotNull Comparator<" + self + "> " + method + "() {");
+      lines.add("    return (Comparator<" + self + ">) NATURAL_" + name.toUpperCase() + ";");
+      lines.add("  }");
+
+      lines.add("");
+      lines.add("  /**");
+      lines.add("   * A comparator of {@link " + name + "}s ordering each position as given");
+      lines.add("   *");
+      for (int j = 0; j < arity; j++) {
+        lines.add("   * @param " + ORDINALS[j] + " How to order the " + ORDINALS[j] + " elements");
+      }
+      for (int j = 0; j < arity; j++) {
+        lines.add("   * @param <T" + (j + 1) + "> The type of the " + ORDINALS[j] + " element");
+      }
+      lines.add("   * @return A comparator of {@link " + name + "}s");
+      lines.add("   */");
+      lines.add("  @SuppressWarnings(\"unchecked\")");
+      lines.addAll(bounded.layout("  public static ", ""));
+      lines.addAll(
+          new Group(method + "(", atoms(arity, j -> "@NotNull Ordering " + ORDINALS[j]), ")")
+              .layout("      @NotNull Comparator<" + self + "> ", " {"));
+      List<Code> ordinals = atoms(arity, j -> ORDINALS[j]);
+      Code lookup =
+          new Group(
+              "CACHE.computeIfAbsent(",
+              List.of(
+                  new Group("List.of(", ordinals, ")"),
+                  new Breaking(
+                      "key ->", new Group("new " + name + "Comparator<>(", ordinals, ")"))),
+              ")");
+      lines.addAll(new Breaking("(Comparator<" + self + ">)", lookup).layout("    return ", ";"));
+      lines.add("  }");
+    }
+
+    for (int i = 0; i < NAMES.length; i++) {
+      int arity = i + 2;
+      String name = NAMES[i];
+      String typeParameters = join(", ", arity, j -> "T" + (j + 1));
+      String self = name + "<" + typeParameters + ">";
+
+      lines.add("");
+      lines.add(
+          wrap(
+              "  private static final class " + name + "Comparator<" + typeParameters + ">",
+              "implements Comparator<" + self + "> {"));
+      for (int j = 0; j < arity; j++) {
+        lines.add("    private final Ordering " + ORDINALS[j] + ";");
+      }
+      lines.add("");
+      lines.addAll(
+          new Group(name + "Comparator(", atoms(arity, j -> "Ordering " + ORDINALS[j]), ")")
+              .layout("    private ", " {"));
+      for (int j = 0; j < arity; j++) {
+        lines.add("      this." + ORDINALS[j] + " = Objects.requireNonNull(" + ORDINALS[j] + ");");
+      }
+      lines.add("    }");
+      lines.add("");
+      lines.add("    @Override");
+      lines.addAll(
+          new Group("compare(", List.of(atom(self + " left"), atom(self + " right")), ")")
+              .layout("    public int ", " {"));
+      lines.add("      int c;");
+      for (int j = 0; j < arity - 1; j++) {
+        lines.add(
+            "      if ((c = "
+                + ORDINALS[j]
+                + ".compare(left."
+                + ORDINALS[j]
+                + "(), right."
+                + ORDINALS[j]
+                + "())) != 0) return c;");
+      }
+      String last = ORDINALS[arity - 1];
+      lines.add("      return " + last + ".compare(left." + last + "(), right." + last + "());");
+      lines.add("    }");
+      lines.add("");
+      lines.add("    @Override");
+      lines.add("    public String toString() {");
+      List<Code> description =
+          List.of(
+              atom("\"" + name + "Comparator[\""),
+              new Group("List.of(", atoms(arity, j -> ORDINALS[j]), ")"),
+              atom("']'"));
+      lines.addAll(new Chain("+", description).layout("      return ", ";"));
+      lines.add("    }");
+      lines.add("  }");
+    }
+    lines.add("}");
+
+    return String.join("\n", lines) + "\n";
+  }
+
+  private static String primitivePairName(Primitive first, Primitive second) {
+    return (first == second ? first.prefix() : first.prefix() + second.prefix()) + "Pair";
+  }
+
+  private static String generatePrimitivePair(Primitive first, Primitive second) {
+    String name = primitivePairName(first, second);
+    Primitive[] types = {first, second};
+    String values =
+        first == second
+            ? "two <code>" + first.type() + "</code> values"
+            : article(first.type())
+                + " <code>"
+                + first.type()
+                + "</code> and "
+                + article(second.type())
+                + " <code>"
+                + second.type()
+                + "</code> value";
+
+    List<String> lines = new ArrayList<>();
+    lines.add("package " + PACKAGE + ";");
+    lines.add("");
+    lines.add("import javax.annotation.processing.Generated;");
+    lines.add("import org.jetbrains.annotations.Contract;");
+    lines.add("import org.jetbrains.annotations.NotNull;");
+    lines.add("import org.storynode.pigeon.option.Option;");
+    lines.add("");
+    lines.add("/**");
+    comment(lines, "A {@link org.storynode.pigeon.tuple.Pair} of " + values + ", stored unboxed.");
+    lines.add(" *");
+    comment(
+        lines,
+        "<p>The elements are only boxed when accessed through the generic {@link"
+            + " org.storynode.pigeon.tuple.Tuple} methods or when converted with {@link"
+            + " #toPair()}. "
+            + capitalize(article(name))
+            + " "
+            + name
+            + " is never equal to a {@link org.storynode.pigeon.tuple.Pair}, even if it holds"
+            + " the same values, but it has the same hash code.");
+    lines.add(" */");
+    lines.add("@Generated(\"" + TupleGenerator.class.getName() + "\")");
+    lines.add("public final class " + name + " extends Tuple {");
+    for (int i = 0; i < 2; i++) {
+      lines.add("  private final " + types[i].type() + " " + ORDINALS[i] + ";");
+    }
+    lines.add("");
+    lines.add("  /**");
+    lines.add("   * Constructor for " + name + ".");
+    lines.add("   *");
+    for (int i = 0; i < 2; i++) {
+      lines.add("   * @param " + ORDINALS[i] + " the " + ORDINALS[i] + " element");
+    }
+    lines.add("   */");
+    lines.add("  public " + name + "(" + first.type() + " first, " + second.type() + " second) {");
+    for (int i = 0; i < 2; i++) {
+      lines.add("    this." + ORDINALS[i] + " = " + ORDINALS[i] + ";");
+    }
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /** {@inheritDoc} */");
+    lines.add("  @Override");
+    lines.add("  public int cardinality() {");
+    lines.add("    return 2;");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /** {@inheritDoc} */");
+    lines.add("  @Override");
+    lines.add("  public @NotNull Option<Object> at(int index) {");
+    lines.add("    return switch (index) {");
+    for (int i = 0; i < 2; i++) {
+      lines.add("      case " + i + " -> Option.of(this." + ORDINALS[i] + ");");
+    }
+    lines.add("      default -> Option.none();");
+    lines.add("    };");
+    lines.add("  }");
+
+    for (int i = 0; i < 2; i++) {
+      lines.add("");
+      lines.add("  /**");
+      lines.add("   * The " + ORDINALS[i] + " element of the tuple");
+      lines.add("   *");
+      lines.add("   * @return The " + ORDINALS[i] + " element");
+      lines.add("   */");
+      lines.add("  public " + types[i].type() + " " + ORDINALS[i] + "() {");
+      lines.add("    return " + ORDINALS[i] + ";");
+      lines.add("  }");
+    }
+
+    lines.add("");
+    lines.add("  /** {@inheritDoc} */");
+    lines.add("  @Override");
+    lines.add("  public Object get(int index) {");
+    lines.add("    return switch (index) {");
+    for (int i = 0; i < 2; i++) {
+      lines.add("      case " + i + " -> this." + ORDINALS[i] + ";");
+    }
+    lines.add("      default -> throw new IndexOutOfBoundsException(index);");
+    lines.add("    };");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /**");
+    lines.add("   * Boxes the elements into a generic {@link org.storynode.pigeon.tuple.Pair}");
+    lines.add("   *");
+    lines.add("   * @return A new {@link org.storynode.pigeon.tuple.Pair} holding the same values");
+    lines.add("   */");
+    lines.add("  @Contract(\" -> new\")");
+    lines.add("  public @NotNull Pair<" + first.box() + ", " + second.box() + "> toPair() {");
+    lines.add("    return new Pair<>(first, second);");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /** {@inheritDoc} */");
+    lines.add("  @Override");
+    lines.add("  public boolean equals(Object o) {");
+    lines.add("    if (this == o) return true;");
+    lines.add("    if (!(o instanceof " + name + " other)) return false;");
+    lines.addAll(
+        new Chain(
+                "&&",
+                List.of(
+                    atom(first.equal("first", "other.first")),
+                    atom(second.equal("second", "other.second"))))
+            .layout("    return ", ";"));
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /** {@inheritDoc} */");
+    lines.add("  @Override");
+    lines.add("  public int hashCode() {");
+    lines.add("    // Same value as the equivalent Pair, without boxing");
+    lines.add(
+        "    return 31 * (31 + "
+            + first.box()
+            + ".hashCode(first)) + "
+            + second.box()
+            + ".hashCode(second);");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /** {@inheritDoc} */");
+    lines.add("  @Override");
+    lines.add("  public String toString() {");
+    lines.add("    return \"" + name + "[first=\" + first + \", second=\" + second + ']';");
+    lines.add("  }");
+    lines.add("}");
+
+    return String.join("\n", lines) + "\n";
+  }
+
+  private static String generatePairList(Primitive type) {
+    String pair = primitivePairName(type, type);
+    String name = pair + "List";
+    String stream = type.prefix() + "Stream";
+
+    List<String> lines = new ArrayList<>();
+    lines.add("package " + COLLECTION_PACKAGE + ";");
+    lines.add("");
+    lines.add("import java.util.AbstractList;");
+    lines.add("import java.util.Arrays;");
+    lines.add("import java.util.Collection;");
+    lines.add("import java.util.Objects;");
+    lines.add("import java.util.RandomAccess;");
+    lines.add("import java.util.Spliterator;");
+    lines.add("import java.util.stream." + stream + ";");
+    lines.add("import javax.annotation.processing.Generated;");
+    lines.add("import org.jetbrains.annotations.Contract;");
+    lines.add("import org.jetbrains.annotations.NotNull;");
+    lines.add("import " + PACKAGE + "." + pair + ";");
+    lines.add("");
+    lines.add("/**");
+    comment(
+        lines,
+        "A list of {@link "
+            + pair
+            + "}s stored by column, in two <code>"
+            + type.type()
+            + "</code> arrays. Nothing is boxed and no {@link "
+            + pair
+            + "} instance is retained: pairs are built on demand when read through the {@link"
+            + " java.util.List} interface, while {@link #first(int)} and {@link #second(int)} read"
+            + " a single column without building one.");
+    lines.add(" *");
+    lines.add(
+        " * <p>Pairs returned by {@link #get(int)} are copies: they do not change when the list does.");
+    lines.add(" *");
+    lines.add(" * @see PairList");
+    lines.add(" */");
+    lines.add("@Generated(\"" + TupleGenerator.class.getName() + "\")");
+    lines.add(
+        "public class " + name + " extends AbstractList<" + pair + "> implements RandomAccess {");
+    lines.add("  private static final " + type.type() + "[] EMPTY = {};");
+    lines.add("");
+    lines.add("  private " + type.type() + "[] firsts;");
+    lines.add("  private " + type.type() + "[] seconds;");
+    lines.add("  private int size;");
+
+    lines.add("");
+    lines.add("  /** Creates an empty {@link " + name + "} */");
+    lines.add("  public " + name + "() {");
+    lines.add("    this.firsts = EMPTY;");
+    lines.add("    this.seconds = EMPTY;");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /**");
+    comment(
+        lines,
+        "   *",
+        "Creates an empty {@link "
+            + name
+            + "} that can hold <code>initialCapacity</code> pairs before growing");
+    lines.add("   *");
+    lines.add("   * @param initialCapacity The number of pairs to allocate room for");
+    lines.add(
+        "   * @throws java.lang.IllegalArgumentException if <code>initialCapacity</code> is negative");
+    lines.add("   */");
+    lines.add("  public " + name + "(int initialCapacity) {");
+    lines.add("    if (initialCapacity < 0) {");
+    lines.add(
+        "      throw new IllegalArgumentException(\"Illegal capacity: \" + initialCapacity);");
+    lines.add("    }");
+    for (int i = 0; i < 2; i++) {
+      lines.add(
+          "    this."
+              + ORDINALS[i]
+              + "s = initialCapacity == 0 ? EMPTY : new "
+              + type.type()
+              + "[initialCapacity];");
+    }
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /**");
+    lines.add("   * Creates a {@link " + name + "} holding the given pairs, in order");
+    lines.add("   *");
+    lines.add("   * @param pairs The pairs to add");
+    lines.add("   */");
+    lines.add("  public " + name + "(@NotNull Collection<? extends " + pair + "> pairs) {");
+    lines.add("    this(pairs.size());");
+    lines.add("    addAll(pairs);");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /** {@inheritDoc} */");
+    lines.add("  @Override");
+    lines.add("  public int size() {");
+    lines.add("    return size;");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /**");
+    lines.add("   * {@inheritDoc}");
+    lines.add("   *");
+    lines.add("   * <p>The pair is built on each call from the columns of this list.");
+    lines.add("   */");
+    lines.add("  @Override");
+    lines.add("  public @NotNull " + pair + " get(int index) {");
+    lines.add("    Objects.checkIndex(index, size);");
+    lines.add("    return row(index);");
+    lines.add("  }");
+
+    for (int i = 0; i < 2; i++) {
+      lines.add("");
+      lines.add("  /**");
+      lines.add("   * The " + ORDINALS[i] + " element of the pair at the given position");
+      lines.add("   *");
+      lines.add("   * @param index The position of the pair");
+      lines.add("   * @return The " + ORDINALS[i] + " element of the pair");
+      lines.add(
+          "   * @throws java.lang.IndexOutOfBoundsException if <code>index</code> is out of range");
+      lines.add("   */");
+      lines.add("  public " + type.type() + " " + ORDINALS[i] + "(int index) {");
+      lines.add("    Objects.checkIndex(index, size);");
+      lines.add("    return " + ORDINALS[i] + "s[index];");
+      lines.add("  }");
+    }
+
+    for (int i = 0; i < 2; i++) {
+      lines.add("");
+      lines.add("  /**");
+      lines.add(
+          "   * Streams the "
+              + ORDINALS[i]
+              + " elements of the pairs, in order, straight from their column");
+      lines.add("   *");
+      lines.add("   * @return A sequential stream of the " + ORDINALS[i] + " elements");
+      lines.add("   */");
+      lines.add("  public @NotNull " + stream + " " + ORDINALS[i] + "Stream() {");
+      lines.add("    return Arrays.stream(" + ORDINALS[i] + "s, 0, size);");
+      lines.add("  }");
+    }
+
+    lines.add("");
+    lines.add("  /**");
+    lines.add(
+        "   * Appends a pair to the end of this list, without building a {@link " + pair + "}");
+    lines.add("   *");
+    lines.add("   * @param first The first element of the pair");
+    lines.add("   * @param second The second element of the pair");
+    lines.add("   */");
+    lines.add("  @Contract(mutates = \"this\")");
+    lines.add("  public void add(" + type.type() + " first, " + type.type() + " second) {");
+    lines.add("    modCount++;");
+    lines.add("    int s = size;");
+    lines.add("    if (s == firsts.length) {");
+    lines.add("      grow(s + 1);");
+    lines.add("    }");
+    lines.add("    firsts[s] = first;");
+    lines.add("    seconds[s] = second;");
+    lines.add("    size = s + 1;");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /** {@inheritDoc} */");
+    lines.add("  @Override");
+    lines.add("  public boolean add(@NotNull " + pair + " pair) {");
+    lines.add("    add(pair.first(), pair.second());");
+    lines.add("    return true;");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /** {@inheritDoc} */");
+    lines.add("  @Override");
+    lines.add("  public void add(int index, @NotNull " + pair + " pair) {");
+    lines.add("    Objects.checkIndex(index, size + 1);");
+    lines.add("    modCount++;");
+    lines.add("    int s = size;");
+    lines.add("    if (s == firsts.length) {");
+    lines.add("      grow(s + 1);");
+    lines.add("    }");
+    lines.add("    System.arraycopy(firsts, index, firsts, index + 1, s - index);");
+    lines.add("    System.arraycopy(seconds, index, seconds, index + 1, s - index);");
+    lines.add("    firsts[index] = pair.first();");
+    lines.add("    seconds[index] = pair.second();");
+    lines.add("    size = s + 1;");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /** {@inheritDoc} */");
+    lines.add("  @Override");
+    lines.add("  public " + pair + " set(int index, @NotNull " + pair + " pair) {");
+    lines.add("    Objects.checkIndex(index, size);");
+    lines.add("    " + pair + " previous = row(index);");
+    lines.add("    firsts[index] = pair.first();");
+    lines.add("    seconds[index] = pair.second();");
+    lines.add("    return previous;");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /** {@inheritDoc} */");
+    lines.add("  @Override");
+    lines.add("  public " + pair + " remove(int index) {");
+    lines.add("    Objects.checkIndex(index, size);");
+    lines.add("    modCount++;");
+    lines.add("    " + pair + " previous = row(index);");
+    lines.add("    int moved = size - index - 1;");
+    lines.add("    System.arraycopy(firsts, index + 1, firsts, index, moved);");
+    lines.add("    System.arraycopy(seconds, index + 1, seconds, index, moved);");
+    lines.add("    size--;");
+    lines.add("    return previous;");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  /** {@inheritDoc} */");
+    lines.add("  @Override");
+    lines.add("  public void clear() {");
+    lines.add("    modCount++;");
+    lines.add("    size = 0;");
+    lines.add("  }");
+
+    for (int i = 0; i < 2; i++) {
+      String column = ORDINALS[i] + "s";
+      lines.add("");
+      lines.add("  /**");
+      comment(
+          lines,
+          "   *",
+          "Sorts the pairs of this list by their "
+              + ORDINALS[i]
+              + " element, in ascending order. The sort is stable: pairs with equal "
+              + ORDINALS[i]
+              + " elements keep their relative order."
+              + (type == DOUBLE
+                  ? " Values are ordered as by {@link Double#compare(double, double)}."
+                  : ""));
+      lines.add("   */");
+      lines.add("  @Contract(mutates = \"this\")");
+      lines.add("  public void sortBy" + capitalize(ORDINALS[i]) + "() {");
+      // Ints are sorted without a comparator, see Columns#stableOrder(int[], int)
+      String order =
+          type == INT
+              ? "Columns.stableOrder(" + column + ", size));"
+              : "Columns.stableOrder(size, (left, right) -> "
+                  + type.box()
+                  + ".compare("
+                  + column
+                  + "[left], "
+                  + column
+                  + "[right])));";
+      lines.add(wrap("    applyOrder(", order));
+      lines.add("  }");
+    }
+
+    lines.add("");
+    lines.add("  /**");
+    lines.add("   * {@inheritDoc}");
+    lines.add("   *");
+    lines.add(
+        "   * <p>The spliterator is {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, and splits in");
+    lines.add(
+        "   * halves, so streams over this list parallelize evenly. It is bound to the size of the list when");
+    lines.add("   * created and is not fail-fast.");
+    lines.add("   */");
+    lines.add("  @Override");
+    lines.add("  public @NotNull Spliterator<" + pair + "> spliterator() {");
+    lines.add("    return new Columns.RowSpliterator<>(this::row, 0, size);");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  private @NotNull " + pair + " row(int index) {");
+    lines.add("    return new " + pair + "(firsts[index], seconds[index]);");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  private void applyOrder(int @NotNull [] order) {");
+    lines.add("    modCount++;");
+    lines.add("    firsts = Columns.permute(firsts, order);");
+    lines.add("    seconds = Columns.permute(seconds, order);");
+    lines.add("  }");
+
+    lines.add("");
+    lines.add("  private void grow(int minCapacity) {");
+    lines.add("    int capacity = Columns.grow(firsts.length, minCapacity);");
+    lines.add("    firsts = Arrays.copyOf(firsts, capacity);");
+    lines.add("    seconds = Arrays.copyOf(seconds, capacity);");
+    lines.add("  }");
+    lines.add("}");
+
+    return String.join("\n", lines) + "\n";
+  }
+
+  /** Adds a paragraph to a doc comment, wrapped to fit in 100 columns */
+  private static void comment(List<String> lines, String text) {
+    comment(lines, " *", text);
+  }
+
+  /** Adds a block tag to a doc comment, wrapped like google-java-format does */
+  private static void tag(List<String> lines, String prefix, String text) {
+    comment(lines, prefix, prefix + "    ", text);
+  }
+
+  /** Adds a paragraph to a doc comment whose lines start with <code>prefix</code> */
+  private static void comment(List<String> lines, String prefix, String text) {
+    comment(lines, prefix, prefix, text);
+  }
+
+  private static void comment(List<String> lines, String first, String rest, String text) {
+    StringBuilder line = new StringBuilder(first);
+    String prefix = first;
+    for (String word : text.split(" ")) {
+      if (line.length() + 1 + word.length() > WIDTH && line.length() > prefix.length()) {
+        lines.add(line.toString());
+        prefix = rest;
+        line = new StringBuilder(prefix);
+      }
+      line.append(' ').append(word);
+    }
+    lines.add(line.toString());
+  }
+
+  private static String article(String word) {
+    return "aeiouAEIOU".indexOf(word.charAt(0)) >= 0 ? "an" : "a";
+  }
+
+  private static String capitalize(String word) {
+    return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+  }
+
+  /** Joins two parts of a declaration, on two lines if they do not fit in one */
+  private static String wrap(String head, String tail) {
+    boolean parameters = head.endsWith("(");
+    String line = head + (parameters ? "" : " ") + tail;
+    String indent = " ".repeat(head.length() - head.stripLeading().length() + 4);
+    return fits(line) ? line : head + "\n" + indent + tail;
+  }
+
+  private static String join(String separator, int count, IntFunction<String> item) {
+    StringJoiner joiner = new StringJoiner(separator);
+    for (int i = 0; i < count; i++) {
+      joiner.add(item.apply(i));
+    }
+    return joiner.toString();
+  }
+
+  private static boolean fits(String line) {
+    return line.length() <= WIDTH;
+  }
+
+  private static String indentOf(String line) {
+    return line.substring(0, line.length() - line.stripLeading().length());
+  }
+
+  private static Code atom(String text) {
+    return new Atom(text);
+  }
+
+  private static List<Code> atoms(int count, IntFunction<String> item) {
+    List<Code> atoms = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      atoms.add(atom(item.apply(i)));
+    }
+    return atoms;
+  }
+
+  /**
+   * A piece of generated code, laid out on one line when it fits and broken the way
+   * google-java-format does otherwise, so that generated sources read like formatted ones
+   */
+  private interface Code {
+    /** The code on a single line */
+    String flat();
+
+    /** The lines of the code, starting after <code>head</code> and followed by <code>tail</code> */
+    List<String> layout(String head, String tail);
+  }
+
+  /** Code that is never broken */
+  private record Atom(String text) implements Code {
+    @Override
+    public String flat() {
+      return text;
+    }
+
+    @Override
+    public List<String> layout(String head, String tail) {
+      return List.of(head + text + tail);
+    }
+  }
+
+  /**
+   * A comma-separated list between brackets, like arguments or parameters. When it does not fit,
+   * the items move to a continuation line <code>indent</code> columns further in, all together if
+   * they fit there or one per line otherwise.
+   */
+  private record Group(String open, List<Code> items, String close, int indent) implements Code {
+    Group(String open, List<Code> items, String close) {
+      this(open, items, close, 4);
+    }
+
+    @Override
+    public String flat() {
+      return open + String.join(", ", items.stream().map(Code::flat).toList()) + close;
+    }
+
+    @Override
+    public List<String> layout(String head, String tail) {
+      if (fits(head + flat() + tail)) {
+        return List.of(head + flat() + tail);
+      }
+
+      String continuation = indentOf(head) + " ".repeat(indent);
+      String all = String.join(", ", items.stream().map(Code::flat).toList());
+      List<String> lines = new ArrayList<>();
+      lines.add(head + open);
+      if (fits(continuation + all + close + tail)) {
+        lines.add(continuation + all + close + tail);
+        return lines;
+      }
+      for (int i = 0; i < items.size(); i++) {
+        boolean last = i == items.size() - 1;
+        lines.addAll(items.get(i).layout(continuation, last ? close + tail : ","));
+      }
+      return lines;
+    }
+  }
+
+  /**
+   * Code that moves to a continuation line after <code>before</code> when it does not fit, like the
+   * value of an assignment, a cast expression or the body of a lambda
+   */
+  private record Breaking(String before, Code after) implements Code {
+    @Override
+    public String flat() {
+      return before + " " + after.flat();
+    }
+
+    @Override
+    public List<String> layout(String head, String tail) {
+      if (fits(head + flat() + tail)) {
+        return List.of(head + flat() + tail);
+      }
+
+      List<String> lines = new ArrayList<>();
+      lines.add(head + before);
+      lines.addAll(after.layout(indentOf(head) + "    ", tail));
+      return lines;
+    }
+  }
+
+  /** Operands of a binary operator, broken before each operator when they do not fit */
+  private record Chain(String operator, List<Code> operands) implements Code {
+    @Override
+    public String flat() {
+      return String.join(" " + operator + " ", operands.stream().map(Code::flat).toList());
+    }
+
+    @Override
+    public List<String> layout(String head, String tail) {
+      if (fits(head + flat() + tail)) {
+        return List.of(head + flat() + tail);
+      }
+
+      String continuation = indentOf(head) + "    " + operator + " ";
+      List<String> lines = new ArrayList<>(operands.get(0).layout(head, ""));
+      for (int i = 1; i < operands.size(); i++) {
+        lines.addAll(operands.get(i).layout(continuation, i == operands.size() - 1 ? tail : ""));
+      }
+      return lines;
+    }
+  }
+}
@@ -0,0 +1,203 @@
+package org.storynode.pigeon.collection;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Shared plumbing for the columnar lists in this package: growth of the backing arrays, stable
+ * sorting by a single column and spliterators over index ranges.
+ */
+@UtilityClass
+class Columns {
+  /** Capacity of the backing arrays of an empty list, allocated on first insertion */
+  static final int DEFAULT_CAPACITY = 10;
+
+  /**
+   * Compares two rows of a columnar list by their index
+   *
+   * @see #stableOrder(int, IndexComparator)
+   */
+  @FunctionalInterface
+  interface IndexComparator {
+    int compare(int left, int right);
+  }
+
+  /**
+   * The capacity the backing arrays should grow to in order to hold at least <code>minCapacity
+   * </code> rows, growing by half of the current capacity at least
+   */
+  static int grow(int capacity, int minCapacity) {
+    int grown = capacity + Math.max(capacity >> 1, DEFAULT_CAPACITY);
+    if (grown - minCapacity < 0) {
+      grown = minCapacity;
+    }
+    if (grown < 0) {
+      throw new OutOfMemoryError("Required array length " + minCapacity + " is too large");
+    }
+    return grown;
+  }
+
+  /**
+   * Computes the order the first <code>size</code> rows should have to be sorted according to
+   * <code>comparator</code>. Rows that compare equal keep their relative order.
+   *
+   * @return An array where the i-th element is the current index of the row that should be at
+   *     position i
+   */
+  static int @NotNull [] stableOrder(int size, @NotNull IndexComparator comparator) {
+    int[] order = new int[size];
+    for (int i = 0; i < size; i++) {
+      order[i] = i;
+    }
+    if (size > 1) {
+      mergeSort(order.clone(), order, 0, size, comparator);
+    }
+    return order;
+  }
+
+  /**
+   * Same as {@link #stableOrder(int, IndexComparator)} when sorting by an <code>int</code> column
+   * in ascending order, packing value and index in a <code>long</code> to sort without a comparator
+   */
+  static int @NotNull [] stableOrder(int @NotNull [] column, int size) {
+    long[] keys = new long[size];
+    for (int i = 0; i < size; i++) {
+      keys[i] = ((long) column[i] << 32) | i;
+    }
+    Arrays.sort(keys);
+    int[] order = new int[size];
+    for (int i = 0; i < size; i++) {
+      order[i] = (int) keys[i];
+    }
+    return order;
+  }
+
+  /** Top-down merge sort of <code>dst[from, to)</code>, using <code>src</code> as scratch space */
+  private static void mergeSort(
+      int[] src, int[] dst, int from, int to, @NotNull IndexComparator comparator) {
+    int length = to - from;
+    if (length < 8) {
+      for (int i = from + 1; i < to; i++) {
+        int row = dst[i];
+        int j = i - 1;
+        for (; j >= from && comparator.compare(dst[j], row) > 0; j--) {
+          dst[j + 1] = dst[j];
+        }
+        dst[j + 1] = row;
+      }
+      return;
+    }
+
+    int mid = (from + to) >>> 1;
+    mergeSort(dst, src, from, mid, comparator);
+    mergeSort(dst, src, mid, to, comparator);
+
+    if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+      System.arraycopy(src, from, dst, from, length);
+      return;
+    }
+
+    for (int i = from, left = from, right = mid; i < to; i++) {
+      if (right >= to || left < mid && comparator.compare(src[left], src[right]) <= 0) {
+        dst[i] = src[left++];
+      } else {
+        dst[i] = src[right++];
+      }
+    }
+  }
+
+  static Object @NotNull [] permute(Object @NotNull [] column, int @NotNull [] order) {
+    Object[] permuted = new Object[column.length];
+    for (int i = 0; i < order.length; i++) {
+      permuted[i] = column[order[i]];
+    }
+    return permuted;
+  }
+
+  static int @NotNull [] permute(int @NotNull [] column, int @NotNull [] order) {
+    int[] permuted = new int[column.length];
+    for (int i = 0; i < order.length; i++) {
+      permuted[i] = column[order[i]];
+    }
+    return permuted;
+  }
+
+  static long @NotNull [] permute(long @NotNull [] column, int @NotNull [] order) {
+    long[] permuted = new long[column.length];
+    for (int i = 0; i < order.length; i++) {
+      permuted[i] = column[order[i]];
+    }
+    return permuted;
+  }
+
+  static double @NotNull [] permute(double @NotNull [] column, int @NotNull [] order) {
+    double[] permuted = new double[column.length];
+    for (int i = 0; i < order.length; i++) {
+      permuted[i] = column[order[i]];
+    }
+    return permuted;
+  }
+
+  /**
+   * A {@link Spliterator} over the rows <code>[origin, fence)</code> of a columnar list, building
+   * each element on demand. It splits in halves and reports exact sizes.
+   *
+   * @param <E> The type of the elements built from the rows
+   */
+  static final class RowSpliterator<E> implements Spliterator<E> {
+    private final @NotNull IntFunction<E> row;
+    private int index;
+    private final int fence;
+
+    RowSpliterator(@NotNull IntFunction<E> row, int origin, int fence) {
+      this.row = row;
+      this.index = origin;
+      this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+      if (index >= fence) {
+        return false;
+      }
+
+      action.accept(row.apply(index++));
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+      int i = index;
+      index = fence;
+      for (; i < fence; i++) {
+        action.accept(row.apply(i));
+      }
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+      int mid = (index + fence) >>> 1;
+      if (mid <= index) {
+        return null;
+      }
+
+      Spliterator<E> prefix = new RowSpliterator<>(row, index, mid);
+      index = mid;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return SIZED | SUBSIZED | ORDERED | NONNULL;
+    }
+  }
+}
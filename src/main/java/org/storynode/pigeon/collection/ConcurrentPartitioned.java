@@ -0,0 +1,345 @@
+package org.storynode.pigeon.collection;
+
+import static org.storynode.pigeon.result.Result.err;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.storynode.pigeon.option.Option;
+import org.storynode.pigeon.result.Result;
+
+/**
+ * A thread safe version of {@link Partitioned}, that many threads can add values to and read from
+ * without any external locking.
+ *
+ * <p>Partitions are kept in a {@link ConcurrentHashMap}, each one a {@link ConcurrentSkipListSet}
+ * sorted by the natural ordering of the values, so that adding values to different partitions, or
+ * even to the same one, does not block. Iterators over the partitions and over the values of a
+ * partition are weakly consistent: they never throw {@link
+ * java.util.ConcurrentModificationException} and may or may not reflect changes made while
+ * iterating.
+ *
+ * <p>Neither partition keys nor values can be <code>null</code>.
+ *
+ * @param <K> The type of key returned by the partitioning function
+ * @param <V> The type of values held in each partition. Values must be {@link Comparable} with each
+ *     other.
+ */
+public class ConcurrentPartitioned<K, V extends Comparable<V>>
+    implements Iterable<Partitioned.Partition<K, V>> {
+  private final ConcurrentMap<K, NavigableSet<V>> partitions;
+  private final Function<V, K> partitioner;
+
+  /**
+   * Creates a new {@link ConcurrentPartitioned} with the given partitioning function
+   *
+   * @param partitioner The partitioning function to use
+   */
+  public ConcurrentPartitioned(Function<V, K> partitioner) {
+    this(partitioner, null);
+  }
+
+  /**
+   * Creates a new {@link ConcurrentPartitioned} with the given partitioning function and partition
+   * some initial values in it
+   *
+   * @param partitioner The partitioning function
+   * @param values The initial values to partition
+   */
+  public ConcurrentPartitioned(Function<V, K> partitioner, Collection<V> values) {
+    this.partitions = new ConcurrentHashMap<>();
+    this.partitioner = partitioner;
+    if (values != null) {
+      this.addAll(values);
+    }
+  }
+
+  /**
+   * The number of partitions included in this instance
+   *
+   * @return The number of partitions
+   */
+  public int size() {
+    return partitions.size();
+  }
+
+  /**
+   * Adds a value to its target partition. If the partition of the value is removed at the same
+   * time, the value ends up in a new partition with the same key.
+   *
+   * @param value The value to add
+   * @return <code>true</code> if this operation modifies the collection, <code>false</code>
+   *     otherwise
+   * @throws java.lang.NullPointerException if the value, or its partition key, is <code>null
+   *     </code>
+   */
+  public boolean add(@NotNull V value) {
+    K key = partitioner.apply(value);
+    NavigableSet<V> partition = partitionFor(key);
+    boolean added = partition.add(value);
+    // The partition may have been removed in the meantime, taking the value away with it
+    while (partitions.get(key) != partition) {
+      partition = partitionFor(key);
+      added = partition.add(value) || added;
+    }
+    return added;
+  }
+
+  private @NotNull NavigableSet<V> partitionFor(K key) {
+    NavigableSet<V> partition = partitions.get(key);
+    if (partition == null) {
+      partition = partitions.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>());
+    }
+    return partition;
+  }
+
+  /**
+   * Adds multiple values to their target partitions
+   *
+   * @param values The values to add
+   * @return <code>true</code> if this operation modifies the collection, <code>false</code>
+   *     otherwise
+   */
+  public boolean addAll(@NotNull Collection<? extends V> values) {
+    boolean changed = false;
+    for (V v : values) {
+      changed |= add(v);
+    }
+    return changed;
+  }
+
+  /**
+   * Whether this collection is empty or not
+   *
+   * @return <code>true</code> if the collection is empty, <code>false</code> otherwise
+   */
+  public boolean isEmpty() {
+    return partitions.isEmpty();
+  }
+
+  /**
+   * Checks if the collection contains a given key
+   *
+   * @param key They key to check for
+   * @return <code>true</code> if they key is found, <code>false</code> otherwise
+   */
+  public boolean containsKey(K key) {
+    return partitions.containsKey(key);
+  }
+
+  /**
+   * Checks if any of the partitions contain a given value, looking only into the partition the
+   * value would belong to
+   *
+   * @param value They value to check for
+   * @return <code>true</code> if the value is found, <code>false</code> otherwise
+   */
+  public boolean containsValue(V value) {
+    if (value == null) {
+      return false;
+    }
+    NavigableSet<V> partition = partitions.get(partitioner.apply(value));
+    return partition != null && partition.contains(value);
+  }
+
+  /**
+   * Gets a given partition by key, if it exists. The outcome is wrapped in a {@link Result} in
+   * order to handle potential runtime errors, like the error caused by a <code>null</code> key.
+   * <br>
+   * <br>
+   * For an unchecked version of this, use {@link ConcurrentPartitioned#get}
+   *
+   * @param key The key of the partition to search for
+   * @return A {@link Result} containing the found partition or an empty {@link Option} if not found
+   */
+  public @NotNull Result<Option<Collection<V>>, Throwable> tryGet(K key) {
+    return Result.of(() -> Option.of(partitions.get(key)));
+  }
+
+  /**
+   * Like {@link ConcurrentPartitioned#tryGet(Object)}, but can return <code>null</code> and throw
+   * if something is not right.
+   *
+   * @param key The key of the partition to search for
+   * @return the found partition or <code>null</code> if not found
+   */
+  public Collection<V> get(K key) {
+    return partitions.get(key);
+  }
+
+  /**
+   * Tries to remove a partition from this collection
+   *
+   * @param key The key of the partition to remove
+   * @return a {@link Result} containing an {@link Option} of the removed partition if it was found,
+   *     empty otherwise.
+   */
+  @Contract(mutates = "this")
+  public @NotNull Result<Option<Collection<V>>, Throwable> tryRemove(K key) {
+    return Result.of(() -> Option.of(partitions.remove(key)));
+  }
+
+  /**
+   * Tries to remove a value from the partition that contains it
+   *
+   * @param value The value to remove
+   * @return a {@link Result} containing an {@link Option} of the removed value if it was found,
+   *     empty otherwise.
+   */
+  @Contract(mutates = "this")
+  public @NotNull Result<Option<V>, Throwable> tryRemoveValue(V value) {
+    if (value == null) {
+      return err(new NullPointerException("value cannot be null"));
+    }
+
+    return tryGet(partitioner.apply(value))
+        .map(
+            maybePartition -> {
+              if (maybePartition.isSome()) {
+                return Option.of(maybePartition.unwrap().remove(value) ? value : null);
+              } else {
+                return Option.none();
+              }
+            });
+  }
+
+  /** Deletes all partitions */
+  @Contract(mutates = "this")
+  public void clear() {
+    partitions.clear();
+  }
+
+  /**
+   * Gets all they partition keys
+   *
+   * @return A live, weakly consistent set containing the partition keys
+   */
+  public @NotNull Set<K> keySet() {
+    return partitions.keySet();
+  }
+
+  /**
+   * All the values of all the partitions, in their natural order. Like {@link
+   * Partitioned#values()}, this is a live, read-only view merging the partitions as it is iterated,
+   * and its iterators are weakly consistent.
+   *
+   * @return A view of the values of all partitions
+   */
+  public @NotNull Collection<V> values() {
+    return new AbstractCollection<>() {
+      @Override
+      public @NotNull Iterator<V> iterator() {
+        List<Iterator<V>> sources = new ArrayList<>();
+        for (NavigableSet<V> partition : partitions.values()) {
+          sources.add(partition.iterator());
+        }
+        return new MergingIterator<>(sources, Comparator.naturalOrder());
+      }
+
+      /** Not a constant time operation, see {@link ConcurrentSkipListSet#size()} */
+      @Override
+      public int size() {
+        int size = 0;
+        for (NavigableSet<V> partition : partitions.values()) {
+          size += partition.size();
+        }
+        return size;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public boolean contains(Object o) {
+        try {
+          return containsValue((V) o);
+        } catch (ClassCastException e) {
+          return false;
+        }
+      }
+    };
+  }
+
+  /**
+   * The partitions of this instance as a live, read-only set view with weakly consistent iterators
+   *
+   * @return A view of the partitions
+   */
+  public @NotNull Set<Partitioned.Partition<K, V>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public @NotNull Iterator<Partitioned.Partition<K, V>> iterator() {
+        return ConcurrentPartitioned.this.iterator();
+      }
+
+      @Override
+      public int size() {
+        return partitions.size();
+      }
+
+      @Override
+      public boolean contains(Object o) {
+        if (!(o instanceof Partitioned.Partition<?, ?> partition) || partition.key() == null) {
+          return false;
+        }
+        NavigableSet<V> values = partitions.get(partition.key());
+        return values != null && values.equals(partition.values());
+      }
+    };
+  }
+
+  /**
+   * Alias for {@link ConcurrentPartitioned#containsValue}
+   *
+   * @param value The value to check for
+   * @return <code>true</code> if the value is found, <code>false</code> otherwise
+   */
+  public boolean contains(V value) {
+    return containsValue(value);
+  }
+
+  /**
+   * Iterates over the partitions of this instance. The iterator is weakly consistent.
+   *
+   * @return An iterator on the partitions of this instance
+   */
+  @Override
+  public @NotNull Iterator<Partitioned.Partition<K, V>> iterator() {
+    Iterator<Map.Entry<K, NavigableSet<V>>> entries = partitions.entrySet().iterator();
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return entries.hasNext();
+      }
+
+      @Override
+      public Partitioned.Partition<K, V> next() {
+        Map.Entry<K, NavigableSet<V>> entry = entries.next();
+        return new Partitioned.Partition<>(entry.getKey(), entry.getValue());
+      }
+    };
+  }
+
+  @Contract("_, _ -> new")
+  public static <K, V extends Comparable<V>> @NotNull ConcurrentPartitioned<K, V> by(
+      Function<V, K> partitioner, Collection<V> values) {
+    return new ConcurrentPartitioned<>(partitioner, values);
+  }
+
+  @Contract("_ -> new")
+  public static <K, V extends Comparable<V>> @NotNull ConcurrentPartitioned<K, V> by(
+      Function<V, K> partitioner) {
+    return by(partitioner, null);
+  }
+}
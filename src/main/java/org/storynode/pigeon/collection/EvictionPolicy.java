@@ -0,0 +1,35 @@
+package org.storynode.pigeon.collection;
+
+/**
+ * Which values a bounded {@link Partitioned} drops when a partition is full. It is chosen once,
+ * along with the capacity, when creating the {@link Partitioned}, and applies to all of its
+ * partitions.
+ */
+public enum EvictionPolicy {
+  /**
+   * Keeps the smallest values by natural ordering: a new value takes the place of the largest one,
+   * unless it is larger than all of them, in which case it is not added. Needs a sorted {@link
+   * PartitionStorage}.
+   */
+  KEEP_SMALLEST,
+
+  /**
+   * Keeps the largest values by natural ordering: a new value takes the place of the smallest one,
+   * unless it is smaller than all of them, in which case it is not added. Needs a sorted {@link
+   * PartitionStorage}.
+   */
+  KEEP_LARGEST,
+
+  /** Keeps the most recently added values: a new value always takes the place of the oldest one. */
+  EVICT_OLDEST;
+
+  /**
+   * Whether this policy decides by the natural ordering of the values, and so needs partitions that
+   * keep them sorted
+   *
+   * @return <code>true</code> for {@link #KEEP_SMALLEST} and {@link #KEEP_LARGEST}
+   */
+  public boolean isOrdered() {
+    return this != EVICT_OLDEST;
+  }
+}
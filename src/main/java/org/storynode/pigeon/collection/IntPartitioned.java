@@ -0,0 +1,166 @@
+package org.storynode.pigeon.collection;
+
+import java.util.Collection;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.storynode.pigeon.option.Option;
+import org.storynode.pigeon.result.Result;
+
+/**
+ * A variant of {@link Partitioned} whose partitioning function returns an <code>int</code>, like a
+ * shard id or a time bucket. Partitions are kept in an open-addressing table keyed by the primitive
+ * value, so adding values and looking partitions up never boxes the key.
+ *
+ * <p>Only iterating with {@link #iterator()} boxes the keys, to build the {@link
+ * Partitioned.Partition} records; {@link #forEachPartition(ObjIntConsumer)} and {@link #keys()} do
+ * not.
+ *
+ * @param <V> The type of values held in each partition. Values must be {@link Comparable} with each
+ *     other.
+ */
+public class IntPartitioned<V extends Comparable<V>> extends PrimitivePartitioned<Integer, V> {
+  private final ToIntFunction<V> partitioner;
+
+  /**
+   * Creates a new {@link IntPartitioned} with the given partitioning function
+   *
+   * @param partitioner The partitioning function to use
+   */
+  public IntPartitioned(@NotNull ToIntFunction<V> partitioner) {
+    this(partitioner, PartitionStorage.TREE, null);
+  }
+
+  /**
+   * Creates a new {@link IntPartitioned} with the given partitioning function and partition some
+   * initial values in it
+   *
+   * @param partitioner The partitioning function
+   * @param values The initial values to partition
+   */
+  public IntPartitioned(@NotNull ToIntFunction<V> partitioner, Collection<V> values) {
+    this(partitioner, PartitionStorage.TREE, values);
+  }
+
+  /**
+   * Creates a new {@link IntPartitioned} with the given partitioning function and partition
+   * storage, and partition some initial values in it
+   *
+   * @param partitioner The partitioning function
+   * @param storage How each partition stores its values
+   * @param values The initial values to partition, or <code>null</code> for none
+   */
+  public IntPartitioned(
+      @NotNull ToIntFunction<V> partitioner,
+      @NotNull PartitionStorage storage,
+      Collection<V> values) {
+    super(storage);
+    this.partitioner = partitioner;
+    if (values != null) {
+      this.addAll(values);
+    }
+  }
+
+  @Override
+  long keyOf(V value) {
+    return partitioner.applyAsInt(value);
+  }
+
+  @Override
+  int hash(long key) {
+    int h = (int) key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  @Override
+  Integer box(long key) {
+    return (int) key;
+  }
+
+  /**
+   * Checks if the collection contains a given key
+   *
+   * @param key They key to check for
+   * @return <code>true</code> if they key is found, <code>false</code> otherwise
+   */
+  public boolean containsKey(int key) {
+    return partition(key) != null;
+  }
+
+  /**
+   * Gets a given partition by key, if it exists. The outcome is wrapped in a {@link Result} like
+   * {@link Partitioned#tryGet(Object)}, though looking up a primitive key cannot fail.
+   *
+   * @param key The key of the partition to search for
+   * @return A {@link Result} containing the found partition or an empty {@link Option} if not found
+   */
+  public @NotNull Result<Option<Collection<V>>, Throwable> tryGet(int key) {
+    return Result.ok(Option.of(get(key)));
+  }
+
+  /**
+   * Like {@link IntPartitioned#tryGet(int)}, but can return <code>null</code>
+   *
+   * @param key The key of the partition to search for
+   * @return the found partition or <code>null</code> if not found
+   */
+  public Collection<V> get(int key) {
+    return partition(key);
+  }
+
+  /**
+   * Tries to remove a partition from this collection
+   *
+   * @param key The key of the partition to remove
+   * @return a {@link Result} containing an {@link Option} of the removed partition if it was found,
+   *     empty otherwise.
+   */
+  @Contract(mutates = "this")
+  public @NotNull Result<Option<Collection<V>>, Throwable> tryRemove(int key) {
+    return Result.ok(Option.of(removePartition(key)));
+  }
+
+  /**
+   * Gets all the partition keys
+   *
+   * @return A new array with the partition keys, in no particular order
+   */
+  public int @NotNull [] keys() {
+    long[] slotKeys = slotKeys();
+    int[] result = new int[slotKeys.length];
+    for (int i = 0; i < slotKeys.length; i++) {
+      result[i] = (int) slotKeys[i];
+    }
+    return result;
+  }
+
+  /**
+   * Performs an action on each partition and its key, without boxing the keys
+   *
+   * @param action The action to perform, receiving the partition and its key
+   * @throws java.util.ConcurrentModificationException if partitions are added or removed by the
+   *     action
+   */
+  public void forEachPartition(@NotNull ObjIntConsumer<Collection<V>> action) {
+    forEachEntry((partition, key) -> action.accept(partition, (int) key));
+  }
+
+  @Contract("_, _ -> new")
+  public static <V extends Comparable<V>> @NotNull IntPartitioned<V> by(
+      @NotNull ToIntFunction<V> partitioner, Collection<V> values) {
+    return new IntPartitioned<>(partitioner, values);
+  }
+
+  @Contract("_ -> new")
+  public static <V extends Comparable<V>> @NotNull IntPartitioned<V> by(
+      @NotNull ToIntFunction<V> partitioner) {
+    return new IntPartitioned<>(partitioner);
+  }
+
+  @Contract("_, _ -> new")
+  public static <V extends Comparable<V>> @NotNull IntPartitioned<V> by(
+      @NotNull ToIntFunction<V> partitioner, @NotNull PartitionStorage storage) {
+    return new IntPartitioned<>(partitioner, storage, null);
+  }
+}
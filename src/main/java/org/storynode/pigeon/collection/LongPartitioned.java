@@ -0,0 +1,161 @@
+package org.storynode.pigeon.collection;
+
+import java.util.Collection;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToLongFunction;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.storynode.pigeon.option.Option;
+import org.storynode.pigeon.result.Result;
+
+/**
+ * A variant of {@link Partitioned} whose partitioning function returns a <code>long</code>, like a
+ * tenant id or a timestamp bucket. Partitions are kept in an open-addressing table keyed by the
+ * primitive value, so adding values and looking partitions up never boxes the key.
+ *
+ * <p>Only iterating with {@link #iterator()} boxes the keys, to build the {@link
+ * Partitioned.Partition} records; {@link #forEachPartition(ObjLongConsumer)} and {@link #keys()} do
+ * not.
+ *
+ * @param <V> The type of values held in each partition. Values must be {@link Comparable} with each
+ *     other.
+ */
+public class LongPartitioned<V extends Comparable<V>> extends PrimitivePartitioned<Long, V> {
+  private final ToLongFunction<V> partitioner;
+
+  /**
+   * Creates a new {@link LongPartitioned} with the given partitioning function
+   *
+   * @param partitioner The partitioning function to use
+   */
+  public LongPartitioned(@NotNull ToLongFunction<V> partitioner) {
+    this(partitioner, PartitionStorage.TREE, null);
+  }
+
+  /**
+   * Creates a new {@link LongPartitioned} with the given partitioning function and partition some
+   * initial values in it
+   *
+   * @param partitioner The partitioning function
+   * @param values The initial values to partition
+   */
+  public LongPartitioned(@NotNull ToLongFunction<V> partitioner, Collection<V> values) {
+    this(partitioner, PartitionStorage.TREE, values);
+  }
+
+  /**
+   * Creates a new {@link LongPartitioned} with the given partitioning function and partition
+   * storage, and partition some initial values in it
+   *
+   * @param partitioner The partitioning function
+   * @param storage How each partition stores its values
+   * @param values The initial values to partition, or <code>null</code> for none
+   */
+  public LongPartitioned(
+      @NotNull ToLongFunction<V> partitioner,
+      @NotNull PartitionStorage storage,
+      Collection<V> values) {
+    super(storage);
+    this.partitioner = partitioner;
+    if (values != null) {
+      this.addAll(values);
+    }
+  }
+
+  @Override
+  long keyOf(V value) {
+    return partitioner.applyAsLong(value);
+  }
+
+  @Override
+  int hash(long key) {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  @Override
+  Long box(long key) {
+    return key;
+  }
+
+  /**
+   * Checks if the collection contains a given key
+   *
+   * @param key They key to check for
+   * @return <code>true</code> if they key is found, <code>false</code> otherwise
+   */
+  public boolean containsKey(long key) {
+    return partition(key) != null;
+  }
+
+  /**
+   * Gets a given partition by key, if it exists. The outcome is wrapped in a {@link Result} like
+   * {@link Partitioned#tryGet(Object)}, though looking up a primitive key cannot fail.
+   *
+   * @param key The key of the partition to search for
+   * @return A {@link Result} containing the found partition or an empty {@link Option} if not found
+   */
+  public @NotNull Result<Option<Collection<V>>, Throwable> tryGet(long key) {
+    return Result.ok(Option.of(get(key)));
+  }
+
+  /**
+   * Like {@link LongPartitioned#tryGet(long)}, but can return <code>null</code>
+   *
+   * @param key The key of the partition to search for
+   * @return the found partition or <code>null</code> if not found
+   */
+  public Collection<V> get(long key) {
+    return partition(key);
+  }
+
+  /**
+   * Tries to remove a partition from this collection
+   *
+   * @param key The key of the partition to remove
+   * @return a {@link Result} containing an {@link Option} of the removed partition if it was found,
+   *     empty otherwise.
+   */
+  @Contract(mutates = "this")
+  public @NotNull Result<Option<Collection<V>>, Throwable> tryRemove(long key) {
+    return Result.ok(Option.of(removePartition(key)));
+  }
+
+  /**
+   * Gets all the partition keys
+   *
+   * @return A new array with the partition keys, in no particular order
+   */
+  public long @NotNull [] keys() {
+    return slotKeys();
+  }
+
+  /**
+   * Performs an action on each partition and its key, without boxing the keys
+   *
+   * @param action The action to perform, receiving the partition and its key
+   * @throws java.util.ConcurrentModificationException if partitions are added or removed by the
+   *     action
+   */
+  public void forEachPartition(@NotNull ObjLongConsumer<Collection<V>> action) {
+    forEachEntry(action);
+  }
+
+  @Contract("_, _ -> new")
+  public static <V extends Comparable<V>> @NotNull LongPartitioned<V> by(
+      @NotNull ToLongFunction<V> partitioner, Collection<V> values) {
+    return new LongPartitioned<>(partitioner, values);
+  }
+
+  @Contract("_ -> new")
+  public static <V extends Comparable<V>> @NotNull LongPartitioned<V> by(
+      @NotNull ToLongFunction<V> partitioner) {
+    return new LongPartitioned<>(partitioner);
+  }
+
+  @Contract("_, _ -> new")
+  public static <V extends Comparable<V>> @NotNull LongPartitioned<V> by(
+      @NotNull ToLongFunction<V> partitioner, @NotNull PartitionStorage storage) {
+    return new LongPartitioned<>(partitioner, storage, null);
+  }
+}
@@ -0,0 +1,70 @@
+package org.storynode.pigeon.collection;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Merges iterators that are each sorted by the same comparator into a single sorted iteration,
+ * keeping the next element of every source in a heap. Each step costs <code>O(log k)</code> for
+ * <code>k</code> sources, and nothing is copied.
+ *
+ * <p>Elements that compare equal come out in no particular order. The merged iterator does not
+ * support {@link Iterator#remove()}.
+ *
+ * @param <V> The type of the elements
+ */
+final class MergingIterator<V> implements Iterator<V> {
+  private final PriorityQueue<Head<V>> heads;
+
+  /**
+   * Creates an iterator merging <code>sources</code>, taking the first element of each
+   *
+   * @param sources The iterators to merge, each sorted by <code>comparator</code>
+   * @param comparator The order of the sources, and of the merged iteration
+   */
+  MergingIterator(
+      @NotNull Iterable<? extends Iterator<? extends V>> sources,
+      @NotNull Comparator<? super V> comparator) {
+    this.heads = new PriorityQueue<>((left, right) -> comparator.compare(left.value, right.value));
+    for (Iterator<? extends V> source : sources) {
+      if (source.hasNext()) {
+        heads.add(new Head<>(source.next(), source));
+      }
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !heads.isEmpty();
+  }
+
+  @Override
+  public V next() {
+    Head<V> head = heads.poll();
+    if (head == null) {
+      throw new NoSuchElementException();
+    }
+
+    V value = head.value;
+    if (head.source.hasNext()) {
+      // Reuse the polled node instead of allocating a new one for each element
+      head.value = head.source.next();
+      heads.add(head);
+    }
+    return value;
+  }
+
+  /** The next element of a source, already taken from it */
+  private static final class Head<V> {
+    private V value;
+    private final Iterator<? extends V> source;
+
+    private Head(V value, Iterator<? extends V> source) {
+      this.value = value;
+      this.source = source;
+    }
+  }
+}
@@ -0,0 +1,257 @@
+package org.storynode.pigeon.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.stream.Collector;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.storynode.pigeon.tuple.Pair;
+
+/**
+ * A list of {@link Pair}s stored by column: the first and the second elements of the pairs are kept
+ * in two separate arrays, and no {@link Pair} instance is retained. Pairs are built on demand when
+ * read through the {@link java.util.List} interface, while {@link #first(int)} and {@link
+ * #second(int)} read a single column without building one.
+ *
+ * <p>This makes large volumes of pairs cheaper to hold and to scan one column at a time. Pairs
+ * returned by {@link #get(int)} are copies: they do not change when the list does.
+ *
+ * @param <T1> The type of the first element of the pairs
+ * @param <T2> The type of the second element of the pairs
+ */
+public class PairList<T1, T2> extends AbstractList<Pair<T1, T2>> implements RandomAccess {
+  private static final Object[] EMPTY = {};
+
+  private Object[] firsts;
+  private Object[] seconds;
+  private int size;
+
+  /** Creates an empty {@link PairList} */
+  public PairList() {
+    this.firsts = EMPTY;
+    this.seconds = EMPTY;
+  }
+
+  /**
+   * Creates an empty {@link PairList} that can hold <code>initialCapacity</code> pairs before
+   * growing
+   *
+   * @param initialCapacity The number of pairs to allocate room for
+   * @throws java.lang.IllegalArgumentException if <code>initialCapacity</code> is negative
+   */
+  public PairList(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+    }
+    this.firsts = initialCapacity == 0 ? EMPTY : new Object[initialCapacity];
+    this.seconds = initialCapacity == 0 ? EMPTY : new Object[initialCapacity];
+  }
+
+  /**
+   * Creates a {@link PairList} holding the given pairs, in order
+   *
+   * @param pairs The pairs to add
+   */
+  public PairList(@NotNull Collection<? extends Pair<T1, T2>> pairs) {
+    this(pairs.size());
+    addAll(pairs);
+  }
+
+  /**
+   * A {@link Collector} that gathers pairs into a new {@link PairList}
+   *
+   * @param <T1> The type of the first element of the pairs
+   * @param <T2> The type of the second element of the pairs
+   * @return A collector producing a {@link PairList}
+   */
+  @Contract(pure = true)
+  public static <T1, T2> @NotNull Collector<Pair<T1, T2>, ?, PairList<T1, T2>> collector() {
+    return Collector.of(
+        PairList::new,
+        PairList::add,
+        (left, right) -> {
+          left.addAll(right);
+          return left;
+        });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The pair is built on each call from the columns of this list.
+   */
+  @Override
+  public @NotNull Pair<T1, T2> get(int index) {
+    Objects.checkIndex(index, size);
+    return row(index);
+  }
+
+  /**
+   * The first element of the pair at the given position
+   *
+   * @param index The position of the pair
+   * @return The first element of the pair
+   * @throws java.lang.IndexOutOfBoundsException if <code>index</code> is out of range
+   */
+  @SuppressWarnings("unchecked")
+  public T1 first(int index) {
+    Objects.checkIndex(index, size);
+    return (T1) firsts[index];
+  }
+
+  /**
+   * The second element of the pair at the given position
+   *
+   * @param index The position of the pair
+   * @return The second element of the pair
+   * @throws java.lang.IndexOutOfBoundsException if <code>index</code> is out of range
+   */
+  @SuppressWarnings("unchecked")
+  public T2 second(int index) {
+    Objects.checkIndex(index, size);
+    return (T2) seconds[index];
+  }
+
+  /**
+   * Appends a pair to the end of this list, without building a {@link Pair}
+   *
+   * @param first The first element of the pair
+   * @param second The second element of the pair
+   */
+  @Contract(mutates = "this")
+  public void add(T1 first, T2 second) {
+    modCount++;
+    int s = size;
+    if (s == firsts.length) {
+      grow(s + 1);
+    }
+    firsts[s] = first;
+    seconds[s] = second;
+    size = s + 1;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean add(@NotNull Pair<T1, T2> pair) {
+    add(pair.first(), pair.second());
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void add(int index, @NotNull Pair<T1, T2> pair) {
+    Objects.checkIndex(index, size + 1);
+    modCount++;
+    int s = size;
+    if (s == firsts.length) {
+      grow(s + 1);
+    }
+    System.arraycopy(firsts, index, firsts, index + 1, s - index);
+    System.arraycopy(seconds, index, seconds, index + 1, s - index);
+    firsts[index] = pair.first();
+    seconds[index] = pair.second();
+    size = s + 1;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Pair<T1, T2> set(int index, @NotNull Pair<T1, T2> pair) {
+    Objects.checkIndex(index, size);
+    Pair<T1, T2> previous = row(index);
+    firsts[index] = pair.first();
+    seconds[index] = pair.second();
+    return previous;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Pair<T1, T2> remove(int index) {
+    Objects.checkIndex(index, size);
+    modCount++;
+    Pair<T1, T2> previous = row(index);
+    int moved = size - index - 1;
+    System.arraycopy(firsts, index + 1, firsts, index, moved);
+    System.arraycopy(seconds, index + 1, seconds, index, moved);
+    size--;
+    firsts[size] = null;
+    seconds[size] = null;
+    return previous;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void clear() {
+    modCount++;
+    Arrays.fill(firsts, 0, size, null);
+    Arrays.fill(seconds, 0, size, null);
+    size = 0;
+  }
+
+  /**
+   * Sorts the pairs of this list by their first element. The sort is stable: pairs with equal first
+   * elements keep their relative order.
+   *
+   * @param comparator The comparator used to compare first elements
+   */
+  @Contract(mutates = "this")
+  @SuppressWarnings("unchecked")
+  public void sortByFirst(@NotNull Comparator<? super T1> comparator) {
+    applyOrder(
+        Columns.stableOrder(
+            size, (left, right) -> comparator.compare((T1) firsts[left], (T1) firsts[right])));
+  }
+
+  /**
+   * Sorts the pairs of this list by their second element. The sort is stable: pairs with equal
+   * second elements keep their relative order.
+   *
+   * @param comparator The comparator used to compare second elements
+   */
+  @Contract(mutates = "this")
+  @SuppressWarnings("unchecked")
+  public void sortBySecond(@NotNull Comparator<? super T2> comparator) {
+    applyOrder(
+        Columns.stableOrder(
+            size, (left, right) -> comparator.compare((T2) seconds[left], (T2) seconds[right])));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The spliterator is {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, and splits in
+   * halves, so streams over this list parallelize evenly. It is bound to the size of the list when
+   * created and is not fail-fast.
+   */
+  @Override
+  public @NotNull Spliterator<Pair<T1, T2>> spliterator() {
+    return new Columns.RowSpliterator<>(this::row, 0, size);
+  }
+
+  @SuppressWarnings("unchecked")
+  private @NotNull Pair<T1, T2> row(int index) {
+    return new Pair<>((T1) firsts[index], (T2) seconds[index]);
+  }
+
+  private void applyOrder(int @NotNull [] order) {
+    modCount++;
+    firsts = Columns.permute(firsts, order);
+    seconds = Columns.permute(seconds, order);
+  }
+
+  private void grow(int minCapacity) {
+    int capacity = Columns.grow(firsts.length, minCapacity);
+    firsts = Arrays.copyOf(firsts, capacity);
+    seconds = Arrays.copyOf(seconds, capacity);
+  }
+}
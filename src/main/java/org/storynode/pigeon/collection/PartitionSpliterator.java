@@ -0,0 +1,193 @@
+package org.storynode.pigeon.collection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link Spliterator} over the values of a group of partitions, one partition after the other.
+ *
+ * <p>While it covers several partitions it splits between them, at the point that leaves about half
+ * of the values on each side, so that partitions of very different sizes still spread evenly. Once
+ * it is down to a single partition it splits the spliterator of the partition itself, by sub-range
+ * for the sorted storages. Sizes are exact as long as the partition spliterators report exact
+ * sizes.
+ *
+ * <p>Given the order of sorted partitions, a spliterator that is traversed before being split
+ * merges its partitions in that order, so that sequential streams see the values sorted. Once
+ * split, each side goes partition by partition instead.
+ *
+ * @param <V> The type of the values
+ */
+final class PartitionSpliterator<V> implements Spliterator<V> {
+  private final Collection<V>[] partitions;
+
+  /** The partitions in <code>[index, fence)</code> have not been started yet */
+  private int index;
+
+  private final int fence;
+
+  /** Values of the partitions not started yet */
+  private long pendingSize;
+
+  /** The partition being traversed, <code>null</code> between partitions */
+  private Spliterator<V> current;
+
+  private final int characteristics;
+
+  /** The order to merge partitions in, until this is split; <code>null</code> not to merge */
+  private Comparator<? super V> mergeOrder;
+
+  /** The merged partitions, once traversal started in merge order */
+  private Iterator<V> merged;
+
+  /**
+   * Creates a spliterator over <code>partitions[from, to)</code>
+   *
+   * @param partitions A snapshot of the partitions, which are not copied themselves
+   * @param characteristics The characteristics of the values of every partition, added to {@link
+   *     Spliterator#SIZED} and {@link Spliterator#DISTINCT}
+   */
+  PartitionSpliterator(@NotNull Collection<V>[] partitions, int from, int to, int characteristics) {
+    this(partitions, from, to, characteristics, null);
+  }
+
+  /**
+   * Creates a spliterator over <code>partitions[from, to)</code> that, unless it is split first,
+   * traverses them merged in <code>mergeOrder</code>
+   *
+   * @param partitions A snapshot of the partitions, each sorted by <code>mergeOrder</code>
+   * @param characteristics The characteristics of the values of every partition, added to {@link
+   *     Spliterator#SIZED} and {@link Spliterator#DISTINCT}
+   * @param mergeOrder The order of the partitions, or <code>null</code> not to merge them
+   */
+  PartitionSpliterator(
+      @NotNull Collection<V>[] partitions,
+      int from,
+      int to,
+      int characteristics,
+      Comparator<? super V> mergeOrder) {
+    this.mergeOrder = mergeOrder;
+    this.partitions = partitions;
+    this.index = from;
+    this.fence = to;
+    this.characteristics = characteristics | SIZED | DISTINCT;
+    for (int i = from; i < to; i++) {
+      pendingSize += partitions[i].size();
+    }
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super V> action) {
+    if (mergeOrder != null) {
+      if (!merged().hasNext()) {
+        return false;
+      }
+      pendingSize--;
+      action.accept(merged.next());
+      return true;
+    }
+    while (true) {
+      if (current == null) {
+        if (index >= fence) {
+          return false;
+        }
+        start();
+      }
+      if (current.tryAdvance(action)) {
+        return true;
+      }
+      current = null;
+    }
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super V> action) {
+    if (mergeOrder != null) {
+      merged().forEachRemaining(action);
+      pendingSize = 0;
+      return;
+    }
+    if (current != null) {
+      current.forEachRemaining(action);
+      current = null;
+    }
+    for (; index < fence; index++) {
+      partitions[index].forEach(action);
+    }
+    pendingSize = 0;
+  }
+
+  private Iterator<V> merged() {
+    if (merged == null) {
+      List<Iterator<V>> sources = new ArrayList<>(fence - index);
+      for (; index < fence; index++) {
+        sources.add(partitions[index].iterator());
+      }
+      merged = new MergingIterator<>(sources, mergeOrder);
+    }
+    return merged;
+  }
+
+  private void start() {
+    pendingSize -= partitions[index].size();
+    current = partitions[index++].spliterator();
+  }
+
+  @Override
+  public Spliterator<V> trySplit() {
+    if (merged != null) {
+      return null;
+    }
+    mergeOrder = null;
+    int pending = fence - index;
+    if (current == null && pending == 1) {
+      start();
+      pending = 0;
+    }
+
+    if (pending == 0) {
+      return current == null ? null : current.trySplit();
+    }
+    if (pending == 1) {
+      // Hand the last untouched partition over, keep traversing the current one
+      Spliterator<V> rest = new PartitionSpliterator<>(partitions, index, fence, characteristics);
+      index = fence;
+      pendingSize = 0;
+      return rest;
+    }
+
+    // Split the untouched partitions where about half of their values are on each side
+    int mid = index;
+    long prefix = 0;
+    while (mid < fence - 1 && prefix + partitions[mid].size() <= pendingSize / 2) {
+      prefix += partitions[mid++].size();
+    }
+    if (mid == index) {
+      mid++;
+    }
+    Spliterator<V> prefixSpliterator =
+        new PartitionSpliterator<>(partitions, index, mid, characteristics);
+    pendingSize -= prefixSpliterator.estimateSize();
+    index = mid;
+    return prefixSpliterator;
+  }
+
+  @Override
+  public long estimateSize() {
+    return current == null ? pendingSize : pendingSize + current.estimateSize();
+  }
+
+  @Override
+  public int characteristics() {
+    if (current == null || current.hasCharacteristics(SIZED)) {
+      return characteristics;
+    }
+    return characteristics & ~(SIZED | SUBSIZED);
+  }
+}
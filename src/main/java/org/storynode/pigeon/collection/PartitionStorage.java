@@ -0,0 +1,87 @@
+package org.storynode.pigeon.collection;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.TreeSet;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * How each partition of a {@link Partitioned} stores its values. It is chosen once, when creating
+ * the {@link Partitioned}, and applies to all of its partitions.
+ */
+public enum PartitionStorage {
+  /**
+   * A {@link TreeSet}, sorted by the natural ordering of the values. A balanced choice for
+   * partitions that change often. This is the default.
+   */
+  TREE(true) {
+    @Override
+    <V extends Comparable<V>> @NotNull Collection<V> create() {
+      return new TreeSet<>(Comparator.naturalOrder());
+    }
+
+    @Override
+    <V extends Comparable<V>> @NotNull Collection<V> create(@NotNull SortedRun<V> values) {
+      return new TreeSet<>(values);
+    }
+  },
+
+  /**
+   * A flat array sorted by the natural ordering of the values, looked up by binary search. It takes
+   * a fraction of the memory of a tree and iterates faster, but single insertions and removals cost
+   * more, so it suits read-mostly partitions that are loaded in bulk.
+   *
+   * <p>Unlike {@link #TREE}, reading a partition can write to it, as values added one at a time are
+   * merged into the array on the next read. Partitions read by several threads at once need
+   * external synchronization, even when no thread changes them.
+   */
+  SORTED_ARRAY(true) {
+    @Override
+    <V extends Comparable<V>> @NotNull Collection<V> create() {
+      return new SortedArraySet<>();
+    }
+
+    @Override
+    <V extends Comparable<V>> @NotNull Collection<V> create(@NotNull SortedRun<V> values) {
+      return new SortedArraySet<>(values);
+    }
+  },
+
+  /**
+   * A {@link HashSet}, for when the order of the values within a partition does not matter. Values
+   * of each partition, and {@link Partitioned#values()}, are iterated in no particular order.
+   */
+  HASH(false) {
+    @Override
+    <V extends Comparable<V>> @NotNull Collection<V> create() {
+      return new HashSet<>();
+    }
+
+    @Override
+    <V extends Comparable<V>> @NotNull Collection<V> create(@NotNull SortedRun<V> values) {
+      return new HashSet<>(values);
+    }
+  };
+
+  private final boolean sorted;
+
+  PartitionStorage(boolean sorted) {
+    this.sorted = sorted;
+  }
+
+  /**
+   * Whether partitions keep their values sorted by natural ordering
+   *
+   * @return <code>true</code> if values are iterated in their natural order
+   */
+  public boolean isSorted() {
+    return sorted;
+  }
+
+  /** Creates an empty partition */
+  abstract <V extends Comparable<V>> @NotNull Collection<V> create();
+
+  /** Creates a partition holding the values of a run, in linear time where possible */
+  abstract <V extends Comparable<V>> @NotNull Collection<V> create(@NotNull SortedRun<V> values);
+}
@@ -3,8 +3,12 @@ package org.storynode.pigeon.collection;
 import static org.storynode.pigeon.result.Result.err;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.storynode.pigeon.option.Option;
@@ -20,8 +24,28 @@ import org.storynode.pigeon.result.Result;
  */
 public class Partitioned<K, V extends Comparable<V>>
     implements Iterable<Partitioned.Partition<K, V>> {
+  /** Batches smaller than this are added one value at a time */
+  private static final int BULK_THRESHOLD = 64;
+
+  /** Batches at least this large are grouped and sorted in parallel */
+  static final int PARALLEL_THRESHOLD = 1 << 16;
+
   private final Map<K, Collection<V>> partitions;
   private final Function<V, K> partitioner;
+  private final PartitionStorage storage;
+
+  /** The most values a partition holds, {@link Integer#MAX_VALUE} when unbounded */
+  private final int capacity;
+
+  /** What to drop from full partitions, <code>null</code> when unbounded */
+  private final EvictionPolicy eviction;
+
+  private final Consumer<? super V> onEviction;
+
+  /**
+   * Values of each partition by insertion order, only kept for {@link EvictionPolicy#EVICT_OLDEST}
+   */
+  private final Map<K, Deque<V>> arrivals;
 
   /**
    * Creates a new {@link Partitioned} with the given partitioning function
@@ -29,7 +53,7 @@ public class Partitioned<K, V extends Comparable<V>>
    * @param partitioner The partitioning function to use
    */
   public Partitioned(Function<V, K> partitioner) {
-    this(partitioner, null);
+    this(partitioner, PartitionStorage.TREE, null);
   }
 
   /**
@@ -40,8 +64,88 @@ public class Partitioned<K, V extends Comparable<V>>
    * @param values The initial values to partition
    */
   public Partitioned(Function<V, K> partitioner, Collection<V> values) {
+    this(partitioner, PartitionStorage.TREE, values);
+  }
+
+  /**
+   * Creates a new {@link Partitioned} with the given partitioning function and partition storage,
+   * and partition some initial values in it
+   *
+   * @param partitioner The partitioning function
+   * @param storage How each partition stores its values
+   * @param values The initial values to partition, or <code>null</code> for none
+   */
+  public Partitioned(
+      Function<V, K> partitioner, @NotNull PartitionStorage storage, Collection<V> values) {
+    this(partitioner, storage, values, Integer.MAX_VALUE, null, null);
+  }
+
+  /**
+   * Creates a new {@link Partitioned} whose partitions hold at most <code>capacity</code> values
+   * each, and partition some initial values in it. When a value is added to a full partition,
+   * <code>eviction</code> decides which value makes room for it, or whether the new value is
+   * dropped instead.
+   *
+   * <p>The bound is kept by the methods of this class: values added straight into a partition
+   * returned by {@link #get(Object)} are not counted. With {@link EvictionPolicy#EVICT_OLDEST},
+   * values removed straight from such a partition also keep their place in the insertion order: if
+   * one is added again later, it can be evicted as early as it would have been the first time.
+   *
+   * @param partitioner The partitioning function
+   * @param storage How each partition stores its values, which must be sorted for {@link
+   *     EvictionPolicy#KEEP_SMALLEST} and {@link EvictionPolicy#KEEP_LARGEST}
+   * @param capacity The most values a partition can hold, at least 1, or {@link Integer#MAX_VALUE}
+   *     for unbounded partitions
+   * @param eviction Which values to drop from full partitions
+   * @param onEviction Called with each value dropped from a partition to make room for another, or
+   *     <code>null</code>. It is not called for new values that are not added.
+   * @param values The initial values to partition, or <code>null</code> for none
+   * @throws IllegalArgumentException If <code>capacity</code> is less than 1, or if <code>eviction
+   *     </code> needs sorted partitions and <code>storage</code> is not sorted
+   * @throws NullPointerException If <code>eviction</code> is <code>null</code>
+   */
+  public Partitioned(
+      Function<V, K> partitioner,
+      @NotNull PartitionStorage storage,
+      int capacity,
+      @NotNull EvictionPolicy eviction,
+      Consumer<? super V> onEviction,
+      Collection<V> values) {
+    this(
+        partitioner,
+        storage,
+        values,
+        capacity,
+        Objects.requireNonNull(eviction, "eviction cannot be null"),
+        onEviction);
+  }
+
+  /**
+   * Creates a new {@link Partitioned}, with unbounded partitions if <code>eviction</code> is null
+   */
+  private Partitioned(
+      Function<V, K> partitioner,
+      @NotNull PartitionStorage storage,
+      Collection<V> values,
+      int capacity,
+      EvictionPolicy eviction,
+      Consumer<? super V> onEviction) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be at least 1, got " + capacity);
+    }
+    if (eviction != null
+        && capacity != Integer.MAX_VALUE
+        && eviction.isOrdered()
+        && !storage.isSorted()) {
+      throw new IllegalArgumentException(eviction + " needs sorted partitions, not " + storage);
+    }
     this.partitions = new HashMap<>();
     this.partitioner = partitioner;
+    this.storage = storage;
+    this.capacity = capacity;
+    this.eviction = capacity == Integer.MAX_VALUE ? null : eviction;
+    this.onEviction = onEviction == null ? value -> {} : onEviction;
+    this.arrivals = this.eviction == EvictionPolicy.EVICT_OLDEST ? new HashMap<>() : null;
     if (values != null) {
       this.addAll(values);
     }
@@ -57,7 +161,9 @@ public class Partitioned<K, V extends Comparable<V>>
   }
 
   /**
-   * Adds a value to its target partition
+   * Adds a value to its target partition. If this instance is bounded and the partition is full,
+   * its {@link EvictionPolicy} drops a value to make room, reporting it to the eviction callback,
+   * or leaves the new value out.
    *
    * @param value The value to add
    * @return <code>true</code> if this operation modifies the collection, <code>false</code>
@@ -67,33 +173,185 @@ public class Partitioned<K, V extends Comparable<V>>
     K maybePartitionKey = partitioner.apply(value);
     Collection<V> partition = partitions.get(maybePartitionKey);
     if (partition == null) {
-      partition = new TreeSet<>(Comparator.naturalOrder());
+      partition = storage.create();
       partition.add(value);
       partitions.put(maybePartitionKey, partition);
-      return true;
     } else if (partition.contains(value)) {
       return false;
+    } else if (partition.size() >= capacity && !makeRoom(maybePartitionKey, partition, value)) {
+      return false;
     } else {
       partition.add(value);
-      return true;
     }
+    if (arrivals != null) {
+      arrivals.computeIfAbsent(maybePartitionKey, k -> new ArrayDeque<>()).add(value);
+    }
+    return true;
   }
 
   /**
-   * Adds multiple values to their target partitions
+   * Drops a value from a full partition so that <code>value</code> fits in it
+   *
+   * @return <code>false</code> if <code>value</code> is the one to leave out instead
+   */
+  @SuppressWarnings("unchecked")
+  private boolean makeRoom(K key, @NotNull Collection<V> partition, @NotNull V value) {
+    switch (eviction) {
+      case KEEP_SMALLEST -> {
+        V largest = ((SortedSet<V>) partition).last();
+        if (value.compareTo(largest) > 0) {
+          return false;
+        }
+        partition.remove(largest);
+        onEviction.accept(largest);
+      }
+      case KEEP_LARGEST -> {
+        V smallest = ((SortedSet<V>) partition).first();
+        if (value.compareTo(smallest) < 0) {
+          return false;
+        }
+        partition.remove(smallest);
+        onEviction.accept(smallest);
+      }
+      case EVICT_OLDEST -> {
+        Deque<V> order = arrivals.get(key);
+        while (partition.size() >= capacity && !order.isEmpty()) {
+          V oldest = order.poll();
+          if (partition.remove(oldest)) {
+            onEviction.accept(oldest);
+          }
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Drops the values over capacity from a partition, as its {@link EvictionPolicy} says. Only the
+   * values that were in the partition before <code>added</code> are reported as evicted; the others
+   * were never kept, as if {@link #add(Comparable)} had left them out.
+   *
+   * @param added The values just added to the partition, none of which was in it before
+   * @return How many values that were in the partition before were evicted
+   */
+  @SuppressWarnings("unchecked")
+  private int trim(@NotNull Collection<V> partition, @NotNull SortedRun<V> added) {
+    int evicted = 0;
+    SortedSet<V> sorted = (SortedSet<V>) partition;
+    while (sorted.size() > capacity) {
+      V worst = eviction == EvictionPolicy.KEEP_SMALLEST ? sorted.last() : sorted.first();
+      sorted.remove(worst);
+      if (!added.contains(worst)) {
+        onEviction.accept(worst);
+        evicted++;
+      }
+    }
+    return evicted;
+  }
+
+  /**
+   * Adds multiple values to their target partitions.
+   *
+   * <p>Large batches are loaded in bulk: values are first grouped by partition key, each group is
+   * sorted, and partitions that do not exist yet are built from their sorted group in linear time.
+   * Batches of at least {@value #PARALLEL_THRESHOLD} values are grouped and sorted in parallel on
+   * the common {@link java.util.concurrent.ForkJoinPool}, so the partitioning function must be safe
+   * to call from several threads.
+   *
+   * <p>Bounded instances that evict the oldest values add the batch one value at a time, in
+   * iteration order. Those that keep the smallest or largest values load it in bulk too, then drop
+   * the values over capacity.
    *
    * @param values The values to add
    * @return <code>true</code> if this operation modifies the collection, <code>false</code>
    *     otherwise
    */
   public boolean addAll(@NotNull Collection<? extends V> values) {
+    if (values.size() < BULK_THRESHOLD || arrivals != null) {
+      boolean changed = false;
+      for (V v : values) {
+        changed |= add(v);
+      }
+      return changed;
+    }
+
+    boolean parallel = values.size() >= PARALLEL_THRESHOLD;
+    Map<K, List<V>> groups = group(values, parallel);
+    (parallel ? groups.values().parallelStream() : groups.values().stream())
+        .forEach(group -> group.sort(null));
+
     boolean changed = false;
-    for (V v : values) {
-      changed = add(v);
+    for (Map.Entry<K, List<V>> group : groups.entrySet()) {
+      changed |= load(group.getKey(), group.getValue());
     }
     return changed;
   }
 
+  /** Groups values by partition key, allowing the <code>null</code> key like the partitions do */
+  private @NotNull Map<K, List<V>> group(
+      @NotNull Collection<? extends V> values, boolean parallel) {
+    Stream<? extends V> stream = parallel ? values.parallelStream() : values.stream();
+    return stream.collect(
+        Collector.of(
+            HashMap::new,
+            (Map<K, List<V>> groups, V value) ->
+                groups.computeIfAbsent(partitioner.apply(value), k -> new ArrayList<>()).add(value),
+            (left, right) -> {
+              right.forEach(
+                  (key, group) ->
+                      left.merge(
+                          key,
+                          group,
+                          (a, b) -> {
+                            a.addAll(b);
+                            return a;
+                          }));
+              return left;
+            }));
+  }
+
+  /** Adds a sorted group of values to one partition, building it in one go if it is new */
+  @SuppressWarnings("unchecked")
+  private boolean load(K key, @NotNull List<V> sorted) {
+    SortedRun<V> run = SortedRun.ofSorted(sorted);
+    if (eviction != null) {
+      // Values beyond capacity within the batch itself could never be kept
+      run = eviction == EvictionPolicy.KEEP_SMALLEST ? run.head(capacity) : run.tail(capacity);
+    }
+    Collection<V> partition = partitions.get(key);
+    if (partition == null) {
+      partitions.put(key, storage.create(run));
+      return true;
+    }
+
+    if (eviction != null && partition.size() >= capacity) {
+      // Nor could values past the worst one of a full partition
+      SortedSet<V> full = (SortedSet<V>) partition;
+      run =
+          eviction == EvictionPolicy.KEEP_SMALLEST
+              ? run.headSet(full.last())
+              : run.tailSet(full.first());
+    }
+    if (eviction == null) {
+      int before = partition.size();
+      partition.addAll(run);
+      return partition.size() != before;
+    }
+
+    // Leave out the values already there, so that trimming can tell the new ones apart
+    List<V> fresh = new ArrayList<>(run.size());
+    for (V value : run) {
+      if (!partition.contains(value)) {
+        fresh.add(value);
+      }
+    }
+    SortedRun<V> added = SortedRun.ofSorted(fresh);
+    int before = partition.size();
+    partition.addAll(added);
+    int evicted = trim(partition, added);
+    return partition.size() != before || evicted > 0;
+  }
+
   /**
    * Whether this collection is empty or not
    *
@@ -114,13 +372,18 @@ public class Partitioned<K, V extends Comparable<V>>
   }
 
   /**
-   * Checks if any of the partitions contain a given value
+   * Checks if any of the partitions contain a given value, looking only into the partition the
+   * value would belong to
    *
    * @param value They value to check for
    * @return <code>true</code> if the value is found, <code>false</code> otherwise
    */
   public boolean containsValue(V value) {
-    return values().contains(value);
+    if (value == null) {
+      return false;
+    }
+    Collection<V> partition = partitions.get(partitioner.apply(value));
+    return partition != null && partition.contains(value);
   }
 
   /**
@@ -157,7 +420,13 @@ public class Partitioned<K, V extends Comparable<V>>
    */
   @Contract(mutates = "this")
   public @NotNull Result<Option<Collection<V>>, Throwable> tryRemove(K key) {
-    return Result.of(() -> Option.of(partitions.remove(key)));
+    return Result.of(
+        () -> {
+          if (arrivals != null) {
+            arrivals.remove(key);
+          }
+          return Option.of(partitions.remove(key));
+        });
   }
 
   /**
@@ -177,7 +446,13 @@ public class Partitioned<K, V extends Comparable<V>>
         .map(
             maybePartition -> {
               if (maybePartition.isSome()) {
-                return Option.of(maybePartition.unwrap().remove(value) ? value : null);
+                if (!maybePartition.unwrap().remove(value)) {
+                  return Option.none();
+                }
+                if (arrivals != null) {
+                  arrivals.get(partitioner.apply(value)).remove(value);
+                }
+                return Option.some(value);
               } else {
                 return Option.none();
               }
@@ -188,6 +463,9 @@ public class Partitioned<K, V extends Comparable<V>>
   @Contract(mutates = "this")
   public void clear() {
     partitions.clear();
+    if (arrivals != null) {
+      arrivals.clear();
+    }
   }
 
   /**
@@ -199,16 +477,279 @@ public class Partitioned<K, V extends Comparable<V>>
     return partitions.keySet();
   }
 
+  /**
+   * All the values of all the partitions, in their natural order. This is a live, read-only view:
+   * it does not copy the values, and iterating it merges the partitions, which are already sorted,
+   * as it goes. With {@link PartitionStorage#HASH} partitions, values are iterated partition by
+   * partition, in no particular order.
+   *
+   * <p>Sequential streams of the view follow the same order. Parallel streams go through the values
+   * partition by partition instead, so that they can be split: each partition is handed to a
+   * different task, and partitions much larger than the others are split into sub-ranges. Streams
+   * of the view are therefore not {@link Spliterator#ORDERED}.
+   *
+   * @return A view of the values of all partitions
+   */
   public @NotNull Collection<V> values() {
-    return partitions.values().stream()
-        .flatMap(Collection::stream)
-        .collect(TreeSet::new, TreeSet::add, TreeSet::addAll);
+    return new AbstractCollection<>() {
+      @Override
+      public @NotNull Iterator<V> iterator() {
+        if (!storage.isSorted()) {
+          return partitions.values().stream().flatMap(Collection::stream).iterator();
+        }
+        List<Iterator<V>> sources = new ArrayList<>(partitions.size());
+        for (Collection<V> partition : partitions.values()) {
+          sources.add(partition.iterator());
+        }
+        return new MergingIterator<>(sources, Comparator.naturalOrder());
+      }
+
+      /**
+       * Follows the merged order of the iterator until it is split, and splits by partition, see
+       * {@link Partitioned#values()}
+       */
+      @Override
+      public @NotNull Spliterator<V> spliterator() {
+        return valueSpliterator();
+      }
+
+      @Override
+      public int size() {
+        int size = 0;
+        for (Collection<V> partition : partitions.values()) {
+          size += partition.size();
+        }
+        return size;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public boolean contains(Object o) {
+        try {
+          return containsValue((V) o);
+        } catch (ClassCastException e) {
+          return false;
+        }
+      }
+    };
   }
 
+  /**
+   * The partitions of this instance as a live, read-only set view, without copying them
+   *
+   * @return A view of the partitions
+   */
   public @NotNull Set<Partition<K, V>> entrySet() {
-    return partitions.entrySet().stream()
-        .map(e -> new Partition<>(e.getKey(), e.getValue()))
-        .collect(Collectors.toSet());
+    return new AbstractSet<>() {
+      @Override
+      public @NotNull Iterator<Partition<K, V>> iterator() {
+        return Partitioned.this.iterator();
+      }
+
+      @Override
+      public int size() {
+        return partitions.size();
+      }
+
+      @Override
+      public boolean contains(Object o) {
+        if (!(o instanceof Partition<?, ?> partition)) {
+          return false;
+        }
+        Collection<V> values = partitions.get(partition.key());
+        return values != null && values.equals(partition.values());
+      }
+    };
+  }
+
+  /**
+   * The values of a partition that are strictly less than <code>toElement</code>, as a live view of
+   * the partition
+   *
+   * @param key The key of the partition
+   * @param toElement The exclusive upper bound
+   * @return A view of the matching values, or an empty set if there is no such partition
+   * @throws java.lang.UnsupportedOperationException if partitions are not sorted, as with {@link
+   *     PartitionStorage#HASH}
+   */
+  public @NotNull SortedSet<V> headSet(K key, @NotNull V toElement) {
+    return sortedPartition(key).headSet(toElement);
+  }
+
+  /**
+   * The values of a partition that are greater than or equal to <code>fromElement</code>, as a live
+   * view of the partition
+   *
+   * @param key The key of the partition
+   * @param fromElement The inclusive lower bound
+   * @return A view of the matching values, or an empty set if there is no such partition
+   * @throws java.lang.UnsupportedOperationException if partitions are not sorted, as with {@link
+   *     PartitionStorage#HASH}
+   */
+  public @NotNull SortedSet<V> tailSet(K key, @NotNull V fromElement) {
+    return sortedPartition(key).tailSet(fromElement);
+  }
+
+  /**
+   * The values of a partition in <code>[fromElement, toElement)</code>, as a live view of the
+   * partition
+   *
+   * @param key The key of the partition
+   * @param fromElement The inclusive lower bound
+   * @param toElement The exclusive upper bound
+   * @return A view of the matching values, or an empty set if there is no such partition
+   * @throws java.lang.UnsupportedOperationException if partitions are not sorted, as with {@link
+   *     PartitionStorage#HASH}
+   * @throws java.lang.IllegalArgumentException if <code>fromElement</code> is greater than <code>
+   *     toElement</code>
+   */
+  public @NotNull SortedSet<V> subSet(K key, @NotNull V fromElement, @NotNull V toElement) {
+    return sortedPartition(key).subSet(fromElement, toElement);
+  }
+
+  @SuppressWarnings("unchecked")
+  private @NotNull SortedSet<V> sortedPartition(K key) {
+    if (!storage.isSorted()) {
+      throw new UnsupportedOperationException(
+          "Partitions with " + storage + " storage are not sorted");
+    }
+    Collection<V> partition = partitions.get(key);
+    return partition == null ? Collections.emptySortedSet() : (SortedSet<V>) partition;
+  }
+
+  /**
+   * The <code>k</code> smallest values across all partitions. With sorted partitions, only the
+   * first values of each partition are visited, through a heap over the partition heads, in <code>
+   * O(m + k log m)</code> for <code>m</code> partitions.
+   *
+   * @param k How many values to return at most
+   * @return The smallest values, in ascending order
+   * @throws java.lang.IllegalArgumentException if <code>k</code> is negative
+   */
+  public @NotNull List<V> smallest(int k) {
+    return top(k, false);
+  }
+
+  /**
+   * The <code>k</code> largest values across all partitions. With sorted partitions, only the last
+   * values of each partition are visited, through a heap over the partition tails, in <code>
+   * O(m + k log m)</code> for <code>m</code> partitions.
+   *
+   * @param k How many values to return at most
+   * @return The largest values, in descending order
+   * @throws java.lang.IllegalArgumentException if <code>k</code> is negative
+   */
+  public @NotNull List<V> largest(int k) {
+    return top(k, true);
+  }
+
+  private @NotNull List<V> top(int k, boolean largest) {
+    if (k < 0) {
+      throw new IllegalArgumentException("Negative k: " + k);
+    }
+    Comparator<V> order = largest ? Comparator.reverseOrder() : Comparator.naturalOrder();
+    List<V> top = new ArrayList<>(Math.min(k, 1024));
+    if (k == 0) {
+      return top;
+    }
+
+    if (storage.isSorted()) {
+      List<Iterator<V>> sources = new ArrayList<>(partitions.size());
+      for (Collection<V> partition : partitions.values()) {
+        sources.add(largest ? descendingIterator(partition) : partition.iterator());
+      }
+      Iterator<V> merged = new MergingIterator<>(sources, order);
+      while (top.size() < k && merged.hasNext()) {
+        top.add(merged.next());
+      }
+      return top;
+    }
+
+    // Unsorted partitions: keep the best k in a heap whose root is the worst of them
+    PriorityQueue<V> heap = new PriorityQueue<>(order.reversed());
+    for (Collection<V> partition : partitions.values()) {
+      for (V value : partition) {
+        if (heap.size() < k) {
+          heap.add(value);
+        } else if (order.compare(value, heap.peek()) < 0) {
+          heap.poll();
+          heap.add(value);
+        }
+      }
+    }
+    top.addAll(heap);
+    top.sort(order);
+    return top;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> @NotNull Iterator<V> descendingIterator(@NotNull Collection<V> partition) {
+    if (partition instanceof SortedArraySet<V> array) {
+      return array.descendingIterator();
+    }
+    return ((NavigableSet<V>) partition).descendingIterator();
+  }
+
+  /**
+   * The values in <code>[fromElement, toElement)</code> across all partitions, in their natural
+   * order, as a live, read-only view. With sorted partitions, iterating it merges the matching
+   * range of each partition without visiting the other values.
+   *
+   * @param fromElement The inclusive lower bound
+   * @param toElement The exclusive upper bound
+   * @return A view of the values in range
+   * @throws java.lang.IllegalArgumentException if <code>fromElement</code> is greater than <code>
+   *     toElement</code>
+   */
+  public @NotNull Collection<V> range(@NotNull V fromElement, @NotNull V toElement) {
+    if (fromElement.compareTo(toElement) > 0) {
+      throw new IllegalArgumentException("fromElement > toElement");
+    }
+
+    Predicate<V> inRange = v -> v.compareTo(fromElement) >= 0 && v.compareTo(toElement) < 0;
+    return new AbstractCollection<>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public @NotNull Iterator<V> iterator() {
+        if (!storage.isSorted()) {
+          return partitions.values().stream()
+              .flatMap(Collection::stream)
+              .filter(inRange)
+              .sorted()
+              .iterator();
+        }
+        List<Iterator<V>> sources = new ArrayList<>(partitions.size());
+        for (Collection<V> partition : partitions.values()) {
+          sources.add(((SortedSet<V>) partition).subSet(fromElement, toElement).iterator());
+        }
+        return new MergingIterator<>(sources, Comparator.naturalOrder());
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public int size() {
+        if (!storage.isSorted()) {
+          return (int)
+              partitions.values().stream().flatMap(Collection::stream).filter(inRange).count();
+        }
+        int size = 0;
+        for (Collection<V> partition : partitions.values()) {
+          size += ((SortedSet<V>) partition).subSet(fromElement, toElement).size();
+        }
+        return size;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public boolean contains(Object o) {
+        try {
+          V value = (V) o;
+          return value != null && inRange.test(value) && containsValue(value);
+        } catch (ClassCastException e) {
+          return false;
+        }
+      }
+    };
   }
 
   /**
@@ -221,6 +762,54 @@ public class Partitioned<K, V extends Comparable<V>>
     return containsValue(value);
   }
 
+  /**
+   * A sequential stream of the partitions of this instance
+   *
+   * @return A stream of the partitions
+   */
+  public @NotNull Stream<Partition<K, V>> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * A parallel stream of the partitions of this instance, for work done on each partition
+   *
+   * @return A parallel stream of the partitions
+   */
+  public @NotNull Stream<Partition<K, V>> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  /**
+   * A spliterator over a snapshot of the partitions of this instance, splitting evenly and
+   * reporting exact sizes. The partitions themselves are not copied.
+   *
+   * @return A sized spliterator over the partitions
+   */
+  @Override
+  public @NotNull Spliterator<Partition<K, V>> spliterator() {
+    Object[] records = new Object[partitions.size()];
+    int i = 0;
+    for (Map.Entry<K, Collection<V>> entry : partitions.entrySet()) {
+      records[i++] = new Partition<>(entry.getKey(), entry.getValue());
+    }
+    return Spliterators.spliterator(
+        records,
+        Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.DISTINCT | Spliterator.NONNULL);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private @NotNull Spliterator<V> valueSpliterator() {
+    Collection<V>[] snapshot = partitions.values().toArray(new Collection[0]);
+    int characteristics = storage == PartitionStorage.SORTED_ARRAY ? Spliterator.SUBSIZED : 0;
+    return new PartitionSpliterator<>(
+        snapshot,
+        0,
+        snapshot.length,
+        characteristics,
+        storage.isSorted() ? Comparator.naturalOrder() : null);
+  }
+
   /**
    * Iterates over the partitions of this instance
    *
@@ -240,7 +829,106 @@ public class Partitioned<K, V extends Comparable<V>>
   @Contract("_ -> new")
   public static <K, V extends Comparable<V>> @NotNull Partitioned<K, V> by(
       Function<V, K> partitioner) {
-    return by(partitioner, null);
+    return new Partitioned<>(partitioner);
+  }
+
+  /**
+   * Creates a new {@link Partitioned} storing its partitions as <code>storage</code> says
+   *
+   * @param partitioner The partitioning function
+   * @param storage How each partition stores its values
+   * @param values The initial values to partition
+   * @param <K> The type of key returned by the partitioning function
+   * @param <V> The type of values
+   * @return A new {@link Partitioned}
+   */
+  @Contract("_, _, _ -> new")
+  public static <K, V extends Comparable<V>> @NotNull Partitioned<K, V> by(
+      Function<V, K> partitioner, @NotNull PartitionStorage storage, Collection<V> values) {
+    return new Partitioned<>(partitioner, storage, values);
+  }
+
+  /**
+   * Creates a new, empty {@link Partitioned} storing its partitions as <code>storage</code> says
+   *
+   * @param partitioner The partitioning function
+   * @param storage How each partition stores its values
+   * @param <K> The type of key returned by the partitioning function
+   * @param <V> The type of values
+   * @return A new {@link Partitioned}
+   */
+  @Contract("_, _ -> new")
+  public static <K, V extends Comparable<V>> @NotNull Partitioned<K, V> by(
+      Function<V, K> partitioner, @NotNull PartitionStorage storage) {
+    return by(partitioner, storage, null);
+  }
+
+  /**
+   * How the partitions of this instance store their values
+   *
+   * @return The partition storage
+   */
+  public @NotNull PartitionStorage storage() {
+    return storage;
+  }
+
+  /**
+   * Creates a new, empty {@link Partitioned} with tree partitions holding at most <code>capacity
+   * </code> values each, see {@link #Partitioned(Function, PartitionStorage, int, EvictionPolicy,
+   * Consumer, Collection)}
+   *
+   * @param partitioner The partitioning function
+   * @param capacity The most values a partition can hold
+   * @param eviction Which values to drop from full partitions
+   * @param <K> The type of key returned by the partitioning function
+   * @param <V> The type of values
+   * @return A new bounded {@link Partitioned}
+   */
+  @Contract("_, _, _ -> new")
+  public static <K, V extends Comparable<V>> @NotNull Partitioned<K, V> bounded(
+      Function<V, K> partitioner, int capacity, @NotNull EvictionPolicy eviction) {
+    return bounded(partitioner, capacity, eviction, null);
+  }
+
+  /**
+   * Creates a new, empty {@link Partitioned} with tree partitions holding at most <code>capacity
+   * </code> values each, reporting dropped values to <code>onEviction</code>, see {@link
+   * #Partitioned(Function, PartitionStorage, int, EvictionPolicy, Consumer, Collection)}
+   *
+   * @param partitioner The partitioning function
+   * @param capacity The most values a partition can hold
+   * @param eviction Which values to drop from full partitions
+   * @param onEviction Called with each value dropped to make room for another
+   * @param <K> The type of key returned by the partitioning function
+   * @param <V> The type of values
+   * @return A new bounded {@link Partitioned}
+   */
+  @Contract("_, _, _, _ -> new")
+  public static <K, V extends Comparable<V>> @NotNull Partitioned<K, V> bounded(
+      Function<V, K> partitioner,
+      int capacity,
+      @NotNull EvictionPolicy eviction,
+      Consumer<? super V> onEviction) {
+    return new Partitioned<>(
+        partitioner, PartitionStorage.TREE, capacity, eviction, onEviction, null);
+  }
+
+  /**
+   * The most values each partition of this instance holds
+   *
+   * @return The capacity of a partition, {@link Integer#MAX_VALUE} if unbounded
+   */
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Which values this instance drops from full partitions
+   *
+   * @return The eviction policy, or nothing if partitions are unbounded
+   */
+  public @NotNull Option<EvictionPolicy> eviction() {
+    return Option.of(eviction);
   }
 
   public record Partition<K, V>(K key, Collection<V> values) {}
@@ -0,0 +1,371 @@
+package org.storynode.pigeon.collection;
+
+import static org.storynode.pigeon.result.Result.err;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.ObjLongConsumer;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.storynode.pigeon.option.Option;
+import org.storynode.pigeon.result.Result;
+
+/**
+ * The open-addressing table behind {@link IntPartitioned} and {@link LongPartitioned}. Keys are
+ * stored widened to <code>long</code>; each subclass tells how to get the key of a value, how to
+ * hash it and how to box it.
+ *
+ * <p>The table uses linear probing and grows by doubling once it is three quarters full. Removing a
+ * partition shifts the following entries back instead of leaving a tombstone, so lookups stay short
+ * after many removals.
+ *
+ * @param <K> The boxed type of the keys, used by {@link #iterator()}
+ * @param <V> The type of values held in each partition
+ */
+abstract class PrimitivePartitioned<K, V extends Comparable<V>>
+    implements Iterable<Partitioned.Partition<K, V>> {
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private final PartitionStorage storage;
+
+  private long[] keys;
+
+  /** Partitions by slot, <code>null</code> for free slots */
+  private Collection<V>[] partitions;
+
+  private int size;
+  private int modCount;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  PrimitivePartitioned(@NotNull PartitionStorage storage) {
+    this.storage = storage;
+    this.keys = new long[DEFAULT_CAPACITY];
+    this.partitions = new Collection[DEFAULT_CAPACITY];
+  }
+
+  /** The key of the partition a value belongs to, widened to <code>long</code> */
+  abstract long keyOf(V value);
+
+  /** Spreads the bits of a key, so that keys in a sequence do not end up in adjacent slots */
+  abstract int hash(long key);
+
+  /** Boxes a key, narrowing it back to its own type first */
+  abstract K box(long key);
+
+  /**
+   * The number of partitions included in this instance
+   *
+   * @return The number of partitions
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Whether this collection is empty or not
+   *
+   * @return <code>true</code> if the collection is empty, <code>false</code> otherwise
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Adds a value to its target partition
+   *
+   * @param value The value to add
+   * @return <code>true</code> if this operation modifies the collection, <code>false</code>
+   *     otherwise
+   */
+  public boolean add(V value) {
+    long key = keyOf(value);
+    int slot = find(key);
+    if (slot >= 0) {
+      return partitions[slot].add(value);
+    }
+
+    Collection<V> partition = storage.create();
+    partition.add(value);
+    insert(key, partition);
+    return true;
+  }
+
+  /**
+   * Adds multiple values to their target partitions
+   *
+   * @param values The values to add
+   * @return <code>true</code> if this operation modifies the collection, <code>false</code>
+   *     otherwise
+   */
+  public boolean addAll(@NotNull Collection<? extends V> values) {
+    boolean changed = false;
+    for (V v : values) {
+      changed |= add(v);
+    }
+    return changed;
+  }
+
+  /**
+   * Checks if any of the partitions contain a given value, looking only into the partition the
+   * value would belong to
+   *
+   * @param value They value to check for
+   * @return <code>true</code> if the value is found, <code>false</code> otherwise
+   */
+  public boolean containsValue(V value) {
+    if (value == null) {
+      return false;
+    }
+    Collection<V> partition = partition(keyOf(value));
+    return partition != null && partition.contains(value);
+  }
+
+  /**
+   * Alias for {@link #containsValue}
+   *
+   * @param value The value to check for
+   * @return <code>true</code> if the value is found, <code>false</code> otherwise
+   */
+  public boolean contains(V value) {
+    return containsValue(value);
+  }
+
+  /**
+   * Tries to remove a value from the partition that contains it
+   *
+   * @param value The value to remove
+   * @return a {@link Result} containing an {@link Option} of the removed value if it was found,
+   *     empty otherwise.
+   */
+  @Contract(mutates = "this")
+  public @NotNull Result<Option<V>, Throwable> tryRemoveValue(V value) {
+    if (value == null) {
+      return err(new NullPointerException("value cannot be null"));
+    }
+
+    return Result.of(
+        () -> {
+          Collection<V> partition = partition(keyOf(value));
+          return Option.of(partition != null && partition.remove(value) ? value : null);
+        });
+  }
+
+  /** Deletes all partitions */
+  @Contract(mutates = "this")
+  public void clear() {
+    Arrays.fill(partitions, null);
+    size = 0;
+    modCount++;
+  }
+
+  /**
+   * All the values of all the partitions, as a live, read-only view, like {@link
+   * Partitioned#values()}
+   *
+   * @return A view of the values of all partitions
+   */
+  public @NotNull Collection<V> values() {
+    return new AbstractCollection<>() {
+      @Override
+      public @NotNull Iterator<V> iterator() {
+        List<Collection<V>> all = new ArrayList<>(size);
+        forEachEntry((partition, key) -> all.add(partition));
+        if (!storage.isSorted()) {
+          return all.stream().flatMap(Collection::stream).iterator();
+        }
+        List<Iterator<V>> sources = new ArrayList<>(all.size());
+        for (Collection<V> partition : all) {
+          sources.add(partition.iterator());
+        }
+        return new MergingIterator<>(sources, Comparator.naturalOrder());
+      }
+
+      @Override
+      public int size() {
+        int[] size = {0};
+        forEachEntry((partition, key) -> size[0] += partition.size());
+        return size[0];
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public boolean contains(Object o) {
+        try {
+          return containsValue((V) o);
+        } catch (ClassCastException e) {
+          return false;
+        }
+      }
+    };
+  }
+
+  /**
+   * Iterates over the partitions of this instance, boxing their keys
+   *
+   * @return An iterator on the partitions of this instance
+   */
+  @Override
+  public @NotNull Iterator<Partitioned.Partition<K, V>> iterator() {
+    return new Iterator<>() {
+      private int slot = advance(0);
+      private final int expectedModCount = modCount;
+
+      private int advance(int from) {
+        while (from < partitions.length && partitions[from] == null) {
+          from++;
+        }
+        return from;
+      }
+
+      @Override
+      public boolean hasNext() {
+        return slot < partitions.length;
+      }
+
+      @Override
+      public Partitioned.Partition<K, V> next() {
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+        if (slot >= partitions.length) {
+          throw new NoSuchElementException();
+        }
+        Partitioned.Partition<K, V> partition =
+            new Partitioned.Partition<>(box(keys[slot]), partitions[slot]);
+        slot = advance(slot + 1);
+        return partition;
+      }
+    };
+  }
+
+  /**
+   * How the partitions of this instance store their values
+   *
+   * @return The partition storage
+   */
+  public @NotNull PartitionStorage storage() {
+    return storage;
+  }
+
+  /** The partition of a key, or <code>null</code> */
+  Collection<V> partition(long key) {
+    int slot = find(key);
+    return slot >= 0 ? partitions[slot] : null;
+  }
+
+  /** Removes the partition of a key, returning it or <code>null</code> */
+  Collection<V> removePartition(long key) {
+    int slot = find(key);
+    if (slot < 0) {
+      return null;
+    }
+    Collection<V> removed = partitions[slot];
+    removeAt(slot);
+    return removed;
+  }
+
+  /** The keys of all partitions, in slot order */
+  long @NotNull [] slotKeys() {
+    long[] result = new long[size];
+    for (int slot = 0, i = 0; slot < partitions.length; slot++) {
+      if (partitions[slot] != null) {
+        result[i++] = keys[slot];
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Performs an action on each partition and its key, in slot order
+   *
+   * @throws java.util.ConcurrentModificationException if partitions are added or removed by the
+   *     action
+   */
+  void forEachEntry(@NotNull ObjLongConsumer<Collection<V>> action) {
+    int expectedModCount = modCount;
+    for (int slot = 0; slot < partitions.length; slot++) {
+      if (partitions[slot] != null) {
+        action.accept(partitions[slot], keys[slot]);
+        if (modCount != expectedModCount) {
+          throw new ConcurrentModificationException();
+        }
+      }
+    }
+  }
+
+  private int home(long key) {
+    return hash(key) & (partitions.length - 1);
+  }
+
+  /** The slot holding <code>key</code>, or -1 */
+  private int find(long key) {
+    int mask = partitions.length - 1;
+    for (int slot = home(key); partitions[slot] != null; slot = (slot + 1) & mask) {
+      if (keys[slot] == key) {
+        return slot;
+      }
+    }
+    return -1;
+  }
+
+  /** Inserts a key known to be absent */
+  private void insert(long key, Collection<V> partition) {
+    if (size + 1 > partitions.length - (partitions.length >> 2)) {
+      resize(partitions.length << 1);
+    }
+    int mask = partitions.length - 1;
+    int slot = home(key);
+    while (partitions[slot] != null) {
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = key;
+    partitions[slot] = partition;
+    size++;
+    modCount++;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void resize(int capacity) {
+    long[] oldKeys = keys;
+    Collection<V>[] oldPartitions = partitions;
+    keys = new long[capacity];
+    partitions = new Collection[capacity];
+    int mask = capacity - 1;
+    for (int i = 0; i < oldPartitions.length; i++) {
+      if (oldPartitions[i] != null) {
+        int slot = home(oldKeys[i]);
+        while (partitions[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = oldKeys[i];
+        partitions[slot] = oldPartitions[i];
+      }
+    }
+  }
+
+  /** Frees a slot, moving back the entries that probed past it */
+  private void removeAt(int slot) {
+    int mask = partitions.length - 1;
+    int free = slot;
+    for (int next = (free + 1) & mask; partitions[next] != null; next = (next + 1) & mask) {
+      int home = home(keys[next]);
+      // The entry can move to the free slot only if its home is not in (free, next]
+      boolean reachable = free <= next ? free < home && home <= next : free < home || home <= next;
+      if (!reachable) {
+        keys[free] = keys[next];
+        partitions[free] = partitions[next];
+        free = next;
+      }
+    }
+    partitions[free] = null;
+    size--;
+    modCount++;
+  }
+}
@@ -0,0 +1,485 @@
+package org.storynode.pigeon.collection;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A set of values kept sorted by their natural ordering in a flat array, looked up by binary
+ * search. It takes a reference per value instead of a tree node, and iterates over contiguous
+ * memory, which makes it a good fit for read-mostly partitions.
+ *
+ * <p>Values added one at a time are collected in a small sorted buffer and merged into the array in
+ * batches, once the buffer grows past about the square root of the size of the set, or before the
+ * set is iterated. Adding a {@link SortedRun} merges it in a single linear pass. Removals shift the
+ * array and cost <code>O(n)</code>.
+ *
+ * <p>{@link #headSet(Object)}, {@link #tailSet(Object)} and {@link #subSet(Object, Object)} return
+ * live views, like those of a {@link java.util.TreeSet}.
+ *
+ * <p>Values must not be <code>null</code>. This set is not thread safe and its iterators are
+ * fail-fast. Unlike a {@link java.util.TreeSet}, reading it can write to it too: iterating, or
+ * getting the first, last or range values, first merges any pending value into the array. Threads
+ * that only read the set still need external synchronization, unless no value was added one at a
+ * time since it was last read or bulk loaded, leaving nothing to merge.
+ *
+ * @param <V> The type of the values
+ */
+final class SortedArraySet<V> extends AbstractSet<V> implements SortedSet<V> {
+  private static final int MIN_PENDING_CAPACITY = 32;
+
+  private Object[] elements;
+  private int size;
+
+  /** Values not merged yet, sorted and not present in <code>elements</code> */
+  private Object[] pending;
+
+  private int pendingSize;
+  private int modCount;
+
+  SortedArraySet() {
+    this.elements = new Object[0];
+    this.pending = new Object[MIN_PENDING_CAPACITY];
+  }
+
+  /**
+   * Creates a set holding the values of a run, sharing nothing with it
+   *
+   * @param run The initial values
+   */
+  SortedArraySet(@NotNull SortedRun<V> run) {
+    this.elements = run.toArray();
+    this.size = elements.length;
+    this.pending = new Object[pendingCapacity()];
+  }
+
+  @Override
+  public int size() {
+    return size + pendingSize;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return o != null
+        && (Arrays.binarySearch(elements, 0, size, o) >= 0
+            || Arrays.binarySearch(pending, 0, pendingSize, o) >= 0);
+  }
+
+  @Override
+  public boolean add(@NotNull V value) {
+    if (Arrays.binarySearch(elements, 0, size, value) >= 0) {
+      return false;
+    }
+    int index = Arrays.binarySearch(pending, 0, pendingSize, value);
+    if (index >= 0) {
+      return false;
+    }
+
+    if (pendingSize == pending.length) {
+      merge();
+      return add(value);
+    }
+    index = -index - 1;
+    System.arraycopy(pending, index, pending, index + 1, pendingSize - index);
+    pending[index] = value;
+    pendingSize++;
+    modCount++;
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>A {@link SortedRun} is merged with the values of the set in a single pass.
+   */
+  @Override
+  public boolean addAll(@NotNull Collection<? extends V> values) {
+    if (!(values instanceof SortedRun<?>)) {
+      return super.addAll(values);
+    }
+
+    merge();
+    int before = size;
+    elements = mergeSorted(elements, size, values.toArray(), values.size());
+    size = elements.length;
+    growPending();
+    modCount++;
+    return size != before;
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    if (o == null) {
+      return false;
+    }
+    int index = Arrays.binarySearch(pending, 0, pendingSize, o);
+    if (index >= 0) {
+      System.arraycopy(pending, index + 1, pending, index, --pendingSize - index);
+      pending[pendingSize] = null;
+      modCount++;
+      return true;
+    }
+    index = Arrays.binarySearch(elements, 0, size, o);
+    if (index < 0) {
+      return false;
+    }
+    removeAt(index);
+    return true;
+  }
+
+  private void removeAt(int index) {
+    System.arraycopy(elements, index + 1, elements, index, --size - index);
+    elements[size] = null;
+    modCount++;
+  }
+
+  @Override
+  public void clear() {
+    elements = new Object[0];
+    size = 0;
+    Arrays.fill(pending, 0, pendingSize, null);
+    pendingSize = 0;
+    modCount++;
+  }
+
+  /** {@inheritDoc} The values are iterated in their natural order. */
+  @Override
+  public @NotNull Iterator<V> iterator() {
+    merge();
+    return new Ascending(0, size);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>It splits the array in halves and reports exact sizes. It is not fail-fast: the set must not
+   * change while it is traversed.
+   */
+  @Override
+  public @NotNull Spliterator<V> spliterator() {
+    merge();
+    return Spliterators.spliterator(
+        elements,
+        0,
+        size,
+        Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.ORDERED | Spliterator.NONNULL);
+  }
+
+  /**
+   * Iterates over the values in reverse natural order
+   *
+   * @return An iterator from the largest value to the smallest
+   */
+  @NotNull
+  Iterator<V> descendingIterator() {
+    merge();
+    return new Descending(0, size);
+  }
+
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public Comparator<? super V> comparator() {
+    return (Comparator) Comparator.naturalOrder();
+  }
+
+  @Override
+  public V first() {
+    return new Range(null, null).first();
+  }
+
+  @Override
+  public V last() {
+    return new Range(null, null).last();
+  }
+
+  @Override
+  public @NotNull SortedSet<V> headSet(V toElement) {
+    return new Range(null, Objects.requireNonNull(toElement));
+  }
+
+  @Override
+  public @NotNull SortedSet<V> tailSet(V fromElement) {
+    return new Range(Objects.requireNonNull(fromElement), null);
+  }
+
+  @Override
+  public @NotNull SortedSet<V> subSet(V fromElement, V toElement) {
+    if (compare(fromElement, toElement) > 0) {
+      throw new IllegalArgumentException("fromElement > toElement");
+    }
+    return new Range(fromElement, toElement);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static int compare(Object left, Object right) {
+    return ((Comparable) left).compareTo(right);
+  }
+
+  /** Index of the first merged value not less than <code>value</code> */
+  private int lowerBound(Object value) {
+    int index = Arrays.binarySearch(elements, 0, size, value);
+    return index >= 0 ? index : -index - 1;
+  }
+
+  /** Iterates over the merged values in <code>[from, to)</code>, supporting removal */
+  private class Ascending implements Iterator<V> {
+    private int index;
+    private int to;
+    private int last = -1;
+    private int expectedModCount = modCount;
+
+    private Ascending(int from, int to) {
+      this.index = from;
+      this.to = to;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index < to;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V next() {
+      checkForComodification(expectedModCount);
+      if (index >= to) {
+        throw new NoSuchElementException();
+      }
+      last = index++;
+      return (V) elements[last];
+    }
+
+    @Override
+    public void remove() {
+      if (last < 0) {
+        throw new IllegalStateException();
+      }
+      checkForComodification(expectedModCount);
+      removeAt(last);
+      index = last;
+      to--;
+      last = -1;
+      expectedModCount = modCount;
+    }
+  }
+
+  /** Iterates over the merged values in <code>[from, to)</code> backwards, supporting removal */
+  private class Descending implements Iterator<V> {
+    private final int from;
+    private int index;
+    private int last = -1;
+    private int expectedModCount = modCount;
+
+    private Descending(int from, int to) {
+      this.from = from;
+      this.index = to - 1;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index >= from;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V next() {
+      checkForComodification(expectedModCount);
+      if (index < from) {
+        throw new NoSuchElementException();
+      }
+      last = index--;
+      return (V) elements[last];
+    }
+
+    @Override
+    public void remove() {
+      if (last < 0) {
+        throw new IllegalStateException();
+      }
+      checkForComodification(expectedModCount);
+      removeAt(last);
+      last = -1;
+      expectedModCount = modCount;
+    }
+  }
+
+  private void checkForComodification(int expectedModCount) {
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * A live view of the values in <code>[low, high)</code>, where a <code>null</code> bound is
+   * unbounded. Its position in the array is looked up again on each access, so it reflects any
+   * change to the set.
+   */
+  private final class Range extends AbstractSet<V> implements SortedSet<V> {
+    private final V low;
+    private final V high;
+
+    private Range(V low, V high) {
+      this.low = low;
+      this.high = high;
+    }
+
+    private boolean inRange(Object value) {
+      return (low == null || compare(value, low) >= 0)
+          && (high == null || compare(value, high) < 0);
+    }
+
+    private int from() {
+      return low == null ? 0 : lowerBound(low);
+    }
+
+    private int to() {
+      return high == null ? size : Math.max(from(), lowerBound(high));
+    }
+
+    @Override
+    public @NotNull Iterator<V> iterator() {
+      merge();
+      return new Ascending(from(), to());
+    }
+
+    @Override
+    public int size() {
+      merge();
+      return to() - from();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return o != null && inRange(o) && SortedArraySet.this.contains(o);
+    }
+
+    @Override
+    public boolean add(V value) {
+      if (!inRange(value)) {
+        throw new IllegalArgumentException("Value out of range: " + value);
+      }
+      return SortedArraySet.this.add(value);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      return o != null && inRange(o) && SortedArraySet.this.remove(o);
+    }
+
+    @Override
+    public Comparator<? super V> comparator() {
+      return SortedArraySet.this.comparator();
+    }
+
+    @Override
+    public @NotNull SortedSet<V> subSet(V fromElement, V toElement) {
+      if (compare(fromElement, toElement) > 0) {
+        throw new IllegalArgumentException("fromElement > toElement");
+      }
+      return new Range(max(low, fromElement), min(high, toElement));
+    }
+
+    @Override
+    public @NotNull SortedSet<V> headSet(V toElement) {
+      return new Range(low, min(high, Objects.requireNonNull(toElement)));
+    }
+
+    @Override
+    public @NotNull SortedSet<V> tailSet(V fromElement) {
+      return new Range(max(low, Objects.requireNonNull(fromElement)), high);
+    }
+
+    /** The tighter of two lower bounds, <code>null</code> being unbounded */
+    private V max(V bound, V other) {
+      return bound == null || compare(other, bound) > 0 ? other : bound;
+    }
+
+    /** The tighter of two upper bounds, <code>null</code> being unbounded */
+    private V min(V bound, V other) {
+      return bound == null || compare(other, bound) < 0 ? other : bound;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V first() {
+      merge();
+      int from = from();
+      if (from >= to()) {
+        throw new NoSuchElementException();
+      }
+      return (V) elements[from];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V last() {
+      merge();
+      int to = to();
+      if (to <= from()) {
+        throw new NoSuchElementException();
+      }
+      return (V) elements[to - 1];
+    }
+  }
+
+  /**
+   * Merges the pending values into the array, sizing the buffer for the next batch. Does not write
+   * anything when no value is pending.
+   */
+  private void merge() {
+    if (pendingSize == 0) {
+      return;
+    }
+    elements = mergeSorted(elements, size, pending, pendingSize);
+    size = elements.length;
+    Arrays.fill(pending, 0, pendingSize, null);
+    pendingSize = 0;
+    growPending();
+  }
+
+  /** How many values to buffer before merging them, about the square root of the size */
+  private int pendingCapacity() {
+    return Math.max(MIN_PENDING_CAPACITY, (int) Math.sqrt(size));
+  }
+
+  /** Grows the empty pending buffer to fit the current size of the set */
+  private void growPending() {
+    int capacity = pendingCapacity();
+    if (capacity > pending.length) {
+      pending = new Object[capacity];
+    }
+  }
+
+  /** Merges two sorted ranges into a new array, keeping one copy of the values in both */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Object @NotNull [] mergeSorted(
+      Object @NotNull [] left, int leftSize, Object @NotNull [] right, int rightSize) {
+    Object[] merged = new Object[leftSize + rightSize];
+    int i = 0, j = 0, k = 0;
+    while (i < leftSize && j < rightSize) {
+      int c = ((Comparable) left[i]).compareTo(right[j]);
+      if (c < 0) {
+        merged[k++] = left[i++];
+      } else if (c > 0) {
+        merged[k++] = right[j++];
+      } else {
+        merged[k++] = left[i++];
+        j++;
+      }
+    }
+    System.arraycopy(left, i, merged, k, leftSize - i);
+    k += leftSize - i;
+    System.arraycopy(right, j, merged, k, rightSize - j);
+    k += rightSize - j;
+    return k == merged.length ? merged : Arrays.copyOf(merged, k);
+  }
+}
@@ -0,0 +1,154 @@
+package org.storynode.pigeon.collection;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A read-only {@link SortedSet} over a range of an array already sorted by the natural ordering of
+ * its elements, without duplicates.
+ *
+ * <p>Its {@link #comparator()} is {@link Comparator#naturalOrder()}, so sets using that same
+ * comparator, like the {@link java.util.TreeSet} partitions of {@link Partitioned}, recognize it as
+ * sorted and build themselves from it in linear time instead of inserting one element at a time.
+ *
+ * @param <V> The type of the elements
+ */
+final class SortedRun<V> extends AbstractSet<V> implements SortedSet<V> {
+  private final Object[] elements;
+  private final int from;
+  private final int to;
+
+  private SortedRun(Object[] elements, int from, int to) {
+    this.elements = elements;
+    this.from = from;
+    this.to = to;
+  }
+
+  /**
+   * Creates a run from a list sorted by natural ordering, dropping the elements equal to the one
+   * before them
+   *
+   * @param sorted The sorted elements
+   * @param <V> The type of the elements
+   * @return A run of the distinct elements of <code>sorted</code>
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  static <V> @NotNull SortedRun<V> ofSorted(@NotNull List<? extends V> sorted) {
+    Object[] elements = sorted.toArray();
+    int size = 0;
+    for (int i = 0; i < elements.length; i++) {
+      if (size == 0 || ((Comparable) elements[size - 1]).compareTo(elements[i]) != 0) {
+        elements[size++] = elements[i];
+      }
+    }
+    return new SortedRun<>(elements, 0, size);
+  }
+
+  @Override
+  public int size() {
+    return to - from;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return o != null && Arrays.binarySearch(elements, from, to, o) >= 0;
+  }
+
+  @Override
+  public @NotNull Iterator<V> iterator() {
+    return new Iterator<>() {
+      private int index = from;
+
+      @Override
+      public boolean hasNext() {
+        return index < to;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public V next() {
+        if (index >= to) {
+          throw new NoSuchElementException();
+        }
+        return (V) elements[index++];
+      }
+    };
+  }
+
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public Comparator<? super V> comparator() {
+    return (Comparator) Comparator.naturalOrder();
+  }
+
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public @NotNull SortedRun<V> subSet(V fromElement, V toElement) {
+    if (((Comparable) fromElement).compareTo(toElement) > 0) {
+      throw new IllegalArgumentException("fromElement > toElement");
+    }
+    return new SortedRun<>(elements, lowerBound(fromElement), lowerBound(toElement));
+  }
+
+  @Override
+  public @NotNull SortedRun<V> headSet(V toElement) {
+    return new SortedRun<>(elements, from, lowerBound(toElement));
+  }
+
+  @Override
+  public @NotNull SortedRun<V> tailSet(V fromElement) {
+    return new SortedRun<>(elements, lowerBound(fromElement), to);
+  }
+
+  /**
+   * The smallest elements of this run
+   *
+   * @param count How many elements to keep at most
+   * @return A run of the first <code>count</code> elements
+   */
+  @NotNull
+  SortedRun<V> head(int count) {
+    return count >= size() ? this : new SortedRun<>(elements, from, from + count);
+  }
+
+  /**
+   * The largest elements of this run
+   *
+   * @param count How many elements to keep at most
+   * @return A run of the last <code>count</code> elements
+   */
+  @NotNull
+  SortedRun<V> tail(int count) {
+    return count >= size() ? this : new SortedRun<>(elements, to - count, to);
+  }
+
+  /** Index of the first element not less than <code>element</code> */
+  private int lowerBound(V element) {
+    int index = Arrays.binarySearch(elements, from, to, element);
+    return index >= 0 ? index : -index - 1;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V first() {
+    if (from == to) {
+      throw new NoSuchElementException();
+    }
+    return (V) elements[from];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V last() {
+    if (from == to) {
+      throw new NoSuchElementException();
+    }
+    return (V) elements[to - 1];
+  }
+}
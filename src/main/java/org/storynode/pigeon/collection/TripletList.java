@@ -0,0 +1,301 @@
+package org.storynode.pigeon.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.stream.Collector;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.storynode.pigeon.tuple.Triplet;
+
+/**
+ * A list of {@link Triplet}s stored by column: each element position of the triplets is kept in its
+ * own array, and no {@link Triplet} instance is retained. Triplets are built on demand when read
+ * through the {@link java.util.List} interface, while {@link #first(int)}, {@link #second(int)} and
+ * {@link #third(int)} read a single column without building one.
+ *
+ * <p>Triplets returned by {@link #get(int)} are copies: they do not change when the list does.
+ *
+ * @param <T1> The type of the first element of the triplets
+ * @param <T2> The type of the second element of the triplets
+ * @param <T3> The type of the third element of the triplets
+ * @see PairList
+ */
+public class TripletList<T1, T2, T3> extends AbstractList<Triplet<T1, T2, T3>>
+    implements RandomAccess {
+  private static final Object[] EMPTY = {};
+
+  private Object[] firsts;
+  private Object[] seconds;
+  private Object[] thirds;
+  private int size;
+
+  /** Creates an empty {@link TripletList} */
+  public TripletList() {
+    this.firsts = EMPTY;
+    this.seconds = EMPTY;
+    this.thirds = EMPTY;
+  }
+
+  /**
+   * Creates an empty {@link TripletList} that can hold <code>initialCapacity</code> triplets before
+   * growing
+   *
+   * @param initialCapacity The number of triplets to allocate room for
+   * @throws java.lang.IllegalArgumentException if <code>initialCapacity</code> is negative
+   */
+  public TripletList(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+    }
+    this.firsts = initialCapacity == 0 ? EMPTY : new Object[initialCapacity];
+    this.seconds = initialCapacity == 0 ? EMPTY : new Object[initialCapacity];
+    this.thirds = initialCapacity == 0 ? EMPTY : new Object[initialCapacity];
+  }
+
+  /**
+   * Creates a {@link TripletList} holding the given triplets, in order
+   *
+   * @param triplets The triplets to add
+   */
+  public TripletList(@NotNull Collection<? extends Triplet<T1, T2, T3>> triplets) {
+    this(triplets.size());
+    addAll(triplets);
+  }
+
+  /**
+   * A {@link Collector} that gathers triplets into a new {@link TripletList}
+   *
+   * @param <T1> The type of the first element of the triplets
+   * @param <T2> The type of the second element of the triplets
+   * @param <T3> The type of the third element of the triplets
+   * @return A collector producing a {@link TripletList}
+   */
+  @Contract(pure = true)
+  public static <T1, T2, T3>
+      @NotNull Collector<Triplet<T1, T2, T3>, ?, TripletList<T1, T2, T3>> collector() {
+    return Collector.of(
+        TripletList::new,
+        TripletList::add,
+        (left, right) -> {
+          left.addAll(right);
+          return left;
+        });
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The triplet is built on each call from the columns of this list.
+   */
+  @Override
+  public @NotNull Triplet<T1, T2, T3> get(int index) {
+    Objects.checkIndex(index, size);
+    return row(index);
+  }
+
+  /**
+   * The first element of the triplet at the given position
+   *
+   * @param index The position of the triplet
+   * @return The first element of the triplet
+   * @throws java.lang.IndexOutOfBoundsException if <code>index</code> is out of range
+   */
+  @SuppressWarnings("unchecked")
+  public T1 first(int index) {
+    Objects.checkIndex(index, size);
+    return (T1) firsts[index];
+  }
+
+  /**
+   * The second element of the triplet at the given position
+   *
+   * @param index The position of the triplet
+   * @return The second element of the triplet
+   * @throws java.lang.IndexOutOfBoundsException if <code>index</code> is out of range
+   */
+  @SuppressWarnings("unchecked")
+  public T2 second(int index) {
+    Objects.checkIndex(index, size);
+    return (T2) seconds[index];
+  }
+
+  /**
+   * The third element of the triplet at the given position
+   *
+   * @param index The position of the triplet
+   * @return The third element of the triplet
+   * @throws java.lang.IndexOutOfBoundsException if <code>index</code> is out of range
+   */
+  @SuppressWarnings("unchecked")
+  public T3 third(int index) {
+    Objects.checkIndex(index, size);
+    return (T3) thirds[index];
+  }
+
+  /**
+   * Appends a triplet to the end of this list, without building a {@link Triplet}
+   *
+   * @param first The first element of the triplet
+   * @param second The second element of the triplet
+   * @param third The third element of the triplet
+   */
+  @Contract(mutates = "this")
+  public void add(T1 first, T2 second, T3 third) {
+    modCount++;
+    int s = size;
+    if (s == firsts.length) {
+      grow(s + 1);
+    }
+    firsts[s] = first;
+    seconds[s] = second;
+    thirds[s] = third;
+    size = s + 1;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean add(@NotNull Triplet<T1, T2, T3> triplet) {
+    add(triplet.first(), triplet.second(), triplet.third());
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void add(int index, @NotNull Triplet<T1, T2, T3> triplet) {
+    Objects.checkIndex(index, size + 1);
+    modCount++;
+    int s = size;
+    if (s == firsts.length) {
+      grow(s + 1);
+    }
+    System.arraycopy(firsts, index, firsts, index + 1, s - index);
+    System.arraycopy(seconds, index, seconds, index + 1, s - index);
+    System.arraycopy(thirds, index, thirds, index + 1, s - index);
+    firsts[index] = triplet.first();
+    seconds[index] = triplet.second();
+    thirds[index] = triplet.third();
+    size = s + 1;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Triplet<T1, T2, T3> set(int index, @NotNull Triplet<T1, T2, T3> triplet) {
+    Objects.checkIndex(index, size);
+    Triplet<T1, T2, T3> previous = row(index);
+    firsts[index] = triplet.first();
+    seconds[index] = triplet.second();
+    thirds[index] = triplet.third();
+    return previous;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Triplet<T1, T2, T3> remove(int index) {
+    Objects.checkIndex(index, size);
+    modCount++;
+    Triplet<T1, T2, T3> previous = row(index);
+    int moved = size - index - 1;
+    System.arraycopy(firsts, index + 1, firsts, index, moved);
+    System.arraycopy(seconds, index + 1, seconds, index, moved);
+    System.arraycopy(thirds, index + 1, thirds, index, moved);
+    size--;
+    firsts[size] = null;
+    seconds[size] = null;
+    thirds[size] = null;
+    return previous;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void clear() {
+    modCount++;
+    Arrays.fill(firsts, 0, size, null);
+    Arrays.fill(seconds, 0, size, null);
+    Arrays.fill(thirds, 0, size, null);
+    size = 0;
+  }
+
+  /**
+   * Sorts the triplets of this list by their first element. The sort is stable: triplets with equal
+   * first elements keep their relative order.
+   *
+   * @param comparator The comparator used to compare first elements
+   */
+  @Contract(mutates = "this")
+  @SuppressWarnings("unchecked")
+  public void sortByFirst(@NotNull Comparator<? super T1> comparator) {
+    applyOrder(
+        Columns.stableOrder(
+            size, (left, right) -> comparator.compare((T1) firsts[left], (T1) firsts[right])));
+  }
+
+  /**
+   * Sorts the triplets of this list by their second element. The sort is stable: triplets with
+   * equal second elements keep their relative order.
+   *
+   * @param comparator The comparator used to compare second elements
+   */
+  @Contract(mutates = "this")
+  @SuppressWarnings("unchecked")
+  public void sortBySecond(@NotNull Comparator<? super T2> comparator) {
+    applyOrder(
+        Columns.stableOrder(
+            size, (left, right) -> comparator.compare((T2) seconds[left], (T2) seconds[right])));
+  }
+
+  /**
+   * Sorts the triplets of this list by their third element. The sort is stable: triplets with equal
+   * third elements keep their relative order.
+   *
+   * @param comparator The comparator used to compare third elements
+   */
+  @Contract(mutates = "this")
+  @SuppressWarnings("unchecked")
+  public void sortByThird(@NotNull Comparator<? super T3> comparator) {
+    applyOrder(
+        Columns.stableOrder(
+            size, (left, right) -> comparator.compare((T3) thirds[left], (T3) thirds[right])));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The spliterator is {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}, and splits in
+   * halves, so streams over this list parallelize evenly. It is bound to the size of the list when
+   * created and is not fail-fast.
+   */
+  @Override
+  public @NotNull Spliterator<Triplet<T1, T2, T3>> spliterator() {
+    return new Columns.RowSpliterator<>(this::row, 0, size);
+  }
+
+  @SuppressWarnings("unchecked")
+  private @NotNull Triplet<T1, T2, T3> row(int index) {
+    return new Triplet<>((T1) firsts[index], (T2) seconds[index], (T3) thirds[index]);
+  }
+
+  private void applyOrder(int @NotNull [] order) {
+    modCount++;
+    firsts = Columns.permute(firsts, order);
+    seconds = Columns.permute(seconds, order);
+    thirds = Columns.permute(thirds, order);
+  }
+
+  private void grow(int minCapacity) {
+    int capacity = Columns.grow(firsts.length, minCapacity);
+    firsts = Arrays.copyOf(firsts, capacity);
+    seconds = Arrays.copyOf(seconds, capacity);
+    thirds = Arrays.copyOf(thirds, capacity);
+  }
+}
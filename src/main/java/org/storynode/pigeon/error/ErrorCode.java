@@ -0,0 +1,42 @@
+package org.storynode.pigeon.error;
+
+/**
+ * A stable, pre-allocated error value, usually implemented by an enum. Unlike an exception, an
+ * error code carries no stack trace, so it costs nothing to produce and can be compared by
+ * identity.
+ *
+ * <p>Enum error codes can be turned into {@link org.storynode.pigeon.result.Result}s with {@link
+ * org.storynode.pigeon.result.Result#failure(Enum)}, which returns a shared instance instead of
+ * allocating a new one on every failure.
+ *
+ * <pre>{@code
+ * enum Rejection implements ErrorCode {
+ *   RATE_LIMITED,
+ *   NOT_FOUND
+ * }
+ *
+ * Result<Response, Rejection> handle(Request request) {
+ *   if (!limiter.tryAcquire()) {
+ *     return Result.failure(Rejection.RATE_LIMITED);
+ *   }
+ *   ...
+ * }
+ * }</pre>
+ */
+public interface ErrorCode {
+  /**
+   * The name of this error code. Enums implement this through {@link Enum#name()}.
+   *
+   * @return The name of this error code
+   */
+  String name();
+
+  /**
+   * A human-readable description of this error code. Defaults to its {@link #name()}.
+   *
+   * @return The message describing this error code
+   */
+  default String message() {
+    return name();
+  }
+}
@@ -0,0 +1,43 @@
+package org.storynode.pigeon.error;
+
+import org.jetbrains.annotations.NotNull;
+import org.storynode.pigeon.option.Option;
+
+/**
+ * A {@link java.lang.RuntimeException} that does not capture a stack trace and cannot be given one
+ * or be suppressed into. Creating one costs little more than any other object, and since it holds
+ * no per-throw state a single instance can be allocated once and reused on every failure.
+ */
+public class StacklessException extends RuntimeException {
+  private final transient ErrorCode code;
+
+  /**
+   * Constructor for StacklessException.
+   *
+   * @param message a {@link java.lang.String} object
+   */
+  public StacklessException(String message) {
+    super(message, null, false, false);
+    this.code = null;
+  }
+
+  /**
+   * Creates an exception describing the given {@link ErrorCode}, using its {@link
+   * ErrorCode#message()} as message.
+   *
+   * @param code The error code
+   */
+  public StacklessException(@NotNull ErrorCode code) {
+    super(code.message(), null, false, false);
+    this.code = code;
+  }
+
+  /**
+   * The error code this exception was created from, if any
+   *
+   * @return an {@link org.storynode.pigeon.option.Option} with the error code
+   */
+  public @NotNull Option<ErrorCode> code() {
+    return Option.of(code);
+  }
+}
@@ -23,7 +23,7 @@ public class NeverThrow {
    * @param func a function to run
    * @return a {@link org.storynode.pigeon.result.Result} object that will contain an empty {@link
    *     org.storynode.pigeon.option.Option} if the execution completed nominally or the error
-   *     thrown if completed exceptionally.
+   *     thrown if completed exceptionally. The result of a nominal execution is a shared instance.
    */
   public static @NotNull Result<None<Void>, Exception> executing(Runnable func) {
     try {
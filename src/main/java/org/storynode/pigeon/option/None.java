@@ -1,11 +1,13 @@
 package org.storynode.pigeon.option;
 
 import java.util.NoSuchElementException;
-import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 import org.storynode.pigeon.error.UnwrapException;
@@ -16,12 +18,12 @@ import org.storynode.pigeon.error.UnwrapException;
  * @see Option
  * @author Andrea Coronese
  */
-public class None<T> extends Option<T> {
+public final class None<T> extends Option<T> {
   /** Constant <code>INSTANCE</code> */
-  protected static final Option<?> INSTANCE = new None<>();
+  static final Option<?> INSTANCE = new None<>();
 
   /** Creates an option with no value in it */
-  protected None() {
+  private None() {
     super();
   }
 
@@ -38,7 +40,7 @@ public class None<T> extends Option<T> {
   /** {@inheritDoc} */
   @Override
   public int hashCode() {
-    return Objects.hash();
+    return 0;
   }
 
   /** {@inheritDoc} */
@@ -83,6 +85,24 @@ public class None<T> extends Option<T> {
     return none();
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public @NotNull OptionInt mapToInt(@NotNull ToIntFunction<? super T> mapper) {
+    return OptionInt.none();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NotNull OptionLong mapToLong(@NotNull ToLongFunction<? super T> mapper) {
+    return OptionLong.none();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NotNull OptionDouble mapToDouble(@NotNull ToDoubleFunction<? super T> mapper) {
+    return OptionDouble.none();
+  }
+
   /** {@inheritDoc} */
   @Override
   public Option<T> or(@NotNull Supplier<? extends Option<T>> supplier) {
@@ -5,6 +5,9 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -29,10 +32,16 @@ import org.storynode.pigeon.protocol.SafelyWrapped;
  * using {@link org.storynode.pigeon.option.Option} instead of {@link java.util.Optional} can avoid
  * ** a lot** of condition checks (potentially).
  *
+ * <p>{@link org.storynode.pigeon.option.Option} is sealed and both its variants are final, so call
+ * sites only ever see two receiver types and a type pattern ({@code option instanceof Some<T>
+ * some}) followed by {@link org.storynode.pigeon.option.Some#value()} is a complete alternative to
+ * {@link org.storynode.pigeon.option.Option#isSome()} and {@link
+ * org.storynode.pigeon.option.Option#unwrap()}.
+ *
  * @param <T>
  * @author Andrea Coronese
  */
-public abstract class Option<T> implements SafelyWrapped<T> {
+public abstract sealed class Option<T> implements SafelyWrapped<T> permits Some, None {
   /**
    * Creates a new {@link org.storynode.pigeon.option.Option} with some value in it. If the provided
    * value is null then the option will be empty ({@link org.storynode.pigeon.option.None}).
@@ -40,8 +49,9 @@ public abstract class Option<T> implements SafelyWrapped<T> {
    * @param value The value to wrap
    * @return The created {@link org.storynode.pigeon.option.Option}
    * @param <T> The type of the inner value
+   * @see Option#of(Object)
    */
-  @Contract(value = "_ -> new", pure = true)
+  @Contract(pure = true)
   public static <T> @NotNull Option<T> some(@NotNull T value) {
     return of(value);
   }
@@ -50,6 +60,9 @@ public abstract class Option<T> implements SafelyWrapped<T> {
    * Creates a new {@link org.storynode.pigeon.option.Option} with some value in it. If the provided
    * value is null then the option will be empty ({@link org.storynode.pigeon.option.None}).
    *
+   * <p>Options for booleans and integers between -128 and 127 are shared instances, like {@link
+   * Integer#valueOf(int)} does for boxed integers, so they are never allocated.
+   *
    * @param value The value to wrap
    * @return The created {@link org.storynode.pigeon.option.Option}
    * @param <T> The type of the inner value
@@ -58,7 +71,7 @@ public abstract class Option<T> implements SafelyWrapped<T> {
     if (value == null) {
       return Option.none();
     } else {
-      return new Some<>(value);
+      return Some.valueOf(value);
     }
   }
 
@@ -146,6 +159,36 @@ public abstract class Option<T> implements SafelyWrapped<T> {
    */
   public abstract <U> Option<U> map(@NotNull Function<T, U> mapper);
 
+  /**
+   * If a value is present, returns an {@link OptionInt} with the result of applying the given
+   * mapping function to the value, otherwise returns the empty {@link OptionInt}. The mapped value
+   * is never boxed.
+   *
+   * @param mapper the mapping function to apply to a value, if present
+   * @return the mapped {@link OptionInt}
+   */
+  public abstract @NotNull OptionInt mapToInt(@NotNull ToIntFunction<? super T> mapper);
+
+  /**
+   * If a value is present, returns an {@link OptionLong} with the result of applying the given
+   * mapping function to the value, otherwise returns the empty {@link OptionLong}. The mapped value
+   * is never boxed.
+   *
+   * @param mapper the mapping function to apply to a value, if present
+   * @return the mapped {@link OptionLong}
+   */
+  public abstract @NotNull OptionLong mapToLong(@NotNull ToLongFunction<? super T> mapper);
+
+  /**
+   * If a value is present, returns an {@link OptionDouble} with the result of applying the given
+   * mapping function to the value, otherwise returns the empty {@link OptionDouble}. The mapped
+   * value is never boxed.
+   *
+   * @param mapper the mapping function to apply to a value, if present
+   * @return the mapped {@link OptionDouble}
+   */
+  public abstract @NotNull OptionDouble mapToDouble(@NotNull ToDoubleFunction<? super T> mapper);
+
   /**
    * If a value is present, returns the result of applying the given {@code Optional}-bearing
    * mapping function to the value, otherwise returns an empty {@code Optional}.
@@ -0,0 +1,305 @@
+package org.storynode.pigeon.option;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.storynode.pigeon.error.UnwrapException;
+
+/**
+ * An {@link org.storynode.pigeon.option.Option} specialized for <code>double</code> values. The
+ * value is held unboxed and the empty option is a shared instance, so neither wrapping nor absence
+ * allocate a {@link java.lang.Double}.
+ *
+ * <p>Use {@link #from(OptionalDouble)}, {@link #toOptional()} and {@link #toOption()} to move
+ * between this, {@link java.util.OptionalDouble} and the generic {@link
+ * org.storynode.pigeon.option.Option}.
+ *
+ * @see Option#mapToDouble
+ */
+public final class OptionDouble {
+  /** The empty {@link OptionDouble} */
+  private static final OptionDouble NONE = new OptionDouble(false, 0D);
+
+  private final boolean present;
+  private final double value;
+
+  private OptionDouble(boolean present, double value) {
+    this.present = present;
+    this.value = value;
+  }
+
+  /**
+   * Creates a {@link OptionDouble} with some value in it
+   *
+   * @param value The value to wrap
+   * @return The created {@link OptionDouble}
+   */
+  @Contract(value = "_ -> new", pure = true)
+  public static @NotNull OptionDouble some(double value) {
+    return new OptionDouble(true, value);
+  }
+
+  /**
+   * Returns the shared empty {@link OptionDouble}
+   *
+   * @return The empty {@link OptionDouble}
+   */
+  public static @NotNull OptionDouble none() {
+    return NONE;
+  }
+
+  /**
+   * Converts an {@link java.util.OptionalDouble} to its {@link OptionDouble} counterpart
+   *
+   * @param optional The value to convert
+   * @return a {@link OptionDouble} with the same content
+   */
+  public static @NotNull OptionDouble from(@NotNull OptionalDouble optional) {
+    return optional.isPresent() ? some(optional.getAsDouble()) : NONE;
+  }
+
+  /**
+   * Whether this option contains a value or not
+   *
+   * @return <code>true</code> if this contains a value, <code>false</code> otherwise
+   */
+  public boolean isSome() {
+    return present;
+  }
+
+  /**
+   * Whether this option contains a value or not
+   *
+   * @return <code>false</code> if this contains a value, <code>true</code> otherwise
+   */
+  public boolean isNone() {
+    return !present;
+  }
+
+  /**
+   * Gets the contained value
+   *
+   * @return The contained value
+   * @throws org.storynode.pigeon.error.UnwrapException if there is no value, since a primitive
+   *     cannot be <code>null</code>
+   */
+  public double unwrap() throws UnwrapException {
+    if (!present) {
+      throw new UnwrapException("Cannot unwrap a None value");
+    }
+    return value;
+  }
+
+  /**
+   * Executes <code>func</code> if a value is present, consuming it.
+   *
+   * @param func The function to execute
+   */
+  public void ifPresent(@NotNull DoubleConsumer func) {
+    if (present) {
+      func.accept(value);
+    }
+  }
+
+  /**
+   * Executes <code>whenPresent</code> if a value is present, consuming it, or runs <code>otherwise
+   * </code> if there is none.
+   *
+   * @param whenPresent The function to execute if a value is present
+   * @param otherwise The function to execute if there is no value
+   */
+  public void ifPresentOrElse(@NotNull DoubleConsumer whenPresent, @NotNull Runnable otherwise) {
+    if (present) {
+      whenPresent.accept(value);
+    } else {
+      otherwise.run();
+    }
+  }
+
+  /**
+   * If a value is present, and the value matches the given predicate, returns this option,
+   * otherwise returns an empty one.
+   *
+   * @param predicate the predicate to apply to a value, if present
+   * @return this option if the value is present and matches, the empty option otherwise
+   */
+  public @NotNull OptionDouble filter(@NotNull DoublePredicate predicate) {
+    return present && predicate.test(value) ? this : NONE;
+  }
+
+  /**
+   * If a value is present, returns an option with the result of applying the given mapping function
+   * to it, otherwise returns an empty option.
+   *
+   * @param mapper the mapping function to apply to a value, if present
+   * @return the mapped option
+   */
+  public @NotNull OptionDouble map(@NotNull DoubleUnaryOperator mapper) {
+    return present ? some(mapper.applyAsDouble(value)) : NONE;
+  }
+
+  /**
+   * If a value is present, returns an option with the <code>int</code> result of applying the given
+   * mapping function to it, otherwise returns an empty option.
+   *
+   * @param mapper the mapping function to apply to a value, if present
+   * @return the mapped option
+   */
+  public @NotNull OptionInt mapToInt(@NotNull DoubleToIntFunction mapper) {
+    return present ? OptionInt.some(mapper.applyAsInt(value)) : OptionInt.none();
+  }
+
+  /**
+   * If a value is present, returns an option with the <code>long</code> result of applying the
+   * given mapping function to it, otherwise returns an empty option.
+   *
+   * @param mapper the mapping function to apply to a value, if present
+   * @return the mapped option
+   */
+  public @NotNull OptionLong mapToLong(@NotNull DoubleToLongFunction mapper) {
+    return present ? OptionLong.some(mapper.applyAsLong(value)) : OptionLong.none();
+  }
+
+  /**
+   * If a value is present, returns an {@link org.storynode.pigeon.option.Option} with the result of
+   * applying the given mapping function to it, otherwise returns an empty {@link
+   * org.storynode.pigeon.option.Option}.
+   *
+   * @param mapper the mapping function to apply to a value, if present
+   * @param <U> The type of the value returned from the mapping function
+   * @return the mapped {@link org.storynode.pigeon.option.Option}
+   */
+  public <U> @NotNull Option<U> mapToObj(@NotNull DoubleFunction<? extends U> mapper) {
+    return present ? Option.of(mapper.apply(value)) : Option.none();
+  }
+
+  /**
+   * If a value is present, returns the result of applying the given option-bearing mapping function
+   * to it, otherwise returns an empty option.
+   *
+   * @param mapper the mapping function to apply to a value, if present
+   * @return the result of the mapping function, or an empty option
+   */
+  public @NotNull OptionDouble flatMap(@NotNull DoubleFunction<OptionDouble> mapper) {
+    return present ? mapper.apply(value) : NONE;
+  }
+
+  /**
+   * If a value is present, returns this option, otherwise returns the one produced by <code>
+   * supplier</code>
+   *
+   * @param supplier The supplier that produces the option in case a value is not present
+   * @return this option or the supplied one
+   */
+  public @NotNull OptionDouble or(@NotNull Supplier<OptionDouble> supplier) {
+    return present ? this : supplier.get();
+  }
+
+  /**
+   * If a value is present, returns the value, otherwise returns {@code other}.
+   *
+   * @param other the value to be returned, if no value is present
+   * @return the value, if present, otherwise {@code other}
+   */
+  public double orElse(double other) {
+    return present ? value : other;
+  }
+
+  /**
+   * If a value is present, returns the value, otherwise returns the result produced by the
+   * supplying function.
+   *
+   * @param supplier the supplying function that produces a value to be returned
+   * @return the value, if present, otherwise the result produced by the supplying function
+   */
+  public double orElseGet(@NotNull DoubleSupplier supplier) {
+    return present ? value : supplier.getAsDouble();
+  }
+
+  /**
+   * If a value is present returns that value, otherwise throws {@link
+   * java.util.NoSuchElementException}.
+   *
+   * @return The contained value, if present
+   * @throws java.util.NoSuchElementException When there is no value
+   */
+  public double orElseThrow() throws NoSuchElementException {
+    if (!present) {
+      throw new NoSuchElementException("No value present");
+    }
+    return value;
+  }
+
+  /**
+   * If a value is present returns that value, otherwise throws the supplied {@link
+   * java.lang.Throwable}.
+   *
+   * @param throwable The function that supplies the exception to throw
+   * @param <E> The concrete type of the {@link java.lang.Throwable}
+   * @return The contained value, if present
+   * @throws E if there is no value
+   */
+  public <E extends Throwable> double orElseThrow(@NotNull Supplier<E> throwable) throws E {
+    if (!present) {
+      throw throwable.get();
+    }
+    return value;
+  }
+
+  /**
+   * Streams the contained value, if any.
+   *
+   * @return a {@link java.util.stream.DoubleStream} with the value, or an empty one
+   */
+  public @NotNull DoubleStream stream() {
+    return present ? DoubleStream.of(value) : DoubleStream.empty();
+  }
+
+  /**
+   * Converts this to the equivalent {@link java.util.OptionalDouble}
+   *
+   * @return an {@link java.util.OptionalDouble} with the same content
+   */
+  public @NotNull OptionalDouble toOptional() {
+    return present ? OptionalDouble.of(value) : OptionalDouble.empty();
+  }
+
+  /**
+   * Converts this to a generic {@link org.storynode.pigeon.option.Option}, boxing the value
+   *
+   * @return the equivalent {@link org.storynode.pigeon.option.Option}
+   */
+  public @NotNull Option<Double> toOption() {
+    return present ? Option.some(value) : Option.none();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) return true;
+    if (!(obj instanceof OptionDouble other)) return false;
+    return present ? other.present && Double.compare(value, other.value) == 0 : !other.present;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int hashCode() {
+    return present ? Double.hashCode(value) : 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return present ? "Some[value=" + value + ']' : "None";
+  }
+}
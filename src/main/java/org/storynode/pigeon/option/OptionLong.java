@@ -0,0 +1,304 @@
+package org.storynode.pigeon.option;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.storynode.pigeon.error.UnwrapException;
+
+/**
+ * An {@link org.storynode.pigeon.option.Option} specialized for <code>long</code> values. The value
+ * is held unboxed and the empty option is a shared instance, so neither wrapping nor absence
+ * allocate a {@link java.lang.Long}.
+ *
+ * <p>Use {@link #from(OptionalLong)}, {@link #toOptional()} and {@link #toOption()} to move between
+ * this, {@link java.util.OptionalLong} and the generic {@link org.storynode.pigeon.option.Option}.
+ *
+ * @see Option#mapToLong
+ */
+public final class OptionLong {
+  /** The empty {@link OptionLong} */
+  private static final OptionLong NONE = new OptionLong(false, 0L);
+
+  private final boolean present;
+  private final long value;
+
+  private OptionLong(boolean present, long value) {
+    this.present = present;
+    this.value = value;
+  }
+
+  /**
+   * Creates a {@link OptionLong} with some value in it
+   *
+   * @param value The value to wrap
+   * @return The created {@link OptionLong}
+   */
+  @Contract(value = "_ -> new", pure = true)
+  public static @NotNull OptionLong some(long value) {
+    return new OptionLong(true, value);
+  }
+
+  /**
+   * Returns the shared empty {@link OptionLong}
+   *
+   * @return The empty {@link OptionLong}
+   */
+  public static @NotNull OptionLong none() {
+    return NONE;
+  }
+
+  /**
+   * Converts an {@link java.util.OptionalLong} to its {@link OptionLong} counterpart
+   *
+   * @param optional The value to convert
+   * @return a {@link OptionLong} with the same content
+   */
+  public static @NotNull OptionLong from(@NotNull OptionalLong optional) {
+    return optional.isPresent() ? some(optional.getAsLong()) : NONE;
+  }
+
+  /**
+   * Whether this option contains a value or not
+   *
+   * @return <code>true</code> if this contains a value, <code>false</code> otherwise
+   */
+  public boolean isSome() {
+    return present;
+  }
+
+  /**
+   * Whether this option contains a value or not
+   *
+   * @return <code>false</code> if this contains a value, <code>true</code> otherwise
+   */
+  public boolean isNone() {
+    return !present;
+  }
+
+  /**
+   * Gets the contained value
+   *
+   * @return The contained value
+   * @throws org.storynode.pigeon.error.UnwrapException if there is no value, since a primitive
+   *     cannot be <code>null</code>
+   */
+  public long unwrap() throws UnwrapException {
+    if (!present) {
+      throw new UnwrapException("Cannot unwrap a None value");
+    }
+    return value;
+  }
+
+  /**
+   * Executes <code>func</code> if a value is present, consuming it.
+   *
+   * @param func The function to execute
+   */
+  public void ifPresent(@NotNull LongConsumer func) {
+    if (present) {
+      func.accept(value);
+    }
+  }
+
+  /**
+   * Executes <code>whenPresent</code> if a value is present, consuming it, or runs <code>otherwise
+   * </code> if there is none.
+   *
+   * @param whenPresent The function to execute if a value is present
+   * @param otherwise The function to execute if there is no value
+   */
+  public void ifPresentOrElse(@NotNull LongConsumer whenPresent, @NotNull Runnable otherwise) {
+    if (present) {
+      whenPresent.accept(value);
+    } else {
+      otherwise.run();
+    }
+  }
+
+  /**
+   * If a value is present, and the value matches the given predicate, returns this option,
+   * otherwise returns an empty one.
+   *
+   * @param predicate the predicate to apply to a value, if present
+   * @return this option if the value is present and matches, the empty option otherwise
+   */
+  public @NotNull OptionLong filter(@NotNull LongPredicate predicate) {
+    return present && predicate.test(value) ? this : NONE;
+  }
+
+  /**
+   * If a value is present, returns an option with the result of applying the given mapping function
+   * to it, otherwise returns an empty option.
+   *
+   * @param mapper the mapping function to apply to a value, if present
+   * @return the mapped option
+   */
+  public @NotNull OptionLong map(@NotNull LongUnaryOperator mapper) {
+    return present ? some(mapper.applyAsLong(value)) : NONE;
+  }
+
+  /**
+   * If a value is present, returns an option with the <code>int</code> result of applying the given
+   * mapping function to it, otherwise returns an empty option.
+   *
+   * @param mapper the mapping function to apply to a value, if present
+   * @return the mapped option
+   */
+  public @NotNull OptionInt mapToInt(@NotNull LongToIntFunction mapper) {
+    return present ? OptionInt.some(mapper.applyAsInt(value)) : OptionInt.none();
+  }
+
+  /**
+   * If a value is present, returns an option with the <code>double</code> result of applying the
+   * given mapping function to it, otherwise returns an empty option.
+   *
+   * @param mapper the mapping function to apply to a value, if present
+   * @return the mapped option
+   */
+  public @NotNull OptionDouble mapToDouble(@NotNull LongToDoubleFunction mapper) {
+    return present ? OptionDouble.some(mapper.applyAsDouble(value)) : OptionDouble.none();
+  }
+
+  /**
+   * If a value is present, returns an {@link org.storynode.pigeon.option.Option} with the result of
+   * applying the given mapping function to it, otherwise returns an empty {@link
+   * org.storynode.pigeon.option.Option}.
+   *
+   * @param mapper the mapping function to apply to a value, if present
+   * @param <U> The type of the value returned from the mapping function
+   * @return the mapped {@link org.storynode.pigeon.option.Option}
+   */
+  public <U> @NotNull Option<U> mapToObj(@NotNull LongFunction<? extends U> mapper) {
+    return present ? Option.of(mapper.apply(value)) : Option.none();
+  }
+
+  /**
+   * If a value is present, returns the result of applying the given option-bearing mapping function
+   * to it, otherwise returns an empty option.
+   *
+   * @param mapper the mapping function to apply to a value, if present
+   * @return the result of the mapping function, or an empty option
+   */
+  public @NotNull OptionLong flatMap(@NotNull LongFunction<OptionLong> mapper) {
+    return present ? mapper.apply(value) : NONE;
+  }
+
+  /**
+   * If a value is present, returns this option, otherwise returns the one produced by <code>
+   * supplier</code>
+   *
+   * @param supplier The supplier that produces the option in case a value is not present
+   * @return this option or the supplied one
+   */
+  public @NotNull OptionLong or(@NotNull Supplier<OptionLong> supplier) {
+    return present ? this : supplier.get();
+  }
+
+  /**
+   * If a value is present, returns the value, otherwise returns {@code other}.
+   *
+   * @param other the value to be returned, if no value is present
+   * @return the value, if present, otherwise {@code other}
+   */
+  public long orElse(long other) {
+    return present ? value : other;
+  }
+
+  /**
+   * If a value is present, returns the value, otherwise returns the result produced by the
+   * supplying function.
+   *
+   * @param supplier the supplying function that produces a value to be returned
+   * @return the value, if present, otherwise the result produced by the supplying function
+   */
+  public long orElseGet(@NotNull LongSupplier supplier) {
+    return present ? value : supplier.getAsLong();
+  }
+
+  /**
+   * If a value is present returns that value, otherwise throws {@link
+   * java.util.NoSuchElementException}.
+   *
+   * @return The contained value, if present
+   * @throws java.util.NoSuchElementException When there is no value
+   */
+  public long orElseThrow() throws NoSuchElementException {
+    if (!present) {
+      throw new NoSuchElementException("No value present");
+    }
+    return value;
+  }
+
+  /**
+   * If a value is present returns that value, otherwise throws the supplied {@link
+   * java.lang.Throwable}.
+   *
+   * @param throwable The function that supplies the exception to throw
+   * @param <E> The concrete type of the {@link java.lang.Throwable}
+   * @return The contained value, if present
+   * @throws E if there is no value
+   */
+  public <E extends Throwable> long orElseThrow(@NotNull Supplier<E> throwable) throws E {
+    if (!present) {
+      throw throwable.get();
+    }
+    return value;
+  }
+
+  /**
+   * Streams the contained value, if any.
+   *
+   * @return a {@link java.util.stream.LongStream} with the value, or an empty one
+   */
+  public @NotNull LongStream stream() {
+    return present ? LongStream.of(value) : LongStream.empty();
+  }
+
+  /**
+   * Converts this to the equivalent {@link java.util.OptionalLong}
+   *
+   * @return an {@link java.util.OptionalLong} with the same content
+   */
+  public @NotNull OptionalLong toOptional() {
+    return present ? OptionalLong.of(value) : OptionalLong.empty();
+  }
+
+  /**
+   * Converts this to a generic {@link org.storynode.pigeon.option.Option}, boxing the value
+   *
+   * @return the equivalent {@link org.storynode.pigeon.option.Option}
+   */
+  public @NotNull Option<Long> toOption() {
+    return present ? Option.some(value) : Option.none();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) return true;
+    if (!(obj instanceof OptionLong other)) return false;
+    return present ? other.present && value == other.value : !other.present;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int hashCode() {
+    return present ? Long.hashCode(value) : 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return present ? "Some[value=" + value + ']' : "None";
+  }
+}
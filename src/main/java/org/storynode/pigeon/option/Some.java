@@ -1,10 +1,12 @@
 package org.storynode.pigeon.option;
 
-import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 import lombok.NonNull;
 import org.jetbrains.annotations.NotNull;
@@ -15,7 +17,19 @@ import org.jetbrains.annotations.NotNull;
  * @see Option
  * @author Andrea Coronese
  */
-public class Some<T> extends Option<T> {
+public final class Some<T> extends Option<T> {
+  private static final int SMALL_INT_MIN = -128;
+  private static final int SMALL_INT_MAX = 127;
+  private static final Some<?>[] SMALL_INTS = new Some<?>[SMALL_INT_MAX - SMALL_INT_MIN + 1];
+  private static final Some<?> TRUE = new Some<>(Boolean.TRUE);
+  private static final Some<?> FALSE = new Some<>(Boolean.FALSE);
+
+  static {
+    for (int i = 0; i < SMALL_INTS.length; i++) {
+      SMALL_INTS[i] = new Some<>(SMALL_INT_MIN + i);
+    }
+  }
+
   private final T value;
 
   /**
@@ -23,10 +37,33 @@ public class Some<T> extends Option<T> {
    *
    * @param value The inner value
    */
-  protected Some(@NonNull T value) {
+  Some(@NonNull T value) {
     this.value = value;
   }
 
+  /**
+   * Returns the shared instance for <code>value</code> if there is one, or a new {@link
+   * org.storynode.pigeon.option.Some} otherwise
+   *
+   * @param value The inner value
+   * @return A {@link org.storynode.pigeon.option.Some} holding <code>value</code>
+   * @param <T> The type of the inner value
+   */
+  @SuppressWarnings("unchecked")
+  static <T> @NotNull Some<T> valueOf(@NotNull T value) {
+    Some<?> shared = null;
+    if (value instanceof Boolean bool) {
+      shared = bool ? TRUE : FALSE;
+    } else if (value instanceof Integer integer) {
+      int i = integer;
+      if (i >= SMALL_INT_MIN && i <= SMALL_INT_MAX) {
+        shared = SMALL_INTS[i - SMALL_INT_MIN];
+      }
+    }
+
+    return shared != null ? (Some<T>) shared : new Some<>(value);
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean isSome() {
@@ -64,6 +101,24 @@ public class Some<T> extends Option<T> {
     return (Option<U>) mapper.apply(value);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public @NotNull OptionInt mapToInt(@NotNull ToIntFunction<? super T> mapper) {
+    return OptionInt.some(mapper.applyAsInt(value));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NotNull OptionLong mapToLong(@NotNull ToLongFunction<? super T> mapper) {
+    return OptionLong.some(mapper.applyAsLong(value));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NotNull OptionDouble mapToDouble(@NotNull ToDoubleFunction<? super T> mapper) {
+    return OptionDouble.some(mapper.applyAsDouble(value));
+  }
+
   /** {@inheritDoc} */
   @Override
   public Option<T> or(@NotNull Supplier<? extends Option<T>> supplier) {
@@ -114,15 +169,15 @@ public class Some<T> extends Option<T> {
   @Override
   public boolean equals(Object obj) {
     if (obj == this) return true;
-    if (obj == null || obj.getClass() != this.getClass()) return false;
+    if (!(obj instanceof Some<?> other)) return false;
 
-    return Objects.equals(this.value, ((Some<?>) obj).value);
+    return value.equals(other.value);
   }
 
   /** {@inheritDoc} */
   @Override
   public int hashCode() {
-    return Objects.hash(value);
+    return value.hashCode();
   }
 
   /** {@inheritDoc} */
@@ -0,0 +1,276 @@
+package org.storynode.pigeon.result;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.storynode.pigeon.error.UnwrapException;
+
+/**
+ * A {@link org.storynode.pigeon.result.Result} specialized for <code>double</code> values. The
+ * value is held unboxed, so producing, mapping and unwrapping a successful outcome never allocates
+ * a {@link java.lang.Double}.
+ *
+ * <p>Use {@link #from(Result)} and {@link #toResult()} to move between this and the generic {@link
+ * org.storynode.pigeon.result.Result}.
+ *
+ * @param <E> The type of the error value
+ * @see Result#mapToDouble
+ */
+public final class DoubleResult<E> {
+  private final double value;
+  private final E error;
+
+  private DoubleResult(double value, E error) {
+    this.value = value;
+    this.error = error;
+  }
+
+  /**
+   * Constructs an ok variant of a {@link DoubleResult}.
+   *
+   * @param value The value of the result for the ok state
+   * @return The constructed result
+   * @param <E> The type of the error value
+   */
+  @Contract(value = "_ -> new", pure = true)
+  public static <E> @NotNull DoubleResult<E> ok(double value) {
+    return new DoubleResult<>(value, null);
+  }
+
+  /**
+   * Constructs an error variant of a {@link DoubleResult}.
+   *
+   * @param error The value of the result for the error state
+   * @return The constructed result
+   * @param <E> The type of the error value
+   */
+  @Contract(value = "_ -> new", pure = true)
+  public static <E> @NotNull DoubleResult<E> err(@NotNull E error) {
+    return new DoubleResult<>(0D, Objects.requireNonNull(error));
+  }
+
+  /**
+   * Converts a generic {@link org.storynode.pigeon.result.Result} holding a boxed value to its
+   * specialized counterpart
+   *
+   * @param result The result to convert
+   * @return The specialized result
+   * @param <E> The type of the error value
+   */
+  public static <E> @NotNull DoubleResult<E> from(@NotNull Result<Double, E> result) {
+    return result.mapToDouble(Double::doubleValue);
+  }
+
+  /**
+   * Whether this is ok, meaning it contains a value and not an error
+   *
+   * @return <code>true</code> if this contains an ok value, <code>false</code> if it contains an
+   *     error
+   */
+  public boolean isOk() {
+    return error == null;
+  }
+
+  /**
+   * Whether this is an error
+   *
+   * @return <code>true</code> if this contains an error, <code>false</code> if it contains a value
+   */
+  public boolean isErr() {
+    return error != null;
+  }
+
+  /**
+   * Returns <code>true</code> if the result contains a value and that value satisfies a <code>
+   * predicate</code>
+   *
+   * @param predicate The predicate to satisfy
+   * @return If the value is present and satisfies the predicate
+   */
+  public boolean isOkAnd(@NotNull DoublePredicate predicate) {
+    return error == null && predicate.test(value);
+  }
+
+  /**
+   * Returns <code>true</code> if the result contains an error and that error satisfies a <code>
+   * predicate</code>
+   *
+   * @param predicate The predicate to satisfy
+   * @return If the error is present and satisfies the predicate
+   */
+  public boolean isErrAnd(@NotNull Predicate<E> predicate) {
+    return error != null && predicate.test(error);
+  }
+
+  /**
+   * Unwraps and returns the inner value, if present.
+   *
+   * @return The inner value
+   * @throws org.storynode.pigeon.error.UnwrapException if this contains an error
+   */
+  public double unwrap() throws UnwrapException {
+    if (error != null) {
+      throw new UnwrapException("Cannot unwrap value on an Err<> value");
+    }
+    return value;
+  }
+
+  /**
+   * Unwraps and returns the inner error, if present.
+   *
+   * @return The inner error
+   * @throws org.storynode.pigeon.error.UnwrapException if this contains a value
+   */
+  public E unwrapError() throws UnwrapException {
+    if (error == null) {
+      throw new UnwrapException("Cannot unwrap error on an Ok<> value");
+    }
+    return error;
+  }
+
+  /**
+   * Unwraps the contained value, or returns a default one if this contains an error
+   *
+   * @param defaultValue The value to return in place of the error
+   * @return The contained value or the default one, depending on which is appropriate
+   */
+  public double orElse(double defaultValue) {
+    return error == null ? value : defaultValue;
+  }
+
+  /**
+   * Unwraps the contained value, or returns a default one if this contains an error
+   *
+   * @param defaultValueSupplier The supplier for the value to return in place of the error
+   * @return The contained value or the default one, depending on which is appropriate
+   */
+  public double orElseGet(@NotNull DoubleSupplier defaultValueSupplier) {
+    return error == null ? value : defaultValueSupplier.getAsDouble();
+  }
+
+  /**
+   * Maps the contained value by applying a function to it, leaving a result that contains an error
+   * untouched.
+   *
+   * @param fn The function to apply to the value
+   * @return The mapped result
+   */
+  public @NotNull DoubleResult<E> map(@NotNull DoubleUnaryOperator fn) {
+    return error == null ? ok(fn.applyAsDouble(value)) : this;
+  }
+
+  /**
+   * Maps the contained value to a <code>int</code> by applying a function to it, leaving a result
+   * that contains an error untouched.
+   *
+   * @param fn The function to apply to the value
+   * @return The mapped result
+   */
+  public @NotNull IntResult<E> mapToInt(@NotNull DoubleToIntFunction fn) {
+    return error == null ? IntResult.ok(fn.applyAsInt(value)) : IntResult.err(error);
+  }
+
+  /**
+   * Maps the contained value to a <code>long</code> by applying a function to it, leaving a result
+   * that contains an error untouched.
+   *
+   * @param fn The function to apply to the value
+   * @return The mapped result
+   */
+  public @NotNull LongResult<E> mapToLong(@NotNull DoubleToLongFunction fn) {
+    return error == null ? LongResult.ok(fn.applyAsLong(value)) : LongResult.err(error);
+  }
+
+  /**
+   * Maps the contained value to an object by applying a function to it, leaving a result that
+   * contains an error untouched.
+   *
+   * @param fn The function to apply to the value
+   * @return The mapped {@link org.storynode.pigeon.result.Result}
+   * @param <U> The type of the new value
+   */
+  public <U> @NotNull Result<U, E> mapToObj(@NotNull DoubleFunction<? extends U> fn) {
+    return error == null ? Result.ok(fn.apply(value)) : Result.err(error);
+  }
+
+  /**
+   * Like {@link #map(DoubleUnaryOperator)} but does not re-wrap the result of the provided mapping
+   * function
+   *
+   * @param fn The mapping function to apply
+   * @return The mapped result
+   */
+  public @NotNull DoubleResult<E> flatMap(@NotNull DoubleFunction<DoubleResult<E>> fn) {
+    return error == null ? fn.apply(value) : this;
+  }
+
+  /**
+   * Maps the contained error by applying a function to it, leaving a result that contains a value
+   * untouched.
+   *
+   * @param fn The function to apply to the error
+   * @return The mapped result
+   * @param <U> The type of the new error
+   */
+  @SuppressWarnings("unchecked")
+  public <U> @NotNull DoubleResult<U> mapError(@NotNull Function<? super E, ? extends U> fn) {
+    return error == null ? (DoubleResult<U>) this : err(fn.apply(error));
+  }
+
+  /**
+   * Executes <code>whenOk</code> if this contains a value, <code>whenError</code> otherwise.
+   *
+   * @param whenOk The function to execute when this contains a value
+   * @param whenError The function to execute when this contains an error
+   * @return this instance (for chaining)
+   */
+  public DoubleResult<E> ifOkOrElse(DoubleConsumer whenOk, Consumer<E> whenError) {
+    if (error == null) {
+      whenOk.accept(value);
+    } else {
+      whenError.accept(error);
+    }
+    return this;
+  }
+
+  /**
+   * Converts this to a generic {@link org.storynode.pigeon.result.Result}, boxing the value
+   *
+   * @return The equivalent {@link org.storynode.pigeon.result.Result}
+   */
+  public @NotNull Result<Double, E> toResult() {
+    return error == null ? Result.ok(value) : Result.err(error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof DoubleResult<?> other)) return false;
+    return error == null
+        ? other.error == null && Double.compare(value, other.value) == 0
+        : error.equals(other.error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int hashCode() {
+    return error == null ? Double.hashCode(value) : Result.errorHash(error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return error == null ? "Ok[value=" + value + ']' : "Err[error=" + error + ']';
+  }
+}
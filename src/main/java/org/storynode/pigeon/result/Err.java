@@ -1,9 +1,11 @@
 package org.storynode.pigeon.result;
 
-import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import org.jetbrains.annotations.NotNull;
 import org.storynode.pigeon.error.UnwrapException;
 
@@ -14,7 +16,21 @@ import org.storynode.pigeon.error.UnwrapException;
  * @see Ok
  * @author Andrea Coronese
  */
-public class Err<T, E> extends Result<T, E> {
+public final class Err<T, E> extends Result<T, E> {
+  /** One shared instance per enum constant, indexed by ordinal */
+  private static final ClassValue<Err<?, ?>[]> CONSTANTS =
+      new ClassValue<>() {
+        @Override
+        protected Err<?, ?>[] computeValue(@NotNull Class<?> type) {
+          Object[] constants = type.getEnumConstants();
+          Err<?, ?>[] errors = new Err<?, ?>[constants.length];
+          for (int i = 0; i < constants.length; i++) {
+            errors[i] = new Err<>(constants[i]);
+          }
+          return errors;
+        }
+      };
+
   private final E error;
 
   /**
@@ -26,6 +42,19 @@ public class Err<T, E> extends Result<T, E> {
     this.error = error;
   }
 
+  /**
+   * The shared {@link org.storynode.pigeon.result.Err} instance for an enum constant
+   *
+   * @param code The enum constant
+   * @return The shared instance
+   * @param <T> The type of the ok value
+   * @param <E> The type of the error value
+   */
+  @SuppressWarnings("unchecked")
+  static <T, E extends Enum<E>> @NotNull Err<T, E> constant(@NotNull E code) {
+    return (Err<T, E>) CONSTANTS.get(code.getDeclaringClass())[code.ordinal()];
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean isOk() {
@@ -44,6 +73,16 @@ public class Err<T, E> extends Result<T, E> {
     return error;
   }
 
+  /**
+   * The contained error. Unlike {@link #unwrapError()} this is only available once the variant is
+   * known, so it can never fail.
+   *
+   * @return The contained error
+   */
+  public E error() {
+    return error;
+  }
+
   /** {@inheritDoc} */
   @Override
   public T orElseGet(@NotNull Supplier<T> defaultValueSupplier) {
@@ -62,6 +101,24 @@ public class Err<T, E> extends Result<T, E> {
     return Result.err(error);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public IntResult<E> mapToInt(@NotNull ToIntFunction<? super T> fn) {
+    return IntResult.err(error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public LongResult<E> mapToLong(@NotNull ToLongFunction<? super T> fn) {
+    return LongResult.err(error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DoubleResult<E> mapToDouble(@NotNull ToDoubleFunction<? super T> fn) {
+    return DoubleResult.err(error);
+  }
+
   /** {@inheritDoc} */
   @Override
   public <U> Result<T, U> mapError(@NotNull Function<? super E, ? extends U> fn) {
@@ -96,15 +153,14 @@ public class Err<T, E> extends Result<T, E> {
   /** {@inheritDoc} */
   @Override
   public boolean equals(Object o) {
-    if (o == null || getClass() != o.getClass()) return false;
-    if (!super.equals(o)) return false;
-    Err<?, ?> err = (Err<?, ?>) o;
-    return Objects.equals(error, err.error);
+    if (this == o) return true;
+    if (!(o instanceof Err<?, ?> err)) return false;
+    return error.equals(err.error);
   }
 
   /** {@inheritDoc} */
   @Override
   public int hashCode() {
-    return Objects.hash(super.hashCode(), error);
+    return Result.errorHash(error);
   }
 }
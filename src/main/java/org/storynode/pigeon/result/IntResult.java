@@ -0,0 +1,274 @@
+package org.storynode.pigeon.result;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.storynode.pigeon.error.UnwrapException;
+
+/**
+ * A {@link org.storynode.pigeon.result.Result} specialized for <code>int</code> values. The value
+ * is held unboxed, so producing, mapping and unwrapping a successful outcome never allocates a
+ * {@link java.lang.Integer}.
+ *
+ * <p>Use {@link #from(Result)} and {@link #toResult()} to move between this and the generic {@link
+ * org.storynode.pigeon.result.Result}.
+ *
+ * @param <E> The type of the error value
+ * @see Result#mapToInt
+ */
+public final class IntResult<E> {
+  private final int value;
+  private final E error;
+
+  private IntResult(int value, E error) {
+    this.value = value;
+    this.error = error;
+  }
+
+  /**
+   * Constructs an ok variant of an {@link IntResult}.
+   *
+   * @param value The value of the result for the ok state
+   * @return The constructed result
+   * @param <E> The type of the error value
+   */
+  @Contract(value = "_ -> new", pure = true)
+  public static <E> @NotNull IntResult<E> ok(int value) {
+    return new IntResult<>(value, null);
+  }
+
+  /**
+   * Constructs an error variant of an {@link IntResult}.
+   *
+   * @param error The value of the result for the error state
+   * @return The constructed result
+   * @param <E> The type of the error value
+   */
+  @Contract(value = "_ -> new", pure = true)
+  public static <E> @NotNull IntResult<E> err(@NotNull E error) {
+    return new IntResult<>(0, Objects.requireNonNull(error));
+  }
+
+  /**
+   * Converts a generic {@link org.storynode.pigeon.result.Result} holding a boxed value to its
+   * specialized counterpart
+   *
+   * @param result The result to convert
+   * @return The specialized result
+   * @param <E> The type of the error value
+   */
+  public static <E> @NotNull IntResult<E> from(@NotNull Result<Integer, E> result) {
+    return result.mapToInt(Integer::intValue);
+  }
+
+  /**
+   * Whether this is ok, meaning it contains a value and not an error
+   *
+   * @return <code>true</code> if this contains an ok value, <code>false</code> if it contains an
+   *     error
+   */
+  public boolean isOk() {
+    return error == null;
+  }
+
+  /**
+   * Whether this is an error
+   *
+   * @return <code>true</code> if this contains an error, <code>false</code> if it contains a value
+   */
+  public boolean isErr() {
+    return error != null;
+  }
+
+  /**
+   * Returns <code>true</code> if the result contains a value and that value satisfies a <code>
+   * predicate</code>
+   *
+   * @param predicate The predicate to satisfy
+   * @return If the value is present and satisfies the predicate
+   */
+  public boolean isOkAnd(@NotNull IntPredicate predicate) {
+    return error == null && predicate.test(value);
+  }
+
+  /**
+   * Returns <code>true</code> if the result contains an error and that error satisfies a <code>
+   * predicate</code>
+   *
+   * @param predicate The predicate to satisfy
+   * @return If the error is present and satisfies the predicate
+   */
+  public boolean isErrAnd(@NotNull Predicate<E> predicate) {
+    return error != null && predicate.test(error);
+  }
+
+  /**
+   * Unwraps and returns the inner value, if present.
+   *
+   * @return The inner value
+   * @throws org.storynode.pigeon.error.UnwrapException if this contains an error
+   */
+  public int unwrap() throws UnwrapException {
+    if (error != null) {
+      throw new UnwrapException("Cannot unwrap value on an Err<> value");
+    }
+    return value;
+  }
+
+  /**
+   * Unwraps and returns the inner error, if present.
+   *
+   * @return The inner error
+   * @throws org.storynode.pigeon.error.UnwrapException if this contains a value
+   */
+  public E unwrapError() throws UnwrapException {
+    if (error == null) {
+      throw new UnwrapException("Cannot unwrap error on an Ok<> value");
+    }
+    return error;
+  }
+
+  /**
+   * Unwraps the contained value, or returns a default one if this contains an error
+   *
+   * @param defaultValue The value to return in place of the error
+   * @return The contained value or the default one, depending on which is appropriate
+   */
+  public int orElse(int defaultValue) {
+    return error == null ? value : defaultValue;
+  }
+
+  /**
+   * Unwraps the contained value, or returns a default one if this contains an error
+   *
+   * @param defaultValueSupplier The supplier for the value to return in place of the error
+   * @return The contained value or the default one, depending on which is appropriate
+   */
+  public int orElseGet(@NotNull IntSupplier defaultValueSupplier) {
+    return error == null ? value : defaultValueSupplier.getAsInt();
+  }
+
+  /**
+   * Maps the contained value by applying a function to it, leaving a result that contains an error
+   * untouched.
+   *
+   * @param fn The function to apply to the value
+   * @return The mapped result
+   */
+  public @NotNull IntResult<E> map(@NotNull IntUnaryOperator fn) {
+    return error == null ? ok(fn.applyAsInt(value)) : this;
+  }
+
+  /**
+   * Maps the contained value to a <code>long</code> by applying a function to it, leaving a result
+   * that contains an error untouched.
+   *
+   * @param fn The function to apply to the value
+   * @return The mapped result
+   */
+  public @NotNull LongResult<E> mapToLong(@NotNull IntToLongFunction fn) {
+    return error == null ? LongResult.ok(fn.applyAsLong(value)) : LongResult.err(error);
+  }
+
+  /**
+   * Maps the contained value to a <code>double</code> by applying a function to it, leaving a
+   * result that contains an error untouched.
+   *
+   * @param fn The function to apply to the value
+   * @return The mapped result
+   */
+  public @NotNull DoubleResult<E> mapToDouble(@NotNull IntToDoubleFunction fn) {
+    return error == null ? DoubleResult.ok(fn.applyAsDouble(value)) : DoubleResult.err(error);
+  }
+
+  /**
+   * Maps the contained value to an object by applying a function to it, leaving a result that
+   * contains an error untouched.
+   *
+   * @param fn The function to apply to the value
+   * @return The mapped {@link org.storynode.pigeon.result.Result}
+   * @param <U> The type of the new value
+   */
+  public <U> @NotNull Result<U, E> mapToObj(@NotNull IntFunction<? extends U> fn) {
+    return error == null ? Result.ok(fn.apply(value)) : Result.err(error);
+  }
+
+  /**
+   * Like {@link #map(IntUnaryOperator)} but does not re-wrap the result of the provided mapping
+   * function
+   *
+   * @param fn The mapping function to apply
+   * @return The mapped result
+   */
+  public @NotNull IntResult<E> flatMap(@NotNull IntFunction<IntResult<E>> fn) {
+    return error == null ? fn.apply(value) : this;
+  }
+
+  /**
+   * Maps the contained error by applying a function to it, leaving a result that contains a value
+   * untouched.
+   *
+   * @param fn The function to apply to the error
+   * @return The mapped result
+   * @param <U> The type of the new error
+   */
+  @SuppressWarnings("unchecked")
+  public <U> @NotNull IntResult<U> mapError(@NotNull Function<? super E, ? extends U> fn) {
+    return error == null ? (IntResult<U>) this : err(fn.apply(error));
+  }
+
+  /**
+   * Executes <code>whenOk</code> if this contains a value, <code>whenError</code> otherwise.
+   *
+   * @param whenOk The function to execute when this contains a value
+   * @param whenError The function to execute when this contains an error
+   * @return this instance (for chaining)
+   */
+  public IntResult<E> ifOkOrElse(IntConsumer whenOk, Consumer<E> whenError) {
+    if (error == null) {
+      whenOk.accept(value);
+    } else {
+      whenError.accept(error);
+    }
+    return this;
+  }
+
+  /**
+   * Converts this to a generic {@link org.storynode.pigeon.result.Result}, boxing the value
+   *
+   * @return The equivalent {@link org.storynode.pigeon.result.Result}
+   */
+  public @NotNull Result<Integer, E> toResult() {
+    return error == null ? Result.ok(value) : Result.err(error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof IntResult<?> other)) return false;
+    return error == null ? other.error == null && value == other.value : error.equals(other.error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int hashCode() {
+    return error == null ? Integer.hashCode(value) : Result.errorHash(error);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return error == null ? "Ok[value=" + value + ']' : "Err[error=" + error + ']';
+  }
+}
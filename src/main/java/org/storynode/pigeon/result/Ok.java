@@ -1,11 +1,15 @@
 package org.storynode.pigeon.result;
 
-import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import org.jetbrains.annotations.NotNull;
 import org.storynode.pigeon.error.UnwrapException;
+import org.storynode.pigeon.option.Option;
+import org.storynode.pigeon.tuple.Unit;
 
 /**
  * {@link org.storynode.pigeon.result.Result} variant for ok values.
@@ -14,7 +18,21 @@ import org.storynode.pigeon.error.UnwrapException;
  * @see Result
  * @author Andrea Coronese
  */
-public class Ok<T, E> extends Result<T, E> {
+public final class Ok<T, E> extends Result<T, E> {
+  private static final int SMALL_INT_MIN = -128;
+  private static final int SMALL_INT_MAX = 127;
+  private static final Ok<?, ?>[] SMALL_INTS = new Ok<?, ?>[SMALL_INT_MAX - SMALL_INT_MIN + 1];
+  private static final Ok<?, ?> UNIT = new Ok<>(Unit.unit());
+  private static final Ok<?, ?> NONE = new Ok<>(Option.none());
+  private static final Ok<?, ?> TRUE = new Ok<>(Boolean.TRUE);
+  private static final Ok<?, ?> FALSE = new Ok<>(Boolean.FALSE);
+
+  static {
+    for (int i = 0; i < SMALL_INTS.length; i++) {
+      SMALL_INTS[i] = new Ok<>(SMALL_INT_MIN + i);
+    }
+  }
+
   private final T value;
 
   /**
@@ -22,10 +40,38 @@ public class Ok<T, E> extends Result<T, E> {
    *
    * @param value The value for the 'ok' result
    */
-  protected Ok(@NotNull T value) {
+  Ok(@NotNull T value) {
     this.value = value;
   }
 
+  /**
+   * Returns the shared instance for <code>value</code> if there is one, or a new {@link
+   * org.storynode.pigeon.result.Ok} otherwise
+   *
+   * @param value The value for the 'ok' result
+   * @return An {@link org.storynode.pigeon.result.Ok} holding <code>value</code>
+   * @param <T> The type of the ok value
+   * @param <E> The type of the error value
+   */
+  @SuppressWarnings("unchecked")
+  static <T, E> @NotNull Ok<T, E> valueOf(@NotNull T value) {
+    Ok<?, ?> shared = null;
+    if (value == Unit.unit()) {
+      shared = UNIT;
+    } else if (value == Option.none()) {
+      shared = NONE;
+    } else if (value instanceof Boolean bool) {
+      shared = bool ? TRUE : FALSE;
+    } else if (value instanceof Integer integer) {
+      int i = integer;
+      if (i >= SMALL_INT_MIN && i <= SMALL_INT_MAX) {
+        shared = SMALL_INTS[i - SMALL_INT_MIN];
+      }
+    }
+
+    return shared != null ? (Ok<T, E>) shared : new Ok<>(value);
+  }
+
   /** {@inheritDoc} */
   @Override
   public boolean isOk() {
@@ -38,6 +84,16 @@ public class Ok<T, E> extends Result<T, E> {
     return value;
   }
 
+  /**
+   * The contained value. Unlike {@link #unwrap()} this is only available once the variant is known,
+   * so it can never fail.
+   *
+   * @return The contained value
+   */
+  public T value() {
+    return value;
+  }
+
   /** {@inheritDoc} */
   @Override
   public E unwrapError() throws UnwrapException {
@@ -62,6 +118,24 @@ public class Ok<T, E> extends Result<T, E> {
     return fn.apply(value);
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public IntResult<E> mapToInt(@NotNull ToIntFunction<? super T> fn) {
+    return IntResult.ok(fn.applyAsInt(value));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public LongResult<E> mapToLong(@NotNull ToLongFunction<? super T> fn) {
+    return LongResult.ok(fn.applyAsLong(value));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public DoubleResult<E> mapToDouble(@NotNull ToDoubleFunction<? super T> fn) {
+    return DoubleResult.ok(fn.applyAsDouble(value));
+  }
+
   /** {@inheritDoc} */
   @Override
   public <U> Result<T, U> mapError(@NotNull Function<? super E, ? extends U> fn) {
@@ -96,15 +170,14 @@ public class Ok<T, E> extends Result<T, E> {
   /** {@inheritDoc} */
   @Override
   public boolean equals(Object o) {
-    if (o == null || getClass() != o.getClass()) return false;
-    if (!super.equals(o)) return false;
-    Ok<?, ?> ok = (Ok<?, ?>) o;
-    return Objects.equals(value, ok.value);
+    if (this == o) return true;
+    if (!(o instanceof Ok<?, ?> ok)) return false;
+    return value.equals(ok.value);
   }
 
   /** {@inheritDoc} */
   @Override
   public int hashCode() {
-    return Objects.hash(super.hashCode(), value);
+    return value.hashCode();
   }
 }
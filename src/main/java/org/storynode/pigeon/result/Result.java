@@ -5,11 +5,15 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.storynode.pigeon.protocol.ThrowingSupplier;
 import org.storynode.pigeon.protocol.Wrapped;
 import org.storynode.pigeon.tuple.Pair;
+import org.storynode.pigeon.tuple.Unit;
 
 /**
  * A type representing the outcome of some operation, which value can be some value or some error
@@ -46,24 +50,53 @@ import org.storynode.pigeon.tuple.Pair;
  * {@code Result.of(() -> 8 / 0)}
  * </pre>
  *
+ * <h3>Deconstruction</h3>
+ *
+ * The only variants of a {@link org.storynode.pigeon.result.Result} are {@link
+ * org.storynode.pigeon.result.Ok} and {@link org.storynode.pigeon.result.Err}, so a type pattern on
+ * one of them covers every case left out by the other
+ *
+ * <pre>{@code
+ * if (result instanceof Ok<String, Exception> ok) {
+ *   return ok.value();
+ * } else {
+ *   return ((Err<String, Exception>) result).error().getMessage();
+ * }
+ * }</pre>
+ *
  * @param <T> The type of the ok value
  * @param <E> The type of the error value
  * @author Andrea Coronese
  * @since 1.0.0
  */
-public abstract class Result<T, E> implements Wrapped<T> {
+public abstract sealed class Result<T, E> implements Wrapped<T> permits Ok, Err {
 
   /**
-   * Constructs an ok variant of a {@link org.storynode.pigeon.result.Result}.
+   * Constructs an ok variant of a {@link org.storynode.pigeon.result.Result}. Results for {@link
+   * org.storynode.pigeon.tuple.Unit}, booleans, the empty {@link
+   * org.storynode.pigeon.option.Option} and integers between -128 and 127 are shared instances,
+   * like {@link Integer#valueOf(int)} does for boxed integers, so they are never allocated.
    *
    * @param inner The value of the result for the ok state
    * @return The constructed result
    * @param <T> The type of the ok value
    * @param <E> The type of the error value
    */
-  @Contract(value = "_ -> new", pure = true)
+  @Contract(pure = true)
   public static <T, E> @NotNull Result<T, E> ok(@NotNull T inner) {
-    return new Ok<>(Objects.requireNonNull(inner));
+    return Ok.valueOf(Objects.requireNonNull(inner));
+  }
+
+  /**
+   * The shared ok variant of a {@link org.storynode.pigeon.result.Result} for operations that only
+   * have side effects and produce no value.
+   *
+   * @return The ok result holding {@link org.storynode.pigeon.tuple.Unit}
+   * @param <E> The type of the error value
+   */
+  @Contract(pure = true)
+  public static <E> @NotNull Result<Unit, E> ok() {
+    return Ok.valueOf(Unit.unit());
   }
 
   /**
@@ -92,6 +125,22 @@ public abstract class Result<T, E> implements Wrapped<T> {
     return err(error);
   }
 
+  /**
+   * Constructs an error variant of a {@link org.storynode.pigeon.result.Result} for a constant
+   * error value. Every constant of an enum has exactly one {@link org.storynode.pigeon.result.Err}
+   * instance, which is shared by all callers, so this never allocates. Enums implementing {@link
+   * org.storynode.pigeon.error.ErrorCode} are the intended use.
+   *
+   * @param code The constant error value
+   * @return The shared {@link org.storynode.pigeon.result.Err} for <code>code</code>
+   * @param <T> The type of the ok value
+   * @param <E> The type of the error value
+   */
+  @Contract(pure = true)
+  public static <T, E extends Enum<E>> @NotNull Result<T, E> failure(@NotNull E code) {
+    return Err.constant(code);
+  }
+
   /**
    * Constructs a new {@link org.storynode.pigeon.result.Result} by using the provided function
    * return value. If the supplier completes exceptionally, the {@link
@@ -164,6 +213,36 @@ public abstract class Result<T, E> implements Wrapped<T> {
    */
   public abstract <U> Result<U, E> flatMap(@NotNull Function<? super T, ? extends Result<U, E>> fn);
 
+  /**
+   * Maps a <code>Result&lt;T, E&gt;</code> to a {@link IntResult} by applying a function to a
+   * contained value, leaving a result that contains an error untouched. The mapped value is never
+   * boxed.
+   *
+   * @param fn The function to apply to the value
+   * @return The mapped {@link IntResult}
+   */
+  public abstract IntResult<E> mapToInt(@NotNull ToIntFunction<? super T> fn);
+
+  /**
+   * Maps a <code>Result&lt;T, E&gt;</code> to a {@link LongResult} by applying a function to a
+   * contained value, leaving a result that contains an error untouched. The mapped value is never
+   * boxed.
+   *
+   * @param fn The function to apply to the value
+   * @return The mapped {@link LongResult}
+   */
+  public abstract LongResult<E> mapToLong(@NotNull ToLongFunction<? super T> fn);
+
+  /**
+   * Maps a <code>Result&lt;T, E&gt;</code> to a {@link DoubleResult} by applying a function to a
+   * contained value, leaving a result that contains an error untouched. The mapped value is never
+   * boxed.
+   *
+   * @param fn The function to apply to the value
+   * @return The mapped {@link DoubleResult}
+   */
+  public abstract DoubleResult<E> mapToDouble(@NotNull ToDoubleFunction<? super T> fn);
+
   /**
    * Maps a <code>Result&lt;T, E&gt;</code> to <code>Result&lt;T, U&gt;</code> by applying a
    * function to a contained error, leaving a result that contains a value untouched. This can be
@@ -282,25 +361,31 @@ public abstract class Result<T, E> implements Wrapped<T> {
     }
   }
 
-  /** {@inheritDoc} */
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Consistent with {@link #equals(Object)}: results of the same variant holding equal values
+   * have the same hash code, so results can be used as keys in hash based collections.
+   */
   @Override
-  public int hashCode() {
-    return super.hashCode();
+  public abstract int hashCode();
+
+  /**
+   * The hash code of an error, mixed so that it lands far from the hash code of an ok value equal
+   * to it, or close to it
+   *
+   * @param error The error held by an error result
+   * @return The hash code of the error result
+   */
+  static int errorHash(@NotNull Object error) {
+    return Integer.rotateLeft(error.hashCode(), 16) ^ 0x9E3779B9;
   }
 
-  /** {@inheritDoc} */
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Two results are equal when they are the same variant and hold equal values.
+   */
   @Override
-  public boolean equals(Object other) {
-    if (this == other) {
-      return true;
-    }
-
-    if (other == null || getClass() != other.getClass()) {
-      return false;
-    }
-
-    Result<?, ?> otherResult = (Result<?, ?>) other;
-    return (otherResult.isOk() && isOk() && unwrap().equals(otherResult.unwrap()))
-        || (otherResult.isErr() && isErr() && unwrapError().equals(otherResult.unwrapError()));
-  }
+  public abstract boolean equals(Object other);
 }
@@ -0,0 +1,206 @@
+package org.storynode.pigeon.tuple;
+
+import java.util.Objects;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.storynode.pigeon.option.Option;
+
+/**
+ * A tuple of three elements that can be changed in place, the mutable counterpart of {@link
+ * Triplet}.
+ *
+ * <p>It is meant to be reused as a buffer, for example as the accumulator of a loop, instead of
+ * allocating a new {@link Triplet} for each record. Call {@link #freeze()} to get an immutable copy
+ * of its current elements.
+ *
+ * <p>Equality and hash code depend on the current elements, so a mutable tuple must not be changed
+ * while it is a key of a map or an element of a set. It is not thread safe.
+ *
+ * @param <T1> The type of the first element
+ * @param <T2> The type of the second element
+ * @param <T3> The type of the third element
+ */
+public final class MutableTriplet<T1, T2, T3> extends Tuple {
+  private T1 first;
+  private T2 second;
+  private T3 third;
+
+  /** Creates a {@link MutableTriplet} with all its elements set to <code>null</code> */
+  public MutableTriplet() {}
+
+  /**
+   * Creates a {@link MutableTriplet} with the given elements
+   *
+   * @param first The initial first element
+   * @param second The initial second element
+   * @param third The initial third element
+   */
+  public MutableTriplet(T1 first, T2 second, T3 third) {
+    this.first = first;
+    this.second = second;
+    this.third = third;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int cardinality() {
+    return 3;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NotNull Option<Object> at(int index) {
+    return switch (index) {
+      case 0 -> Option.of(this.first);
+      case 1 -> Option.of(this.second);
+      case 2 -> Option.of(this.third);
+      default -> Option.none();
+    };
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object get(int index) {
+    return switch (index) {
+      case 0 -> this.first;
+      case 1 -> this.second;
+      case 2 -> this.third;
+      default -> throw new IndexOutOfBoundsException(index);
+    };
+  }
+
+  /**
+   * The first element of the tuple
+   *
+   * @return The first element
+   */
+  public T1 first() {
+    return first;
+  }
+
+  /**
+   * Replaces the first element of the tuple
+   *
+   * @param first The new first element
+   * @return This same tuple, to chain further calls
+   */
+  @Contract(value = "_ -> this", mutates = "this")
+  public @NotNull MutableTriplet<T1, T2, T3> setFirst(T1 first) {
+    this.first = first;
+    return this;
+  }
+
+  /**
+   * The second element of the tuple
+   *
+   * @return The second element
+   */
+  public T2 second() {
+    return second;
+  }
+
+  /**
+   * Replaces the second element of the tuple
+   *
+   * @param second The new second element
+   * @return This same tuple, to chain further calls
+   */
+  @Contract(value = "_ -> this", mutates = "this")
+  public @NotNull MutableTriplet<T1, T2, T3> setSecond(T2 second) {
+    this.second = second;
+    return this;
+  }
+
+  /**
+   * The third element of the tuple
+   *
+   * @return The third element
+   */
+  public T3 third() {
+    return third;
+  }
+
+  /**
+   * Replaces the third element of the tuple
+   *
+   * @param third The new third element
+   * @return This same tuple, to chain further calls
+   */
+  @Contract(value = "_ -> this", mutates = "this")
+  public @NotNull MutableTriplet<T1, T2, T3> setThird(T3 third) {
+    this.third = third;
+    return this;
+  }
+
+  /**
+   * Replaces all the elements of the tuple at once
+   *
+   * @param first The new first element
+   * @param second The new second element
+   * @param third The new third element
+   * @return This same tuple, to chain further calls
+   */
+  @Contract(value = "_, _, _ -> this", mutates = "this")
+  public @NotNull MutableTriplet<T1, T2, T3> set(T1 first, T2 second, T3 third) {
+    this.first = first;
+    this.second = second;
+    this.third = third;
+    return this;
+  }
+
+  /**
+   * An immutable copy of the current elements of this tuple. Later changes to this tuple do not
+   * affect the copy.
+   *
+   * @return A new {@link Triplet} with the current elements
+   */
+  @Contract(" -> new")
+  public @NotNull Triplet<T1, T2, T3> freeze() {
+    return new Triplet<>(first, second, third);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>A mutable tuple is only equal to another mutable tuple of the same kind, never to a {@link
+   * Triplet}.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof MutableTriplet<?, ?, ?> other)) return false;
+    return Objects.equals(first, other.first)
+        && Objects.equals(second, other.second)
+        && Objects.equals(third, other.third);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The hash code is computed from the current elements on each call, and is the same as the one
+   * of the {@link Triplet} returned by {@link #freeze()}.
+   */
+  @Override
+  public int hashCode() {
+    int h = 1;
+    h = 31 * h + Objects.hashCode(first);
+    h = 31 * h + Objects.hashCode(second);
+    h = 31 * h + Objects.hashCode(third);
+    return h;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return "MutableTriplet["
+        + "first="
+        + first
+        + ", "
+        + "second="
+        + second
+        + ", "
+        + "third="
+        + third
+        + ']';
+  }
+}
@@ -0,0 +1,56 @@
+package org.storynode.pigeon.tuple;
+
+/**
+ * How a single element position is ordered by the comparators of {@link TupleComparators}: the
+ * direction of the natural ordering of the elements and where <code>null</code> elements go.
+ *
+ * <p>{@link #ASCENDING} and {@link #DESCENDING} do not accept <code>null</code> elements, like
+ * {@link java.util.Comparator#naturalOrder()} and {@link java.util.Comparator#reverseOrder()}. The
+ * other constants place <code>null</code> elements before or after all the others, regardless of
+ * the direction.
+ */
+public enum Ordering {
+  /** Natural ordering, <code>null</code> elements are rejected */
+  ASCENDING(false, 0),
+  /** Reversed natural ordering, <code>null</code> elements are rejected */
+  DESCENDING(true, 0),
+  /** Natural ordering, <code>null</code> elements first */
+  ASCENDING_NULLS_FIRST(false, -1),
+  /** Natural ordering, <code>null</code> elements last */
+  ASCENDING_NULLS_LAST(false, 1),
+  /** Reversed natural ordering, <code>null</code> elements first */
+  DESCENDING_NULLS_FIRST(true, -1),
+  /** Reversed natural ordering, <code>null</code> elements last */
+  DESCENDING_NULLS_LAST(true, 1);
+
+  private final boolean descending;
+
+  /** Sign of the comparison of a null element with a non-null one, 0 if nulls are rejected */
+  private final int nulls;
+
+  Ordering(boolean descending, int nulls) {
+    this.descending = descending;
+    this.nulls = nulls;
+  }
+
+  /**
+   * Compares two elements according to this ordering. This is a plain method reading the fields of
+   * the constant, so comparators calling it for each element do not dispatch through lambdas.
+   *
+   * @throws java.lang.NullPointerException if an element is <code>null</code> and this ordering
+   *     does not accept <code>null</code> elements
+   * @throws java.lang.ClassCastException if the elements are not {@link java.lang.Comparable} with
+   *     each other
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  int compare(Object left, Object right) {
+    if (left == null || right == null) {
+      if (nulls == 0) {
+        throw new NullPointerException("Null elements are not allowed by " + this);
+      }
+      return left == right ? 0 : left == null ? nulls : -nulls;
+    }
+
+    return descending ? ((Comparable) right).compareTo(left) : ((Comparable) left).compareTo(right);
+  }
+}
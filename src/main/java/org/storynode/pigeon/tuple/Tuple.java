@@ -2,7 +2,12 @@ package org.storynode.pigeon.tuple;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.storynode.pigeon.option.Option;
@@ -85,6 +90,212 @@ public abstract class Tuple {
     return new Quintet<>(first, second, third, fourth, fifth);
   }
 
+  /**
+   * Creates a {@link org.storynode.pigeon.tuple.Tuple} of six elements
+   *
+   * @param first The first element
+   * @param second The second element
+   * @param third The third element
+   * @param fourth The fourth element
+   * @param fifth The fifth element
+   * @param sixth The sixth element
+   * @param <T1> The type of the first element
+   * @param <T2> The type of the second element
+   * @param <T3> The type of the third element
+   * @param <T4> The type of the fourth element
+   * @param <T5> The type of the fifth element
+   * @param <T6> The type of the sixth element
+   * @return The {@link org.storynode.pigeon.tuple.Tuple}
+   */
+  @Contract("_, _, _, _, _, _ -> new")
+  public static <T1, T2, T3, T4, T5, T6> @NotNull Sextet<T1, T2, T3, T4, T5, T6> of(
+      T1 first, T2 second, T3 third, T4 fourth, T5 fifth, T6 sixth) {
+    return new Sextet<>(first, second, third, fourth, fifth, sixth);
+  }
+
+  /**
+   * Creates a {@link org.storynode.pigeon.tuple.Tuple} of seven elements
+   *
+   * @param first The first element
+   * @param second The second element
+   * @param third The third element
+   * @param fourth The fourth element
+   * @param fifth The fifth element
+   * @param sixth The sixth element
+   * @param seventh The seventh element
+   * @param <T1> The type of the first element
+   * @param <T2> The type of the second element
+   * @param <T3> The type of the third element
+   * @param <T4> The type of the fourth element
+   * @param <T5> The type of the fifth element
+   * @param <T6> The type of the sixth element
+   * @param <T7> The type of the seventh element
+   * @return The {@link org.storynode.pigeon.tuple.Tuple}
+   */
+  @Contract("_, _, _, _, _, _, _ -> new")
+  public static <T1, T2, T3, T4, T5, T6, T7> @NotNull Septet<T1, T2, T3, T4, T5, T6, T7> of(
+      T1 first, T2 second, T3 third, T4 fourth, T5 fifth, T6 sixth, T7 seventh) {
+    return new Septet<>(first, second, third, fourth, fifth, sixth, seventh);
+  }
+
+  /**
+   * Creates a {@link org.storynode.pigeon.tuple.Tuple} of eight elements
+   *
+   * @param first The first element
+   * @param second The second element
+   * @param third The third element
+   * @param fourth The fourth element
+   * @param fifth The fifth element
+   * @param sixth The sixth element
+   * @param seventh The seventh element
+   * @param eighth The eighth element
+   * @param <T1> The type of the first element
+   * @param <T2> The type of the second element
+   * @param <T3> The type of the third element
+   * @param <T4> The type of the fourth element
+   * @param <T5> The type of the fifth element
+   * @param <T6> The type of the sixth element
+   * @param <T7> The type of the seventh element
+   * @param <T8> The type of the eighth element
+   * @return The {@link org.storynode.pigeon.tuple.Tuple}
+   */
+  @Contract("_, _, _, _, _, _, _, _ -> new")
+  public static <T1, T2, T3, T4, T5, T6, T7, T8> @NotNull Octet<T1, T2, T3, T4, T5, T6, T7, T8> of(
+      T1 first, T2 second, T3 third, T4 fourth, T5 fifth, T6 sixth, T7 seventh, T8 eighth) {
+    return new Octet<>(first, second, third, fourth, fifth, sixth, seventh, eighth);
+  }
+
+  /**
+   * Creates a {@link org.storynode.pigeon.tuple.Tuple} of nine elements
+   *
+   * @param first The first element
+   * @param second The second element
+   * @param third The third element
+   * @param fourth The fourth element
+   * @param fifth The fifth element
+   * @param sixth The sixth element
+   * @param seventh The seventh element
+   * @param eighth The eighth element
+   * @param ninth The ninth element
+   * @param <T1> The type of the first element
+   * @param <T2> The type of the second element
+   * @param <T3> The type of the third element
+   * @param <T4> The type of the fourth element
+   * @param <T5> The type of the fifth element
+   * @param <T6> The type of the sixth element
+   * @param <T7> The type of the seventh element
+   * @param <T8> The type of the eighth element
+   * @param <T9> The type of the ninth element
+   * @return The {@link org.storynode.pigeon.tuple.Tuple}
+   */
+  @Contract("_, _, _, _, _, _, _, _, _ -> new")
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9>
+      @NotNull Nonet<T1, T2, T3, T4, T5, T6, T7, T8, T9> of(
+          T1 first,
+          T2 second,
+          T3 third,
+          T4 fourth,
+          T5 fifth,
+          T6 sixth,
+          T7 seventh,
+          T8 eighth,
+          T9 ninth) {
+    return new Nonet<>(first, second, third, fourth, fifth, sixth, seventh, eighth, ninth);
+  }
+
+  /**
+   * Creates a {@link org.storynode.pigeon.tuple.Tuple} of ten elements
+   *
+   * @param first The first element
+   * @param second The second element
+   * @param third The third element
+   * @param fourth The fourth element
+   * @param fifth The fifth element
+   * @param sixth The sixth element
+   * @param seventh The seventh element
+   * @param eighth The eighth element
+   * @param ninth The ninth element
+   * @param tenth The tenth element
+   * @param <T1> The type of the first element
+   * @param <T2> The type of the second element
+   * @param <T3> The type of the third element
+   * @param <T4> The type of the fourth element
+   * @param <T5> The type of the fifth element
+   * @param <T6> The type of the sixth element
+   * @param <T7> The type of the seventh element
+   * @param <T8> The type of the eighth element
+   * @param <T9> The type of the ninth element
+   * @param <T10> The type of the tenth element
+   * @return The {@link org.storynode.pigeon.tuple.Tuple}
+   */
+  @Contract("_, _, _, _, _, _, _, _, _, _ -> new")
+  public static <T1, T2, T3, T4, T5, T6, T7, T8, T9, T10>
+      @NotNull Decet<T1, T2, T3, T4, T5, T6, T7, T8, T9, T10> of(
+          T1 first,
+          T2 second,
+          T3 third,
+          T4 fourth,
+          T5 fifth,
+          T6 sixth,
+          T7 seventh,
+          T8 eighth,
+          T9 ninth,
+          T10 tenth) {
+    return new Decet<>(first, second, third, fourth, fifth, sixth, seventh, eighth, ninth, tenth);
+  }
+
+  /**
+   * Creates a {@link org.storynode.pigeon.tuple.Tuple} of two <code>int</code> elements, without
+   * boxing them
+   *
+   * @param first The first element
+   * @param second The second element
+   * @return The {@link org.storynode.pigeon.tuple.IntPair}
+   */
+  @Contract("_, _ -> new")
+  public static @NotNull IntPair ofInts(int first, int second) {
+    return new IntPair(first, second);
+  }
+
+  /**
+   * Creates a {@link org.storynode.pigeon.tuple.Tuple} of two <code>long</code> elements, without
+   * boxing them
+   *
+   * @param first The first element
+   * @param second The second element
+   * @return The {@link org.storynode.pigeon.tuple.LongPair}
+   */
+  @Contract("_, _ -> new")
+  public static @NotNull LongPair ofLongs(long first, long second) {
+    return new LongPair(first, second);
+  }
+
+  /**
+   * Creates a {@link org.storynode.pigeon.tuple.Tuple} of two <code>double</code> elements, without
+   * boxing them
+   *
+   * @param first The first element
+   * @param second The second element
+   * @return The {@link org.storynode.pigeon.tuple.DoublePair}
+   */
+  @Contract("_, _ -> new")
+  public static @NotNull DoublePair ofDoubles(double first, double second) {
+    return new DoublePair(first, second);
+  }
+
+  /**
+   * Creates a {@link org.storynode.pigeon.tuple.Tuple} of an <code>int</code> and a <code>long
+   * </code> element, without boxing them
+   *
+   * @param first The first element
+   * @param second The second element
+   * @return The {@link org.storynode.pigeon.tuple.IntLongPair}
+   */
+  @Contract("_, _ -> new")
+  public static @NotNull IntLongPair ofIntLong(int first, long second) {
+    return new IntLongPair(first, second);
+  }
+
   /**
    * The number of items in the tuple
    *
@@ -101,83 +312,172 @@ public abstract class Tuple {
    */
   abstract @NotNull Option<Object> at(int index);
 
+  /**
+   * The n-th item in the tuple. Unlike {@link #at(int)} the item is returned as is, without being
+   * wrapped in an {@link org.storynode.pigeon.option.Option}.
+   *
+   * @param index the 0-based index that identifies the item position
+   * @return The item at the given position, which may be <code>null</code>
+   * @throws java.lang.IndexOutOfBoundsException if <code>index</code> is negative or not less than
+   *     the cardinality of the tuple
+   */
+  public abstract Object get(int index);
+
   /**
    * Enumerates the items in this tuple
    *
    * @return An {@link java.lang.Iterable} of pairs each containing an item and its index
    */
   public Iterable<Pair<Object, Integer>> enumerate() {
-    return new IterableForTuple(this);
+    return () ->
+        new Iterator<>() {
+          private int i = 0;
+
+          @Override
+          public boolean hasNext() {
+            return i < cardinality();
+          }
+
+          @Override
+          public Pair<Object, Integer> next() {
+            if (!this.hasNext()) {
+              throw new NoSuchElementException();
+            }
+
+            int index = i++;
+            return new Pair<>(get(index), index);
+          }
+        };
+  }
+
+  /**
+   * Iterates over the items in this tuple, in order. Each call returns a new, independent iterator.
+   *
+   * @return An iterator over the items in this tuple
+   */
+  public @NotNull Iterator<Object> iterator() {
+    return Spliterators.iterator(spliterator());
+  }
+
+  /**
+   * A {@link java.util.Spliterator} over the items in this tuple. It is {@link
+   * java.util.Spliterator#SIZED}, {@link java.util.Spliterator#SUBSIZED}, {@link
+   * java.util.Spliterator#ORDERED} and {@link java.util.Spliterator#IMMUTABLE}.
+   *
+   * @return A spliterator over the items in this tuple
+   */
+  public @NotNull Spliterator<Object> spliterator() {
+    return new TupleSpliterator(this, 0, cardinality());
+  }
+
+  /**
+   * Streams the items in this tuple, in order
+   *
+   * @return A sequential {@link java.util.stream.Stream} of the items in this tuple
+   */
+  public @NotNull Stream<Object> stream() {
+    return StreamSupport.stream(spliterator(), false);
   }
 
   /**
    * {@inheritDoc}
    *
-   * <p>Checks whether the <code>other</code> instance is equal to <code>this</code>
+   * <p>Checks whether the <code>other</code> instance is equal to <code>this</code>, comparing
+   * items by position.
    */
   @Override
   public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+
     if (other == null || getClass() != other.getClass()) {
       return false;
     }
 
     Tuple otherTuple = (Tuple) other;
-
-    if (this.cardinality() != otherTuple.cardinality()) {
+    int cardinality = this.cardinality();
+    if (cardinality != otherTuple.cardinality()) {
       return false;
     }
 
-    AtomicBoolean eq = new AtomicBoolean(true);
-
-    for (Pair<Object, Integer> entry : this.enumerate()) {
-      var self = entry.first();
-      var otherObj = otherTuple.at(entry.second()).unwrap();
-      if (self != null && !self.equals(otherObj) || (self == null && otherObj != null)) {
-        eq.set(false);
-        break;
+    for (int i = 0; i < cardinality; i++) {
+      if (!Objects.equals(get(i), otherTuple.get(i))) {
+        return false;
       }
     }
 
-    return eq.get();
+    return true;
   }
 
-  /** {@inheritDoc} */
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Consistent with {@link #equals(Object)}: tuples holding equal elements have the same hash
+   * code.
+   */
   @Override
-  public int hashCode() {
-    return super.hashCode();
+  public abstract int hashCode();
+
+  /**
+   * Compares two elements of a tuple, with <code>null</code> coming before any other value. Used by
+   * the <code>compareTo</code> of the fixed-arity tuples.
+   *
+   * @throws java.lang.ClassCastException if the elements are not {@link java.lang.Comparable} with
+   *     each other
+   */
+  static int compareElements(Object left, Object right) {
+    return Ordering.ASCENDING_NULLS_FIRST.compare(left, right);
   }
 
-  private static class IterableForTuple implements Iterable<Pair<Object, Integer>> {
+  private static final class TupleSpliterator implements Spliterator<Object> {
     private final @NotNull Tuple tuple;
-    private int i = 0;
+    private int index;
+    private final int fence;
 
-    public IterableForTuple(@NotNull Tuple tuple) {
+    private TupleSpliterator(@NotNull Tuple tuple, int origin, int fence) {
       this.tuple = tuple;
+      this.index = origin;
+      this.fence = fence;
     }
 
     @Override
-    public @NotNull Iterator<Pair<Object, Integer>> iterator() {
-      return new Iterator<>() {
-        @Override
-        public boolean hasNext() {
-          return i < tuple.cardinality();
-        }
-
-        @Override
-        public Pair<Object, Integer> next() {
-          if (!this.hasNext()) {
-            throw new NoSuchElementException();
-          }
+    public boolean tryAdvance(Consumer<? super Object> action) {
+      if (index >= fence) {
+        return false;
+      }
+
+      action.accept(tuple.get(index++));
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Object> action) {
+      for (; index < fence; index++) {
+        action.accept(tuple.get(index));
+      }
+    }
+
+    @Override
+    public Spliterator<Object> trySplit() {
+      int mid = (index + fence) >>> 1;
+      if (mid <= index) {
+        return null;
+      }
 
-          int index = i;
+      Spliterator<Object> prefix = new TupleSpliterator(tuple, index, mid);
+      index = mid;
+      return prefix;
+    }
 
-          // We can unwrap because of the previous check
-          Object item = tuple.at(index).unwrap();
+    @Override
+    public long estimateSize() {
+      return fence - index;
+    }
 
-          i += 1;
-          return new Pair<>(item, index);
-        }
-      };
+    @Override
+    public int characteristics() {
+      return SIZED | SUBSIZED | ORDERED | IMMUTABLE;
     }
   }
 }
@@ -0,0 +1,372 @@
+package org.storynode.pigeon.tuple;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.storynode.pigeon.option.Option;
+
+/**
+ * A set of tuples that keeps hash indexes over some of their positions, so that rows can be looked
+ * up by the values in those positions without scanning.
+ *
+ * <p>Each index is created with {@link #index(int...)}, naming the positions it covers, and is kept
+ * up to date as rows are added and removed. Lookups return live, read-only views of the matching
+ * rows, without copying them.
+ *
+ * <pre>{@code
+ * TupleIndex<Triplet<String, Integer, Long>> rows = new TupleIndex<>();
+ * TupleIndex.Lookup<Triplet<String, Integer, Long>> byFirst = rows.index(0);
+ * TupleIndex.Lookup<Triplet<String, Integer, Long>> byFirstAndSecond = rows.index(0, 1);
+ *
+ * rows.add(Tuple.of("a", 1, 10L));
+ * byFirst.get("a"); // [Triplet[first=a, second=1, third=10]]
+ * byFirstAndSecond.first("a", 2); // None
+ * }</pre>
+ *
+ * <p>Tuples must not change their elements while they are in the index. Like other {@link
+ * java.util.HashSet}-based collections, this is not thread safe.
+ *
+ * @param <T> The type of the tuples
+ */
+public class TupleIndex<T extends Tuple> extends AbstractSet<T> {
+  private final Set<T> rows;
+  private final List<Lookup<T>> lookups;
+
+  /** Creates an empty {@link TupleIndex} with no indexes */
+  public TupleIndex() {
+    this.rows = new LinkedHashSet<>();
+    this.lookups = new ArrayList<>();
+  }
+
+  /**
+   * Creates a {@link TupleIndex} with no indexes holding the given rows
+   *
+   * @param rows The initial rows
+   */
+  public TupleIndex(@NotNull Collection<? extends T> rows) {
+    this();
+    addAll(rows);
+  }
+
+  /**
+   * Gets the index over the given positions, creating it from the current rows if it does not exist
+   * yet. The order of the positions matters: it is the order of the values passed to the lookup
+   * methods.
+   *
+   * @param positions The 0-based positions covered by the index, at least one and without
+   *     duplicates
+   * @return The index over <code>positions</code>
+   * @throws java.lang.IllegalArgumentException if no positions are given, or if a position is
+   *     negative or repeated
+   * @throws java.lang.IndexOutOfBoundsException if a position is out of range for a row already in
+   *     this collection
+   */
+  @Contract(mutates = "this")
+  public @NotNull Lookup<T> index(int @NotNull ... positions) {
+    if (positions.length == 0) {
+      throw new IllegalArgumentException("An index must cover at least one position");
+    }
+    for (int i = 0; i < positions.length; i++) {
+      if (positions[i] < 0) {
+        throw new IllegalArgumentException("Negative position: " + positions[i]);
+      }
+      for (int j = 0; j < i; j++) {
+        if (positions[i] == positions[j]) {
+          throw new IllegalArgumentException("Repeated position: " + positions[i]);
+        }
+      }
+    }
+
+    for (Lookup<T> lookup : lookups) {
+      if (Arrays.equals(lookup.positions, positions)) {
+        return lookup;
+      }
+    }
+
+    Lookup<T> lookup = new Lookup<>(positions.clone());
+    for (T row : rows) {
+      lookup.add(row, lookup.keyOf(row));
+    }
+    lookups.add(lookup);
+    return lookup;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int size() {
+    return rows.size();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean contains(Object o) {
+    return rows.contains(o);
+  }
+
+  /**
+   * Adds a row and updates every index
+   *
+   * @param row The row to add
+   * @return <code>true</code> if the row was not already present
+   * @throws java.lang.IndexOutOfBoundsException if the row is too short for one of the indexes
+   */
+  @Override
+  public boolean add(@NotNull T row) {
+    // Compute every key first, so a row that does not fit leaves every index untouched
+    Object[] keys = new Object[lookups.size()];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = lookups.get(i).keyOf(row);
+    }
+    if (!rows.add(row)) {
+      return false;
+    }
+    for (int i = 0; i < keys.length; i++) {
+      lookups.get(i).add(row, keys[i]);
+    }
+    return true;
+  }
+
+  /**
+   * Removes a row and updates every index
+   *
+   * @param o The row to remove
+   * @return <code>true</code> if the row was present
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean remove(Object o) {
+    if (!rows.remove(o)) {
+      return false;
+    }
+    for (Lookup<T> lookup : lookups) {
+      lookup.remove((T) o);
+    }
+    return true;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void clear() {
+    rows.clear();
+    for (Lookup<T> lookup : lookups) {
+      lookup.buckets.clear();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Rows are iterated in insertion order. Removing through the iterator updates every index.
+   */
+  @Override
+  public @NotNull Iterator<T> iterator() {
+    Iterator<T> delegate = rows.iterator();
+    return new Iterator<>() {
+      private T current;
+
+      @Override
+      public boolean hasNext() {
+        return delegate.hasNext();
+      }
+
+      @Override
+      public T next() {
+        current = delegate.next();
+        return current;
+      }
+
+      @Override
+      public void remove() {
+        delegate.remove();
+        for (Lookup<T> lookup : lookups) {
+          lookup.remove(current);
+        }
+      }
+    };
+  }
+
+  /**
+   * A hash index over some positions of the rows of a {@link TupleIndex}, obtained from {@link
+   * TupleIndex#index(int...)}.
+   *
+   * @param <T> The type of the tuples
+   */
+  public static final class Lookup<T extends Tuple> {
+    private final int[] positions;
+    private final Map<Object, Set<T>> buckets;
+
+    private Lookup(int[] positions) {
+      this.positions = positions;
+      this.buckets = new HashMap<>();
+    }
+
+    /**
+     * The positions covered by this index
+     *
+     * @return A copy of the positions, in the order lookup values are expected
+     */
+    public int @NotNull [] positions() {
+      return positions.clone();
+    }
+
+    /**
+     * The rows having the given values in the positions of this index. The returned set is a live,
+     * read-only view: it reflects later changes to the rows of the {@link TupleIndex}.
+     *
+     * @param values The values to look for, one for each position of this index and in the same
+     *     order. A <code>null</code> array, as passed by a call like <code>get(null)</code>, stands
+     *     for a single <code>null</code> value.
+     * @return The matching rows, in insertion order, possibly none
+     * @throws java.lang.IllegalArgumentException if the number of values does not match the number
+     *     of positions
+     */
+    public @NotNull Set<T> get(Object... values) {
+      return new Matches(keyOf(values));
+    }
+
+    /**
+     * Like {@link #get(Object...)} for an index over a single position, without allocating an array
+     * for the value
+     *
+     * @param value The value to look for
+     * @return The matching rows, in insertion order, possibly none
+     * @throws java.lang.IllegalArgumentException if this index covers more than one position
+     */
+    public @NotNull Set<T> get(Object value) {
+      checkArity(1);
+      return new Matches(value);
+    }
+
+    /**
+     * The first row added among those having the given values in the positions of this index
+     *
+     * @param values The values to look for, one for each position of this index and in the same
+     *     order. A <code>null</code> array, as passed by a call like <code>get(null)</code>, stands
+     *     for a single <code>null</code> value.
+     * @return The first matching row, or {@link Option#none()} if there is none
+     * @throws java.lang.IllegalArgumentException if the number of values does not match the number
+     *     of positions
+     */
+    public @NotNull Option<T> first(Object... values) {
+      return firstOf(keyOf(values));
+    }
+
+    /**
+     * Like {@link #first(Object...)} for an index over a single position, without allocating an
+     * array for the value
+     *
+     * @param value The value to look for
+     * @return The first matching row, or {@link Option#none()} if there is none
+     * @throws java.lang.IllegalArgumentException if this index covers more than one position
+     */
+    public @NotNull Option<T> first(Object value) {
+      checkArity(1);
+      return firstOf(value);
+    }
+
+    /**
+     * Whether any row has the given values in the positions of this index
+     *
+     * @param values The values to look for, one for each position of this index and in the same
+     *     order. A <code>null</code> array, as passed by a call like <code>get(null)</code>, stands
+     *     for a single <code>null</code> value.
+     * @return <code>true</code> if at least one row matches
+     */
+    public boolean containsKey(Object... values) {
+      return buckets.containsKey(keyOf(values));
+    }
+
+    /**
+     * The number of distinct combinations of values in the positions of this index
+     *
+     * @return The number of distinct keys
+     */
+    public int keyCount() {
+      return buckets.size();
+    }
+
+    private @NotNull Option<T> firstOf(Object key) {
+      Set<T> bucket = buckets.get(key);
+      return bucket == null ? Option.none() : Option.of(bucket.iterator().next());
+    }
+
+    private void checkArity(int count) {
+      if (count != positions.length) {
+        throw new IllegalArgumentException(
+            "Expected " + positions.length + " values, got " + count);
+      }
+    }
+
+    /** Single positions are keyed by the value itself, several by a list of the values */
+    private Object keyOf(Object[] values) {
+      if (values == null) {
+        checkArity(1);
+        return null;
+      }
+      checkArity(values.length);
+      return values.length == 1 ? values[0] : Arrays.asList(values.clone());
+    }
+
+    private Object keyOf(T row) {
+      if (positions.length == 1) {
+        return row.get(positions[0]);
+      }
+      Object[] values = new Object[positions.length];
+      for (int i = 0; i < positions.length; i++) {
+        values[i] = row.get(positions[i]);
+      }
+      return Arrays.asList(values);
+    }
+
+    private void add(T row, Object key) {
+      buckets.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(row);
+    }
+
+    private void remove(T row) {
+      Object key = keyOf(row);
+      Set<T> bucket = buckets.get(key);
+      if (bucket != null && bucket.remove(row) && bucket.isEmpty()) {
+        buckets.remove(key);
+      }
+    }
+
+    /** Live view of the rows under a key, looked up again on each access */
+    private final class Matches extends AbstractSet<T> {
+      private final Object key;
+
+      private Matches(Object key) {
+        this.key = key;
+      }
+
+      private Set<T> bucket() {
+        Set<T> bucket = buckets.get(key);
+        return bucket == null ? Collections.emptySet() : bucket;
+      }
+
+      @Override
+      public @NotNull Iterator<T> iterator() {
+        return Collections.unmodifiableSet(bucket()).iterator();
+      }
+
+      @Override
+      public int size() {
+        return bucket().size();
+      }
+
+      @Override
+      public boolean contains(Object o) {
+        return bucket().contains(o);
+      }
+    }
+  }
+}
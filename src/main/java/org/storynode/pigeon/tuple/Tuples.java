@@ -0,0 +1,296 @@
+package org.storynode.pigeon.tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Static functions to zip lists, arrays and streams into tuples, and to unzip streams of tuples
+ * back into columns.
+ *
+ * <p>Zipped streams stop at the end of the shortest input. When the inputs have the same, known
+ * size they keep {@link java.util.Spliterator#SIZED} and {@link java.util.Spliterator#SUBSIZED}, so
+ * parallel streams split them evenly.
+ */
+@UtilityClass
+public class Tuples {
+  /**
+   * Zips two lists into a stream of {@link Pair}s, by position
+   *
+   * @param first The list of first elements
+   * @param second The list of second elements
+   * @param <T1> The type of the first elements
+   * @param <T2> The type of the second elements
+   * @return A sequential stream of pairs, as long as the shortest list
+   */
+  public static <T1, T2> @NotNull Stream<Pair<T1, T2>> zip(
+      @NotNull List<T1> first, @NotNull List<T2> second) {
+    if (first instanceof RandomAccess && second instanceof RandomAccess) {
+      return IntStream.range(0, Math.min(first.size(), second.size()))
+          .mapToObj(i -> Tuple.of(first.get(i), second.get(i)));
+    }
+    return zip(first.stream(), second.stream());
+  }
+
+  /**
+   * Zips three lists into a stream of {@link Triplet}s, by position
+   *
+   * @param first The list of first elements
+   * @param second The list of second elements
+   * @param third The list of third elements
+   * @param <T1> The type of the first elements
+   * @param <T2> The type of the second elements
+   * @param <T3> The type of the third elements
+   * @return A sequential stream of triplets, as long as the shortest list
+   */
+  public static <T1, T2, T3> @NotNull Stream<Triplet<T1, T2, T3>> zip(
+      @NotNull List<T1> first, @NotNull List<T2> second, @NotNull List<T3> third) {
+    if (first instanceof RandomAccess
+        && second instanceof RandomAccess
+        && third instanceof RandomAccess) {
+      return IntStream.range(0, Math.min(first.size(), Math.min(second.size(), third.size())))
+          .mapToObj(i -> Tuple.of(first.get(i), second.get(i), third.get(i)));
+    }
+    return zip(first.stream(), second.stream(), third.stream());
+  }
+
+  /**
+   * Zips two arrays into a stream of {@link Pair}s, by position
+   *
+   * @param first The array of first elements
+   * @param second The array of second elements
+   * @param <T1> The type of the first elements
+   * @param <T2> The type of the second elements
+   * @return A sequential stream of pairs, as long as the shortest array
+   */
+  public static <T1, T2> @NotNull Stream<Pair<T1, T2>> zip(
+      T1 @NotNull [] first, T2 @NotNull [] second) {
+    return IntStream.range(0, Math.min(first.length, second.length))
+        .mapToObj(i -> Tuple.of(first[i], second[i]));
+  }
+
+  /**
+   * Zips three arrays into a stream of {@link Triplet}s, by position
+   *
+   * @param first The array of first elements
+   * @param second The array of second elements
+   * @param third The array of third elements
+   * @param <T1> The type of the first elements
+   * @param <T2> The type of the second elements
+   * @param <T3> The type of the third elements
+   * @return A sequential stream of triplets, as long as the shortest array
+   */
+  public static <T1, T2, T3> @NotNull Stream<Triplet<T1, T2, T3>> zip(
+      T1 @NotNull [] first, T2 @NotNull [] second, T3 @NotNull [] third) {
+    return IntStream.range(0, Math.min(first.length, Math.min(second.length, third.length)))
+        .mapToObj(i -> Tuple.of(first[i], second[i], third[i]));
+  }
+
+  /**
+   * Zips two streams into a stream of {@link Pair}s, by position. The zipped stream is parallel if
+   * any of the inputs is, and closing it closes both inputs.
+   *
+   * @param first The stream of first elements
+   * @param second The stream of second elements
+   * @param <T1> The type of the first elements
+   * @param <T2> The type of the second elements
+   * @return A stream of pairs, as long as the shortest input
+   */
+  @SuppressWarnings("unchecked")
+  public static <T1, T2> @NotNull Stream<Pair<T1, T2>> zip(
+      @NotNull Stream<T1> first, @NotNull Stream<T2> second) {
+    Spliterator<Pair<T1, T2>> zipped =
+        new ZipSpliterator<>(
+            new Spliterator<?>[] {first.spliterator(), second.spliterator()},
+            row -> Tuple.of((T1) row[0], (T2) row[1]));
+    return StreamSupport.stream(zipped, first.isParallel() || second.isParallel())
+        .onClose(first::close)
+        .onClose(second::close);
+  }
+
+  /**
+   * Zips three streams into a stream of {@link Triplet}s, by position. The zipped stream is
+   * parallel if any of the inputs is, and closing it closes all the inputs.
+   *
+   * @param first The stream of first elements
+   * @param second The stream of second elements
+   * @param third The stream of third elements
+   * @param <T1> The type of the first elements
+   * @param <T2> The type of the second elements
+   * @param <T3> The type of the third elements
+   * @return A stream of triplets, as long as the shortest input
+   */
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, T3> @NotNull Stream<Triplet<T1, T2, T3>> zip(
+      @NotNull Stream<T1> first, @NotNull Stream<T2> second, @NotNull Stream<T3> third) {
+    Spliterator<Triplet<T1, T2, T3>> zipped =
+        new ZipSpliterator<>(
+            new Spliterator<?>[] {first.spliterator(), second.spliterator(), third.spliterator()},
+            row -> Tuple.of((T1) row[0], (T2) row[1], (T3) row[2]));
+    return StreamSupport.stream(
+            zipped, first.isParallel() || second.isParallel() || third.isParallel())
+        .onClose(first::close)
+        .onClose(second::close)
+        .onClose(third::close);
+  }
+
+  /**
+   * A {@link Collector} splitting {@link Pair}s into two lists, one for each position. It can be
+   * used on parallel streams.
+   *
+   * @param <T1> The type of the first elements
+   * @param <T2> The type of the second elements
+   * @return A collector producing a pair of lists, in encounter order
+   */
+  public static <T1, T2>
+      @NotNull Collector<Pair<T1, T2>, ?, Pair<List<T1>, List<T2>>> unzipPairs() {
+    return Collector.of(
+        () -> Tuple.of(new ArrayList<T1>(), new ArrayList<T2>()),
+        (columns, pair) -> {
+          columns.first().add(pair.first());
+          columns.second().add(pair.second());
+        },
+        (left, right) -> {
+          left.first().addAll(right.first());
+          left.second().addAll(right.second());
+          return left;
+        },
+        columns -> Tuple.of(columns.first(), columns.second()));
+  }
+
+  /**
+   * A {@link Collector} splitting {@link Triplet}s into three lists, one for each position. It can
+   * be used on parallel streams.
+   *
+   * @param <T1> The type of the first elements
+   * @param <T2> The type of the second elements
+   * @param <T3> The type of the third elements
+   * @return A collector producing a triplet of lists, in encounter order
+   */
+  public static <T1, T2, T3>
+      @NotNull Collector<Triplet<T1, T2, T3>, ?, Triplet<List<T1>, List<T2>, List<T3>>>
+          unzipTriplets() {
+    return Collector.of(
+        () -> Tuple.of(new ArrayList<T1>(), new ArrayList<T2>(), new ArrayList<T3>()),
+        (columns, triplet) -> {
+          columns.first().add(triplet.first());
+          columns.second().add(triplet.second());
+          columns.third().add(triplet.third());
+        },
+        (left, right) -> {
+          left.first().addAll(right.first());
+          left.second().addAll(right.second());
+          left.third().addAll(right.third());
+          return left;
+        },
+        columns -> Tuple.of(columns.first(), columns.second(), columns.third()));
+  }
+
+  /**
+   * Advances a group of spliterators in lockstep, combining one element of each into a row.
+   *
+   * <p>It only splits when all the sources are {@link Spliterator#SUBSIZED} and have the same exact
+   * size. Sources usually split at the same point then, like the spliterators of arrays, lists and
+   * ranges do. If they do not, the elements a shorter prefix is missing are taken from the start of
+   * its remainder and buffered, so that every prefix, and every remainder, stays aligned.
+   */
+  private static final class ZipSpliterator<R> implements Spliterator<R> {
+    private final Spliterator<?>[] sources;
+    private final Function<Object[], R> combiner;
+    private final Object[] row;
+    private final Consumer<Object>[] cells;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ZipSpliterator(Spliterator<?>[] sources, Function<Object[], R> combiner) {
+      this.sources = sources;
+      this.combiner = combiner;
+      this.row = new Object[sources.length];
+      this.cells = new Consumer[sources.length];
+      for (int i = 0; i < sources.length; i++) {
+        int column = i;
+        cells[i] = element -> row[column] = element;
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super R> action) {
+      for (int i = 0; i < sources.length; i++) {
+        if (!sources[i].tryAdvance(cells[i])) {
+          return false;
+        }
+      }
+      action.accept(combiner.apply(row));
+      return true;
+    }
+
+    @Override
+    public Spliterator<R> trySplit() {
+      if (!hasCharacteristics(SUBSIZED)) {
+        return null;
+      }
+
+      Spliterator<?>[] prefixes = new Spliterator<?>[sources.length];
+      long target = 0;
+      boolean split = false;
+      for (int i = 0; i < sources.length; i++) {
+        prefixes[i] = sources[i].trySplit();
+        if (prefixes[i] != null) {
+          split = true;
+          target = Math.max(target, prefixes[i].getExactSizeIfKnown());
+        }
+      }
+      if (!split) {
+        return null;
+      }
+
+      for (int i = 0; i < sources.length; i++) {
+        long size = prefixes[i] == null ? 0 : prefixes[i].getExactSizeIfKnown();
+        if (size < target) {
+          prefixes[i] = align(prefixes[i], sources[i], (int) (target - size));
+        }
+      }
+      return new ZipSpliterator<>(prefixes, combiner);
+    }
+
+    /** Moves the first <code>missing</code> elements of <code>rest</code> to the end of prefix */
+    private static Spliterator<?> align(Spliterator<?> prefix, Spliterator<?> rest, int missing) {
+      List<Object> moved = new ArrayList<>(missing);
+      for (int i = 0; i < missing && rest.tryAdvance(moved::add); i++) {}
+      Stream<?> head = prefix == null ? Stream.empty() : StreamSupport.stream(prefix, false);
+      return Stream.concat(head, moved.stream()).spliterator();
+    }
+
+    @Override
+    public long estimateSize() {
+      long size = Long.MAX_VALUE;
+      for (Spliterator<?> source : sources) {
+        size = Math.min(size, source.estimateSize());
+      }
+      return size;
+    }
+
+    @Override
+    public int characteristics() {
+      int characteristics = ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+      long size = -1;
+      for (Spliterator<?> source : sources) {
+        characteristics &= source.characteristics();
+        long sourceSize = source.getExactSizeIfKnown();
+        if (size != -1 && sourceSize != size) {
+          characteristics &= ~(SIZED | SUBSIZED);
+        }
+        size = sourceSize;
+      }
+      return characteristics | NONNULL;
+    }
+  }
+}
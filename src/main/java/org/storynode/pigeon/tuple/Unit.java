@@ -0,0 +1,62 @@
+package org.storynode.pigeon.tuple;
+
+import org.jetbrains.annotations.NotNull;
+import org.storynode.pigeon.option.Option;
+
+/**
+ * The tuple with no elements. There is exactly one instance of it, so it can stand in for {@code
+ * void} wherever a value is required, like the ok value of a {@link
+ * org.storynode.pigeon.result.Result} produced by a side effect.
+ *
+ * @see org.storynode.pigeon.result.Result#ok()
+ */
+public final class Unit extends Tuple {
+  private static final Unit INSTANCE = new Unit();
+
+  private Unit() {}
+
+  /**
+   * The one instance of {@link Unit}
+   *
+   * @return The unit value
+   */
+  public static @NotNull Unit unit() {
+    return INSTANCE;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int cardinality() {
+    return 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public @NotNull Option<Object> at(int index) {
+    return Option.none();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object get(int index) {
+    throw new IndexOutOfBoundsException(index);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean equals(Object o) {
+    return o == this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int hashCode() {
+    return 0;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return "Unit";
+  }
+}
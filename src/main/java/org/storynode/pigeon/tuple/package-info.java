@@ -1,7 +1,7 @@
 /**
  * Tuples are heterogeneous collections of fixed size from zero to <code>n</code> elements, in
  * order. <br>
- * For obvious reasons the 0 and 1 variants are omitted since they can be represented via null/void
- * and explicit values.
+ * The 0 variant is {@link org.storynode.pigeon.tuple.Unit}, a single value that stands in for
+ * <code>void</code>. The 1 variant is omitted since it can be represented by the value itself.
  */
 package org.storynode.pigeon.tuple;
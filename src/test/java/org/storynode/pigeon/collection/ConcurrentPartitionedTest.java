@@ -0,0 +1,194 @@
+package org.storynode.pigeon.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.storynode.pigeon.result.Result;
+
+class ConcurrentPartitionedTest {
+  private ConcurrentPartitioned<Integer, Integer> partitioned;
+
+  @BeforeEach
+  void setUp() {
+    partitioned = new ConcurrentPartitioned<>(n -> n % 2, List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+  }
+
+  @Test
+  void emptyInit() {
+    assertThat(new ConcurrentPartitioned<>(o -> true)).isEmpty();
+  }
+
+  @Test
+  void size() {
+    assertThat(partitioned.size()).isEqualTo(2);
+  }
+
+  @Test
+  void add() {
+    assertThat(partitioned.add(11)).as("New value").isTrue();
+    assertThat(partitioned.add(11)).as("Existing value").isFalse();
+    assertThat(partitioned.size()).isEqualTo(2);
+    assertThat(partitioned.containsValue(11)).isTrue();
+  }
+
+  @Test
+  void addAll() {
+    assertThat(partitioned.addAll(List.of(1, 2, 3))).as("Only existing values").isFalse();
+    assertThat(partitioned.addAll(List.of(11, 1))).as("New value first").isTrue();
+    assertThat(partitioned.addAll(List.of(2, 12))).as("New value last").isTrue();
+    assertThat(partitioned.containsValue(12)).isTrue();
+  }
+
+  @Test
+  void concurrentAdd() throws Exception {
+    ConcurrentPartitioned<Integer, Integer> shared = ConcurrentPartitioned.by(n -> n % 7);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> tasks = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        int offset = t;
+        tasks.add(
+            executor.submit(
+                () -> {
+                  for (int i = offset; i < 10_000; i += 4) {
+                    shared.add(i);
+                    // Every thread also adds values the others add, only one of them wins
+                    shared.add(i % 100);
+                  }
+                }));
+      }
+      for (Future<?> task : tasks) {
+        task.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(shared.size()).as("Partitions").isEqualTo(7);
+    int total = 0;
+    for (Partitioned.Partition<Integer, Integer> partition : shared) {
+      assertThat(new ArrayList<>(partition.values()))
+          .as("Partition %d holds only its values, sorted", partition.key())
+          .allMatch(n -> n % 7 == partition.key())
+          .isSorted();
+      total += partition.values().size();
+    }
+    assertThat(total).as("Every value once").isEqualTo(10_000);
+  }
+
+  @Test
+  void iteratorIsWeaklyConsistent() {
+    ConcurrentPartitioned<Integer, Integer> shared =
+        ConcurrentPartitioned.by(n -> n % 10, List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+    int seen = 0;
+    for (Partitioned.Partition<Integer, Integer> partition : shared) {
+      // Changes while iterating do not throw
+      shared.tryRemove((partition.key() + 1) % 10);
+      shared.add(partition.key() + 10);
+      seen++;
+    }
+    assertThat(seen).as("Partitions seen").isBetween(1, 10);
+  }
+
+  @Test
+  void containsKey() {
+    assertThat(partitioned.containsKey(0)).isTrue();
+    assertThat(partitioned.containsKey(1)).isTrue();
+    assertThat(partitioned.containsKey(2)).isFalse();
+  }
+
+  @Test
+  void containsValue() {
+    assertThat(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)).allMatch(o -> partitioned.containsValue(o));
+    assertThat(List.of(11, 12, 13)).noneMatch(o -> partitioned.containsValue(o));
+    assertThat(partitioned.contains(null)).as("Null value").isFalse();
+  }
+
+  @Test
+  void tryGet() {
+    assertThat(partitioned.tryGet(0))
+        .as("No error and value is present")
+        .returns(true, Result::isOk)
+        .returns(true, r -> r.unwrap().isSome());
+    assertThat(partitioned.tryGet(2))
+        .as("No error, but no partition either")
+        .returns(true, Result::isOk)
+        .returns(true, r -> r.unwrap().isNone());
+    assertThat(partitioned.tryGet(null))
+        .as("Null keys are not allowed")
+        .returns(true, Result::isErr);
+  }
+
+  @Test
+  void get() {
+    assertThat(partitioned.get(0)).containsExactly(2, 4, 6, 8, 10);
+    assertThat(partitioned.get(2)).isNull();
+  }
+
+  @Test
+  void tryRemove() {
+    assertThat(partitioned.tryRemove(0))
+        .returns(true, Result::isOk)
+        .returns(true, r -> r.unwrap().isSome());
+    assertThat(partitioned.tryRemove(2))
+        .returns(true, Result::isOk)
+        .returns(true, r -> r.unwrap().isNone());
+    assertThat(partitioned.tryRemove(null)).returns(true, Result::isErr);
+    assertThat(partitioned.size()).isEqualTo(1);
+  }
+
+  @Test
+  void tryRemoveValue() {
+    assertThat(partitioned.tryRemoveValue(2))
+        .returns(true, Result::isOk)
+        .returns(true, e -> e.unwrap().isSome());
+    assertThat(partitioned.tryRemoveValue(99))
+        .returns(true, Result::isOk)
+        .returns(true, e -> e.unwrap().isNone());
+    assertThat(partitioned.tryRemoveValue(null)).returns(true, Result::isErr);
+    assertThat(partitioned.contains(2)).isFalse();
+  }
+
+  @Test
+  void clear() {
+    assertThat(partitioned).isNotEmpty();
+    partitioned.clear();
+    assertThat(partitioned).isEmpty();
+  }
+
+  @Test
+  void keySet() {
+    assertThat(partitioned.keySet()).containsExactlyInAnyOrder(0, 1);
+  }
+
+  @Test
+  void values() {
+    ConcurrentPartitioned<Integer, Integer> byThree =
+        ConcurrentPartitioned.by(n -> n % 3, List.of(9, 4, 1, 7, 3, 8));
+    assertThat(byThree.values())
+        .as("Merged across partitions in natural order")
+        .containsExactly(1, 3, 4, 7, 8, 9);
+    assertThat(byThree.values().contains(4)).as("Contains").isTrue();
+  }
+
+  @Test
+  void entrySet() {
+    assertThat(partitioned.entrySet()).hasSize(2);
+    assertThat(
+            partitioned.entrySet().contains(new Partitioned.Partition<>(1, Set.of(1, 3, 5, 7, 9))))
+        .isTrue();
+  }
+
+  @Test
+  void by() {
+    assertThat(ConcurrentPartitioned.by(o -> true)).isEmpty();
+    assertThat(ConcurrentPartitioned.by(o -> true, List.of(1, 2, 3))).isNotEmpty();
+  }
+}
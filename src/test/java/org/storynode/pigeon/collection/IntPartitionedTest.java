@@ -0,0 +1,153 @@
+package org.storynode.pigeon.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.storynode.pigeon.result.Result;
+
+class IntPartitionedTest {
+  private IntPartitioned<Integer> partitioned;
+
+  @BeforeEach
+  void setUp() {
+    partitioned = new IntPartitioned<>(n -> n % 2, List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+  }
+
+  @Test
+  void emptyInit() {
+    assertThat(IntPartitioned.<Integer>by(n -> 0).isEmpty()).isTrue();
+  }
+
+  @Test
+  void size() {
+    assertThat(partitioned.size()).isEqualTo(2);
+  }
+
+  @Test
+  void add() {
+    assertThat(partitioned.add(11)).as("New value").isTrue();
+    assertThat(partitioned.add(11)).as("Existing value").isFalse();
+    assertThat(partitioned.add(-1)).as("New partition").isTrue();
+    assertThat(partitioned.size()).isEqualTo(3);
+    assertThat(partitioned.get(1)).containsExactly(1, 3, 5, 7, 9, 11);
+  }
+
+  @Test
+  void addAll() {
+    assertThat(partitioned.addAll(List.of(1, 2))).as("Only existing values").isFalse();
+    assertThat(partitioned.addAll(List.of(12, 1))).as("New value").isTrue();
+  }
+
+  @Test
+  void containsKeyAndValue() {
+    assertThat(partitioned.containsKey(0)).isTrue();
+    assertThat(partitioned.containsKey(2)).isFalse();
+    assertThat(partitioned.containsValue(4)).isTrue();
+    assertThat(partitioned.contains(12)).isFalse();
+    assertThat(partitioned.containsValue(null)).isFalse();
+  }
+
+  @Test
+  void tryGet() {
+    assertThat(partitioned.tryGet(0))
+        .as("No error and value is present")
+        .returns(true, Result::isOk)
+        .returns(true, r -> r.unwrap().isSome());
+    assertThat(partitioned.tryGet(2))
+        .as("No error, but no partition either")
+        .returns(true, Result::isOk)
+        .returns(true, r -> r.unwrap().isNone());
+  }
+
+  @Test
+  void tryRemove() {
+    assertThat(partitioned.tryRemove(0))
+        .returns(true, Result::isOk)
+        .returns(true, r -> r.unwrap().isSome());
+    assertThat(partitioned.tryRemove(0))
+        .returns(true, Result::isOk)
+        .returns(true, r -> r.unwrap().isNone());
+    assertThat(partitioned.size()).isEqualTo(1);
+    assertThat(partitioned.get(0)).isNull();
+  }
+
+  @Test
+  void tryRemoveValue() {
+    assertThat(partitioned.tryRemoveValue(2))
+        .returns(true, Result::isOk)
+        .returns(true, e -> e.unwrap().isSome());
+    assertThat(partitioned.tryRemoveValue(99))
+        .returns(true, Result::isOk)
+        .returns(true, e -> e.unwrap().isNone());
+    assertThat(partitioned.tryRemoveValue(null)).returns(true, Result::isErr);
+  }
+
+  @Test
+  void clear() {
+    partitioned.clear();
+    assertThat(partitioned.isEmpty()).isTrue();
+    assertThat(partitioned.containsKey(0)).isFalse();
+  }
+
+  @Test
+  void keysAndIteration() {
+    assertThat(partitioned.keys()).containsExactlyInAnyOrder(0, 1);
+    Set<Integer> keys = new HashSet<>();
+    partitioned.forEachPartition((partition, key) -> keys.add(key));
+    assertThat(keys).as("Keys seen by forEachPartition").containsExactlyInAnyOrder(0, 1);
+    assertThat(partitioned)
+        .extracting(Partitioned.Partition::key)
+        .as("Keys seen by the iterator")
+        .containsExactlyInAnyOrder(0, 1);
+  }
+
+  @Test
+  void iterationIsFailFast() {
+    assertThatThrownBy(() -> partitioned.forEachPartition((partition, key) -> partitioned.add(-1)))
+        .as("Adding a partition while iterating")
+        .isInstanceOf(ConcurrentModificationException.class);
+  }
+
+  @Test
+  void values() {
+    IntPartitioned<Integer> byThree = IntPartitioned.by(n -> n % 3, List.of(9, 4, 1, 7, 3, 8));
+    assertThat(byThree.values()).as("Merged in order").containsExactly(1, 3, 4, 7, 8, 9);
+    IntPartitioned<Integer> hashed = IntPartitioned.by(n -> n % 3, PartitionStorage.HASH);
+    hashed.addAll(List.of(9, 4, 1, 7, 3, 8));
+    assertThat(hashed.values()).as("Unordered").containsExactlyInAnyOrder(1, 3, 4, 7, 8, 9);
+  }
+
+  @Test
+  void matchesHashMap() {
+    Random random = new Random(42);
+    IntPartitioned<Integer> table = IntPartitioned.by(n -> n / 10);
+    Map<Integer, Set<Integer>> expected = new HashMap<>();
+    for (int i = 0; i < 50_000; i++) {
+      int value = random.nextInt(20_000) - 10_000;
+      int key = value / 10;
+      if (random.nextInt(5) == 0) {
+        assertThat(table.tryRemove(key).unwrap().isSome())
+            .as("Remove partition %d", key)
+            .isEqualTo(expected.remove(key) != null);
+      } else {
+        assertThat(table.add(value))
+            .as("Add %d", value)
+            .isEqualTo(expected.computeIfAbsent(key, k -> new TreeSet<>()).add(value));
+      }
+    }
+    assertThat(table.size()).as("Partitions").isEqualTo(expected.size());
+    expected.forEach(
+        (key, values) -> assertThat(table.get(key)).as("Partition %d", key).isEqualTo(values));
+    assertThat(table.keys()).hasSize(expected.size());
+  }
+}
@@ -0,0 +1,98 @@
+package org.storynode.pigeon.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.storynode.pigeon.result.Result;
+
+class LongPartitionedTest {
+  private static final long HOUR = 3_600_000L;
+  private static final long START = 1_700_000_000_000L;
+
+  private LongPartitioned<Long> byHour;
+
+  @BeforeEach
+  void setUp() {
+    byHour =
+        new LongPartitioned<>(
+            t -> t / HOUR, List.of(START, START + 1, START + HOUR, START + 2 * HOUR));
+  }
+
+  @Test
+  void size() {
+    assertThat(byHour.size()).isEqualTo(3);
+    assertThat(LongPartitioned.<Long>by(t -> 0L).isEmpty()).isTrue();
+  }
+
+  @Test
+  void add() {
+    assertThat(byHour.add(START + 2)).as("New value").isTrue();
+    assertThat(byHour.add(START + 2)).as("Existing value").isFalse();
+    assertThat(byHour.get(START / HOUR)).containsExactly(START, START + 1, START + 2);
+  }
+
+  @Test
+  void containsKeyAndValue() {
+    assertThat(byHour.containsKey(START / HOUR + 1)).isTrue();
+    assertThat(byHour.containsKey(START / HOUR + 3)).isFalse();
+    assertThat(byHour.containsValue(START + HOUR)).isTrue();
+    assertThat(byHour.contains(START + 3 * HOUR)).isFalse();
+  }
+
+  @Test
+  void tryGetAndRemove() {
+    long key = START / HOUR;
+    assertThat(byHour.tryGet(key))
+        .returns(true, Result::isOk)
+        .returns(true, r -> r.unwrap().isSome());
+    assertThat(byHour.tryRemove(key))
+        .returns(true, Result::isOk)
+        .returns(true, r -> r.unwrap().isSome());
+    assertThat(byHour.tryGet(key)).returns(true, r -> r.unwrap().isNone());
+    assertThat(byHour.tryRemoveValue(START + HOUR)).returns(true, r -> r.unwrap().isSome());
+    assertThat(byHour.size()).isEqualTo(2);
+  }
+
+  @Test
+  void keysAndValues() {
+    long key = START / HOUR;
+    assertThat(byHour.keys()).containsExactlyInAnyOrder(key, key + 1, key + 2);
+    assertThat(byHour.values())
+        .as("Merged in order")
+        .containsExactly(START, START + 1, START + HOUR, START + 2 * HOUR);
+    assertThat(byHour)
+        .extracting(Partitioned.Partition::key)
+        .containsExactlyInAnyOrder(key, key + 1, key + 2);
+  }
+
+  @Test
+  void matchesHashMap() {
+    Random random = new Random(42);
+    LongPartitioned<Long> table = LongPartitioned.by(t -> t >> 8, PartitionStorage.SORTED_ARRAY);
+    Map<Long, Set<Long>> expected = new HashMap<>();
+    for (int i = 0; i < 50_000; i++) {
+      long value = random.nextLong() >> 40;
+      long key = value >> 8;
+      if (random.nextInt(5) == 0) {
+        assertThat(table.tryRemove(key).unwrap().isSome())
+            .as("Remove partition %d", key)
+            .isEqualTo(expected.remove(key) != null);
+      } else {
+        assertThat(table.add(value))
+            .as("Add %d", value)
+            .isEqualTo(expected.computeIfAbsent(key, k -> new TreeSet<>()).add(value));
+      }
+    }
+    assertThat(table.size()).as("Partitions").isEqualTo(expected.size());
+    expected.forEach(
+        (key, values) ->
+            assertThat(table.get(key)).as("Partition %d", key).containsExactlyElementsOf(values));
+  }
+}
@@ -0,0 +1,140 @@
+package org.storynode.pigeon.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.storynode.pigeon.tuple.Pair;
+import org.storynode.pigeon.tuple.Tuple;
+
+class PairListTest {
+  private PairList<String, Integer> list;
+
+  @BeforeEach
+  void setUp() {
+    list = new PairList<>();
+    list.add("c", 1);
+    list.add("a", 2);
+    list.add("b", 3);
+  }
+
+  @Test
+  void emptyInit() {
+    assertThat(new PairList<>()).isEmpty();
+    assertThat(new PairList<>(0)).isEmpty();
+    assertThatThrownBy(() -> new PairList<>(-1))
+        .as("Negative capacity")
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void get() {
+    assertThat(list).as("Size").hasSize(3);
+    assertThat(list.get(1)).as("Pair at 1").isEqualTo(Tuple.of("a", 2));
+    assertThat(list.first(2)).as("First at 2").isEqualTo("b");
+    assertThat(list.second(0)).as("Second at 0").isEqualTo(1);
+    assertThatThrownBy(() -> list.get(3))
+        .as("Index out of range")
+        .isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> list.first(-1))
+        .as("Negative index")
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void addAndGrow() {
+    PairList<Integer, Integer> grown = new PairList<>(1);
+    for (int i = 0; i < 100; i++) {
+      grown.add(Tuple.of(i, -i));
+    }
+    grown.add(null, null);
+
+    assertThat(grown).as("Size").hasSize(101);
+    assertThat(grown.get(99)).as("Last non null pair").isEqualTo(Tuple.of(99, -99));
+    assertThat(grown.get(100)).as("Pair of nulls").isEqualTo(Tuple.of(null, null));
+  }
+
+  @Test
+  void insertSetRemove() {
+    list.add(0, Tuple.of("z", 0));
+    assertThat(list).as("After insert").startsWith(Tuple.of("z", 0), Tuple.of("c", 1));
+
+    assertThat(list.set(1, Tuple.of("y", 9))).as("Replaced").isEqualTo(Tuple.of("c", 1));
+    assertThat(list.get(1)).as("After set").isEqualTo(Tuple.of("y", 9));
+
+    assertThat(list.remove(0)).as("Removed").isEqualTo(Tuple.of("z", 0));
+    assertThat(list)
+        .as("After remove")
+        .containsExactly(Tuple.of("y", 9), Tuple.of("a", 2), Tuple.of("b", 3));
+
+    list.clear();
+    assertThat(list).as("After clear").isEmpty();
+  }
+
+  @Test
+  void equalsOtherLists() {
+    assertThat(list)
+        .as("Same as a list of pairs")
+        .isEqualTo(List.of(Tuple.of("c", 1), Tuple.of("a", 2), Tuple.of("b", 3)));
+    assertThat(new PairList<>(List.of(Tuple.of("c", 1), Tuple.of("a", 2), Tuple.of("b", 3))))
+        .as("Built from a collection")
+        .isEqualTo(list);
+  }
+
+  @Test
+  void sortByFirst() {
+    list.sortByFirst(Comparator.naturalOrder());
+    assertThat(list)
+        .as("Sorted by first")
+        .containsExactly(Tuple.of("a", 2), Tuple.of("b", 3), Tuple.of("c", 1));
+
+    list.sortBySecond(Comparator.reverseOrder());
+    assertThat(list)
+        .as("Sorted by second, descending")
+        .containsExactly(Tuple.of("b", 3), Tuple.of("a", 2), Tuple.of("c", 1));
+  }
+
+  @Test
+  void sortIsStable() {
+    Random random = new Random(42);
+    PairList<Integer, Integer> pairs = new PairList<>();
+    List<Pair<Integer, Integer>> expected = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      Pair<Integer, Integer> pair = Tuple.of(random.nextInt(20), i);
+      pairs.add(pair);
+      expected.add(pair);
+    }
+
+    pairs.sortByFirst(Comparator.naturalOrder());
+    expected.sort(Comparator.comparing(Pair::first));
+
+    assertThat(pairs).as("Same order as a stable sort").isEqualTo(expected);
+  }
+
+  @Test
+  void stream() {
+    PairList<Integer, Integer> pairs =
+        IntStream.range(0, 10_000).mapToObj(i -> Tuple.of(i, i * 2)).collect(PairList.collector());
+
+    Spliterator<Pair<Integer, Integer>> spliterator = pairs.spliterator();
+    assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED))
+        .as("Sized and subsized")
+        .isTrue();
+    assertThat(spliterator.trySplit().estimateSize()).as("Split in halves").isEqualTo(5_000);
+
+    assertThat(pairs.parallelStream().mapToLong(Pair::second).sum())
+        .as("Parallel sum")
+        .isEqualTo(IntStream.range(0, 10_000).mapToLong(i -> i * 2L).sum());
+    assertThat(pairs.stream().map(Pair::first).collect(Collectors.toList()))
+        .as("Sequential order")
+        .isEqualTo(IntStream.range(0, 10_000).boxed().collect(Collectors.toList()));
+  }
+}
@@ -0,0 +1,101 @@
+package org.storynode.pigeon.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class PartitionSpliteratorTest {
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Collection<Integer>[] partitions(PartitionStorage storage, int... sizes) {
+    Collection<Integer>[] partitions = new Collection[sizes.length];
+    int next = 0;
+    for (int i = 0; i < sizes.length; i++) {
+      partitions[i] =
+          storage.create(
+              SortedRun.ofSorted(IntStream.range(next, next + sizes[i]).boxed().toList()));
+      next += sizes[i];
+    }
+    return partitions;
+  }
+
+  /** Splits recursively, collecting the values of every leaf */
+  private static void drain(Spliterator<Integer> spliterator, List<Integer> values) {
+    Spliterator<Integer> prefix = spliterator.trySplit();
+    if (prefix != null) {
+      drain(prefix, values);
+      drain(spliterator, values);
+    } else {
+      spliterator.forEachRemaining(values::add);
+    }
+  }
+
+  @Test
+  void exactSize() {
+    Collection<Integer>[] partitions = partitions(PartitionStorage.SORTED_ARRAY, 3, 0, 5, 2);
+    PartitionSpliterator<Integer> spliterator =
+        new PartitionSpliterator<>(partitions, 0, partitions.length, 0);
+    assertThat(spliterator.estimateSize()).as("Total size").isEqualTo(10);
+    assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).as("Sized").isTrue();
+    assertThat(spliterator.tryAdvance(v -> {})).as("Advanced").isTrue();
+    assertThat(spliterator.getExactSizeIfKnown()).as("Size after advancing").isEqualTo(9);
+  }
+
+  @Test
+  void mergesUntilSplit() {
+    Collection<Integer>[] partitions = partitions(PartitionStorage.TREE, 3, 4, 2);
+    Collections.reverse(Arrays.asList(partitions));
+    List<Integer> values = new ArrayList<>();
+    PartitionSpliterator<Integer> spliterator =
+        new PartitionSpliterator<>(
+            partitions, 0, partitions.length, 0, Comparator.<Integer>naturalOrder());
+    assertThat(spliterator.tryAdvance(values::add)).as("Advanced").isTrue();
+    assertThat(spliterator.trySplit()).as("No split once traversal started").isNull();
+    assertThat(spliterator.estimateSize()).as("Size after advancing").isEqualTo(8);
+    spliterator.forEachRemaining(values::add);
+    assertThat(values).as("Natural order").containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8);
+  }
+
+  @Test
+  void splitsByValuesNotPartitions() {
+    Collection<Integer>[] partitions = partitions(PartitionStorage.TREE, 100, 1, 1, 1, 1, 1, 1);
+    PartitionSpliterator<Integer> spliterator =
+        new PartitionSpliterator<>(partitions, 0, partitions.length, 0);
+    Spliterator<Integer> prefix = spliterator.trySplit();
+    assertThat(prefix.estimateSize()).as("The large partition alone").isEqualTo(100);
+    assertThat(spliterator.estimateSize()).as("All the small ones").isEqualTo(6);
+  }
+
+  @Test
+  void splitsLargePartitionsBySubRange() {
+    Collection<Integer>[] partitions = partitions(PartitionStorage.SORTED_ARRAY, 1_000);
+    PartitionSpliterator<Integer> spliterator =
+        new PartitionSpliterator<>(partitions, 0, partitions.length, Spliterator.SUBSIZED);
+    Spliterator<Integer> prefix = spliterator.trySplit();
+    assertThat(prefix).as("Split inside the partition").isNotNull();
+    assertThat(prefix.getExactSizeIfKnown()).as("Half of it").isEqualTo(500);
+    assertThat(spliterator.getExactSizeIfKnown()).as("The other half").isEqualTo(500);
+  }
+
+  @Test
+  void coversEveryValueOnce() {
+    for (PartitionStorage storage : PartitionStorage.values()) {
+      Collection<Integer>[] partitions = partitions(storage, 50, 3, 0, 700, 20, 1, 90);
+      List<Integer> values = new ArrayList<>();
+      drain(new PartitionSpliterator<>(partitions, 0, partitions.length, 0), values);
+      assertThat(new TreeSet<>(values))
+          .as("Every value with %s storage", storage)
+          .hasSize(864)
+          .hasSameSizeAs(values);
+    }
+  }
+}
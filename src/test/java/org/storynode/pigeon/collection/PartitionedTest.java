@@ -1,11 +1,19 @@
 package org.storynode.pigeon.collection;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.storynode.pigeon.result.Result;
 
 class PartitionedTest {
@@ -46,6 +54,288 @@ class PartitionedTest {
     assertThat(partitioned.containsValue(13)).isTrue();
   }
 
+  @Test
+  void addAllReportsAnyChange() {
+    assertThat(partitioned.addAll(List.of(11, 1))).as("New value first").isTrue();
+    assertThat(partitioned.addAll(List.of(2, 12))).as("New value last").isTrue();
+  }
+
+  @Test
+  void addAllInBulk() {
+    List<Integer> batch = IntStream.range(0, 1_000).map(i -> 999 - i).boxed().toList();
+    Partitioned<Integer, Integer> byTen = Partitioned.by(n -> n % 10, List.of(5, 15));
+
+    assertThat(byTen.addAll(batch)).as("Changed").isTrue();
+    assertThat(byTen.size()).as("Partitions").isEqualTo(10);
+    assertThat(byTen.get(5))
+        .as("Existing partition, merged")
+        .hasSize(100)
+        .startsWith(5, 15, 25)
+        .endsWith(995);
+    assertThat(byTen.get(3)).as("New partition, sorted").hasSize(100).startsWith(3, 13, 23);
+    assertThat(byTen.addAll(batch)).as("Nothing new").isFalse();
+  }
+
+  @Test
+  void addAllInParallel() {
+    List<Integer> batch =
+        IntStream.range(0, Partitioned.PARALLEL_THRESHOLD * 2)
+            .map(i -> i % Partitioned.PARALLEL_THRESHOLD)
+            .boxed()
+            .toList();
+    Partitioned<Integer, Integer> byHundred = Partitioned.by(n -> n % 100 == 0 ? null : n % 7);
+
+    assertThat(byHundred.addAll(batch)).as("Changed").isTrue();
+    assertThat(byHundred.size()).as("Partitions, including the null key").isEqualTo(8);
+    assertThat(new ArrayList<>(byHundred.values()))
+        .as("Every distinct value once, in order")
+        .hasSize(Partitioned.PARALLEL_THRESHOLD)
+        .isSorted();
+    assertThat(byHundred.get(null)).as("Null key partition").startsWith(0, 100, 200);
+  }
+
+  @ParameterizedTest
+  @EnumSource(PartitionStorage.class)
+  void storage(PartitionStorage storage) {
+    Partitioned<Integer, Integer> byThree =
+        Partitioned.by(n -> n % 3, storage, List.of(9, 4, 1, 7, 3, 8));
+    assertThat(byThree.storage()).as("Storage").isEqualTo(storage);
+    assertThat(byThree.add(6)).as("New value").isTrue();
+    assertThat(byThree.add(6)).as("Existing value").isFalse();
+    assertThat(byThree.addAll(IntStream.range(0, 100).boxed().toList())).as("Bulk").isTrue();
+    assertThat(byThree.tryRemoveValue(4).unwrap().isSome()).as("Removed").isTrue();
+    assertThat(byThree.containsValue(4)).as("Removed value").isFalse();
+    assertThat(byThree.containsValue(99)).as("Bulk value").isTrue();
+    assertThat(byThree.get(0)).as("Partition").hasSize(34);
+    if (storage.isSorted()) {
+      assertThat(byThree.get(0)).as("Sorted partition").startsWith(0, 3, 6).endsWith(99);
+      assertThat(byThree.values()).as("Sorted values").startsWith(0, 1, 2, 3, 5);
+    }
+    assertThat(byThree.values()).as("All values").hasSize(99).doesNotContain(4);
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = PartitionStorage.class,
+      names = {"TREE", "SORTED_ARRAY"})
+  void partitionRanges(PartitionStorage storage) {
+    Partitioned<Integer, Integer> byParity =
+        Partitioned.by(n -> n % 2, storage, List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+    assertThat(byParity.headSet(0, 6)).as("Head").containsExactly(2, 4);
+    assertThat(byParity.tailSet(1, 6)).as("Tail").containsExactly(7, 9);
+    SortedSet<Integer> middle = byParity.subSet(0, 4, 9);
+    assertThat(middle).as("Sub set").containsExactly(4, 6, 8);
+    byParity.add(12);
+    byParity.tryRemoveValue(6);
+    assertThat(middle).as("Live view").containsExactly(4, 8);
+    assertThat(byParity.headSet(2, 6)).as("Missing partition").isEmpty();
+  }
+
+  @Test
+  void partitionRangesNeedSortedStorage() {
+    Partitioned<Integer, Integer> hashed = Partitioned.by(n -> n % 2, PartitionStorage.HASH);
+    assertThatThrownBy(() -> hashed.headSet(0, 6))
+        .as("Hash partitions")
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @ParameterizedTest
+  @EnumSource(PartitionStorage.class)
+  void smallestAndLargest(PartitionStorage storage) {
+    Partitioned<Integer, Integer> byTen =
+        Partitioned.by(n -> n % 10, storage, IntStream.range(0, 1_000).boxed().toList());
+    assertThat(byTen.smallest(5)).as("Smallest").containsExactly(0, 1, 2, 3, 4);
+    assertThat(byTen.largest(3)).as("Largest").containsExactly(999, 998, 997);
+    assertThat(byTen.smallest(0)).as("None").isEmpty();
+    assertThat(byTen.largest(2_000)).as("More than there are").hasSize(1_000).startsWith(999);
+    assertThatThrownBy(() -> byTen.smallest(-1))
+        .as("Negative k")
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @ParameterizedTest
+  @EnumSource(PartitionStorage.class)
+  void range(PartitionStorage storage) {
+    Partitioned<Integer, Integer> byTen =
+        Partitioned.by(n -> n % 10, storage, IntStream.range(0, 1_000).boxed().toList());
+    Collection<Integer> range = byTen.range(95, 105);
+    assertThat(range)
+        .as("Across partitions, in order")
+        .containsExactlyElementsOf(IntStream.range(95, 105).boxed().toList());
+    assertThat(range).as("Size").hasSize(10);
+    assertThat(range.contains(100)).as("Contains").isTrue();
+    assertThat(range.contains(105)).as("Upper bound is exclusive").isFalse();
+    byTen.tryRemoveValue(100);
+    assertThat(range).as("Live view").hasSize(9).doesNotContain(100);
+    assertThatThrownBy(() -> byTen.range(5, 1))
+        .as("Inverted range")
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @ParameterizedTest
+  @EnumSource(PartitionStorage.class)
+  void valueStreams(PartitionStorage storage) {
+    Partitioned<Integer, Integer> byTen =
+        Partitioned.by(n -> n % 10, storage, IntStream.range(0, 10_000).boxed().toList());
+    assertThat(byTen.values().stream().mapToLong(n -> n).sum())
+        .as("Sequential sum")
+        .isEqualTo(49_995_000L);
+    assertThat(byTen.values().parallelStream().mapToLong(n -> n).sum())
+        .as("Parallel sum")
+        .isEqualTo(49_995_000L);
+    assertThat(byTen.values().spliterator().getExactSizeIfKnown())
+        .as("Exact size")
+        .isEqualTo(10_000);
+  }
+
+  @Test
+  void partitionStreams() {
+    assertThat(partitioned.stream().map(Partitioned.Partition::key))
+        .as("Keys")
+        .containsExactlyInAnyOrder(0, 1);
+    assertThat(partitioned.parallelStream().mapToInt(p -> p.values().size()).sum())
+        .as("Values over all partitions")
+        .isEqualTo(10);
+    assertThat(partitioned.spliterator().getExactSizeIfKnown()).as("Exact size").isEqualTo(2);
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = PartitionStorage.class,
+      names = {"TREE", "SORTED_ARRAY"})
+  void keepSmallest(PartitionStorage storage) {
+    List<Integer> evicted = new ArrayList<>();
+    Partitioned<Integer, Integer> bounded =
+        new Partitioned<>(n -> n % 2, storage, 3, EvictionPolicy.KEEP_SMALLEST, evicted::add, null);
+    bounded.addAll(List.of(9, 5, 7, 3));
+    assertThat(bounded.get(1)).as("Smallest three").containsExactly(3, 5, 7);
+    assertThat(evicted).as("Evicted to make room").containsExactly(9);
+    assertThat(bounded.add(11)).as("Larger than all kept values").isFalse();
+    assertThat(bounded.add(1)).as("Smaller than the largest").isTrue();
+    assertThat(bounded.get(1)).as("After adding").containsExactly(1, 3, 5);
+    assertThat(evicted).as("Evicted values").containsExactly(9, 7);
+  }
+
+  @Test
+  void keepLargest() {
+    List<Integer> evicted = new ArrayList<>();
+    Partitioned<Integer, Integer> bounded =
+        Partitioned.bounded(n -> n % 2, 2, EvictionPolicy.KEEP_LARGEST, evicted::add);
+    bounded.addAll(List.of(2, 8, 4, 6, 1));
+    assertThat(bounded.get(0)).as("Largest two").containsExactly(6, 8);
+    assertThat(bounded.get(1)).as("Other partition").containsExactly(1);
+    assertThat(bounded.add(0)).as("Smaller than all kept values").isFalse();
+    assertThat(evicted).as("Evicted values").containsExactly(2, 4);
+  }
+
+  @Test
+  void evictOldest() {
+    List<Integer> evicted = new ArrayList<>();
+    Partitioned<Integer, Integer> bounded =
+        Partitioned.bounded(n -> n % 2, 2, EvictionPolicy.EVICT_OLDEST, evicted::add);
+    bounded.addAll(List.of(8, 2, 6));
+    assertThat(bounded.get(0)).as("Two most recent").containsExactly(2, 6);
+    assertThat(bounded.tryRemoveValue(2).unwrap().isSome()).as("Removed").isTrue();
+    bounded.add(4);
+    bounded.add(0);
+    assertThat(bounded.get(0)).as("After removing and adding").containsExactly(0, 4);
+    assertThat(evicted).as("Evicted by age").containsExactly(8, 6);
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = EvictionPolicy.class,
+      names = {"KEEP_SMALLEST", "KEEP_LARGEST"})
+  void boundedBulkLoad(EvictionPolicy eviction) {
+    List<Integer> evicted = new ArrayList<>();
+    Partitioned<Integer, Integer> bounded =
+        Partitioned.bounded(n -> n % 4, 10, eviction, evicted::add);
+    bounded.addAll(IntStream.range(0, 1_000).boxed().toList());
+    bounded.addAll(IntStream.range(1_000, 2_000).boxed().toList());
+    for (Partitioned.Partition<Integer, Integer> partition : bounded) {
+      assertThat(partition.values()).as("Partition %s is bounded", partition.key()).hasSize(10);
+      int expected =
+          eviction == EvictionPolicy.KEEP_SMALLEST ? partition.key() : 1_960 + partition.key();
+      assertThat(((SortedSet<Integer>) partition.values()).first())
+          .as("Partition %s keeps the right end", partition.key())
+          .isEqualTo(expected);
+    }
+    assertThat(evicted)
+        .as("Evicted values")
+        .hasSize(eviction == EvictionPolicy.KEEP_SMALLEST ? 0 : 40);
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = EvictionPolicy.class,
+      names = {"KEEP_SMALLEST", "KEEP_LARGEST"})
+  void boundedBulkLoadEvictsLikeAddingOneByOne(EvictionPolicy eviction) {
+    // Evens already there, odds in the batch, in the order add keeps without evicting batch values
+    List<Integer> existing = IntStream.range(0, 30).map(n -> n * 2 + 40).boxed().toList();
+    List<Integer> batch =
+        IntStream.range(0, 100)
+            .map(n -> eviction == EvictionPolicy.KEEP_SMALLEST ? n * 2 + 1 : 199 - n * 2)
+            .boxed()
+            .toList();
+
+    List<Integer> evictedOneByOne = new ArrayList<>();
+    Partitioned<Integer, Integer> oneByOne =
+        Partitioned.bounded(n -> 0, 50, eviction, evictedOneByOne::add);
+    existing.forEach(oneByOne::add);
+    batch.forEach(oneByOne::add);
+
+    List<Integer> evictedInBulk = new ArrayList<>();
+    Partitioned<Integer, Integer> bulk =
+        Partitioned.bounded(n -> 0, 50, eviction, evictedInBulk::add);
+    existing.forEach(bulk::add);
+    assertThat(bulk.addAll(batch)).as("Changed").isTrue();
+
+    assertThat(bulk.get(0)).as("Same values kept").containsExactlyElementsOf(oneByOne.get(0));
+    assertThat(evictedInBulk)
+        .as("Only values that were kept before are evicted")
+        .isNotEmpty()
+        .containsExactlyInAnyOrderElementsOf(evictedOneByOne)
+        .allMatch(existing::contains);
+  }
+
+  @Test
+  void boundedBulkLoadLeavingValuesOut() {
+    List<Integer> evicted = new ArrayList<>();
+    Partitioned<Integer, Integer> bounded =
+        Partitioned.bounded(n -> 0, 2, EvictionPolicy.KEEP_SMALLEST, evicted::add);
+    bounded.add(1);
+    List<Integer> batch = IntStream.range(2, 100).boxed().toList();
+    assertThat(bounded.addAll(batch)).as("Changed").isTrue();
+    assertThat(bounded.get(0)).as("Smallest two").containsExactly(1, 2);
+    assertThat(bounded.addAll(batch)).as("Nothing kept the second time").isFalse();
+    assertThat(evicted).as("No value of the batch reported").isEmpty();
+  }
+
+  @Test
+  void boundedArguments() {
+    assertThat(partitioned.capacity()).as("Unbounded capacity").isEqualTo(Integer.MAX_VALUE);
+    assertThat(partitioned.eviction().isNone()).as("No eviction").isTrue();
+    Partitioned<Integer, Integer> bounded =
+        Partitioned.bounded(n -> n, 5, EvictionPolicy.EVICT_OLDEST);
+    assertThat(bounded.capacity()).as("Capacity").isEqualTo(5);
+    assertThat(bounded.eviction().unwrap()).as("Eviction").isEqualTo(EvictionPolicy.EVICT_OLDEST);
+    assertThatThrownBy(() -> Partitioned.bounded(n -> n, 0, EvictionPolicy.EVICT_OLDEST))
+        .as("No capacity")
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () ->
+                new Partitioned<Integer, Integer>(
+                    n -> n, PartitionStorage.HASH, 5, EvictionPolicy.KEEP_SMALLEST, null, null))
+        .as("Unsorted storage")
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () ->
+                new Partitioned<Integer, Integer>(
+                    n -> n, PartitionStorage.TREE, 5, null, null, null))
+        .as("No eviction policy")
+        .isInstanceOf(NullPointerException.class);
+  }
+
   @Test
   void isEmpty() {
     assertThat(partitioned.isEmpty()).isFalse();
@@ -131,6 +421,49 @@ class PartitionedTest {
     assertThat(partitioned.entrySet()).isNotEmpty();
   }
 
+  @Test
+  void valuesAreMergedInOrder() {
+    Partitioned<Integer, Integer> byThree = Partitioned.by(n -> n % 3, List.of(9, 4, 1, 7, 3, 8));
+    assertThat(byThree.values())
+        .as("Merged across partitions in natural order")
+        .containsExactly(1, 3, 4, 7, 8, 9)
+        .hasSize(6);
+  }
+
+  @Test
+  void valuesIsALiveView() {
+    Collection<Integer> values = partitioned.values();
+    partitioned.add(12);
+    partitioned.tryRemove(1);
+    assertThat(values).as("Reflects later changes").containsExactly(2, 4, 6, 8, 10, 12);
+    assertThat(values.contains(12)).as("Contains a new value").isTrue();
+    assertThat(values.contains(1)).as("Does not contain a removed value").isFalse();
+    assertThatThrownBy(() -> values.remove(2))
+        .as("Read only")
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void entrySetIsALiveView() {
+    Set<Partitioned.Partition<Integer, Integer>> entries = partitioned.entrySet();
+    assertThat(entries).as("One entry per partition").hasSize(2);
+    assertThat(entries.contains(new Partitioned.Partition<>(0, Set.of(2, 4, 6, 8, 10))))
+        .as("Contains a partition with the same values")
+        .isTrue();
+    assertThat(entries.contains(new Partitioned.Partition<>(0, Set.of(2))))
+        .as("Does not contain a partition with different values")
+        .isFalse();
+    partitioned.add(12);
+    assertThat(entries.contains(new Partitioned.Partition<>(0, Set.of(2, 4, 6, 8, 10, 12))))
+        .as("Reflects later changes")
+        .isTrue();
+  }
+
+  @Test
+  void containsValueNull() {
+    assertThat(partitioned.containsValue(null)).as("Null value").isFalse();
+  }
+
   @Test
   void contains() {
     assertThat(partitioned.contains(1)).isTrue();
@@ -0,0 +1,318 @@
+package org.storynode.pigeon.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.DoubleStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.storynode.pigeon.tuple.DoublePair;
+import org.storynode.pigeon.tuple.IntPair;
+import org.storynode.pigeon.tuple.Tuple;
+
+class PrimitivePairListTest {
+
+  /**
+   * Each primitive pair list, used through the {@link List} interface and through its columns, by
+   * index: 0 for the first column and 1 for the second one
+   */
+  enum Kind {
+    INT {
+      @Override
+      List<? extends Tuple> newList(int initialCapacity) {
+        return new IntPairList(initialCapacity);
+      }
+
+      @Override
+      Tuple pair(int first, int second) {
+        return Tuple.ofInts(first, second);
+      }
+
+      @Override
+      void add(List<?> list, int first, int second) {
+        ((IntPairList) list).add(first, second);
+      }
+
+      @Override
+      Object get(List<?> list, int column, int index) {
+        IntPairList pairs = (IntPairList) list;
+        return column == 0 ? pairs.first(index) : pairs.second(index);
+      }
+
+      @Override
+      DoubleStream stream(List<?> list, int column) {
+        IntPairList pairs = (IntPairList) list;
+        return (column == 0 ? pairs.firstStream() : pairs.secondStream()).asDoubleStream();
+      }
+
+      @Override
+      void sortBy(List<?> list, int column) {
+        IntPairList pairs = (IntPairList) list;
+        if (column == 0) {
+          pairs.sortByFirst();
+        } else {
+          pairs.sortBySecond();
+        }
+      }
+    },
+    LONG {
+      @Override
+      List<? extends Tuple> newList(int initialCapacity) {
+        return new LongPairList(initialCapacity);
+      }
+
+      @Override
+      Tuple pair(int first, int second) {
+        return Tuple.ofLongs(first, second);
+      }
+
+      @Override
+      void add(List<?> list, int first, int second) {
+        ((LongPairList) list).add(first, second);
+      }
+
+      @Override
+      Object get(List<?> list, int column, int index) {
+        LongPairList pairs = (LongPairList) list;
+        return column == 0 ? pairs.first(index) : pairs.second(index);
+      }
+
+      @Override
+      DoubleStream stream(List<?> list, int column) {
+        LongPairList pairs = (LongPairList) list;
+        return (column == 0 ? pairs.firstStream() : pairs.secondStream()).asDoubleStream();
+      }
+
+      @Override
+      void sortBy(List<?> list, int column) {
+        LongPairList pairs = (LongPairList) list;
+        if (column == 0) {
+          pairs.sortByFirst();
+        } else {
+          pairs.sortBySecond();
+        }
+      }
+    },
+    DOUBLE {
+      @Override
+      List<? extends Tuple> newList(int initialCapacity) {
+        return new DoublePairList(initialCapacity);
+      }
+
+      @Override
+      Tuple pair(int first, int second) {
+        return Tuple.ofDoubles(first, second);
+      }
+
+      @Override
+      void add(List<?> list, int first, int second) {
+        ((DoublePairList) list).add(first, second);
+      }
+
+      @Override
+      Object get(List<?> list, int column, int index) {
+        DoublePairList pairs = (DoublePairList) list;
+        return column == 0 ? pairs.first(index) : pairs.second(index);
+      }
+
+      @Override
+      DoubleStream stream(List<?> list, int column) {
+        DoublePairList pairs = (DoublePairList) list;
+        return column == 0 ? pairs.firstStream() : pairs.secondStream();
+      }
+
+      @Override
+      void sortBy(List<?> list, int column) {
+        DoublePairList pairs = (DoublePairList) list;
+        if (column == 0) {
+          pairs.sortByFirst();
+        } else {
+          pairs.sortBySecond();
+        }
+      }
+    };
+
+    abstract List<? extends Tuple> newList(int initialCapacity);
+
+    abstract Tuple pair(int first, int second);
+
+    abstract void add(List<?> list, int first, int second);
+
+    abstract Object get(List<?> list, int column, int index);
+
+    abstract DoubleStream stream(List<?> list, int column);
+
+    abstract void sortBy(List<?> list, int column);
+
+    @SuppressWarnings("unchecked")
+    List<Tuple> create(int initialCapacity) {
+      return (List<Tuple>) newList(initialCapacity);
+    }
+
+    /** A list holding (3, 1), (1, 2) and (2, 3) */
+    List<Tuple> sample() {
+      List<Tuple> list = create(0);
+      add(list, 3, 1);
+      add(list, 1, 2);
+      add(list, 2, 3);
+      return list;
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(Kind.class)
+  void get(Kind kind) {
+    List<Tuple> list = kind.sample();
+    assertThat(list).as("Size").hasSize(3);
+    assertThat(list.get(1)).as("Pair at 1").isEqualTo(kind.pair(1, 2));
+    assertThat(kind.get(list, 0, 2)).as("First at 2").isEqualTo(kind.pair(2, 3).get(0));
+    assertThat(kind.get(list, 1, 0)).as("Second at 0").isEqualTo(kind.pair(3, 1).get(1));
+    assertThatThrownBy(() -> list.get(3))
+        .as("Index out of range")
+        .isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> kind.get(list, 0, 3))
+        .as("Column index out of range")
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @ParameterizedTest
+  @EnumSource(Kind.class)
+  void insertSetRemove(Kind kind) {
+    List<Tuple> list = kind.sample();
+    list.add(0, kind.pair(9, 9));
+    assertThat(list.set(0, kind.pair(8, 8))).as("Replaced").isEqualTo(kind.pair(9, 9));
+    assertThat(list.remove(1)).as("Removed").isEqualTo(kind.pair(3, 1));
+    assertThat(list)
+        .as("After remove")
+        .containsExactly(kind.pair(8, 8), kind.pair(1, 2), kind.pair(2, 3));
+
+    list.clear();
+    assertThat(list).as("After clear").isEmpty();
+  }
+
+  @ParameterizedTest
+  @EnumSource(Kind.class)
+  void capacity(Kind kind) {
+    assertThat(kind.create(0)).as("No capacity").isEmpty();
+    assertThatThrownBy(() -> kind.create(-1))
+        .as("Negative capacity")
+        .isInstanceOf(IllegalArgumentException.class);
+
+    List<Tuple> grown = kind.create(1);
+    for (int i = 0; i < 100; i++) {
+      kind.add(grown, i, -i);
+    }
+    assertThat(grown).as("Grown past the initial capacity").hasSize(100);
+    assertThat(grown.get(99)).as("Last pair").isEqualTo(kind.pair(99, -99));
+  }
+
+  @ParameterizedTest
+  @EnumSource(Kind.class)
+  void columnStreams(Kind kind) {
+    List<Tuple> list = kind.sample();
+    assertThat(kind.stream(list, 0).sum()).as("Sum of firsts").isEqualTo(6.0);
+    assertThat(kind.stream(list, 1).max()).as("Max of seconds").hasValue(3.0);
+  }
+
+  @ParameterizedTest
+  @EnumSource(Kind.class)
+  void sort(Kind kind) {
+    List<Tuple> list = kind.sample();
+    kind.sortBy(list, 0);
+    assertThat(list)
+        .as("Sorted by first")
+        .containsExactly(kind.pair(1, 2), kind.pair(2, 3), kind.pair(3, 1));
+
+    kind.sortBy(list, 1);
+    assertThat(list)
+        .as("Sorted by second")
+        .containsExactly(kind.pair(3, 1), kind.pair(1, 2), kind.pair(2, 3));
+  }
+
+  @ParameterizedTest
+  @EnumSource(Kind.class)
+  void sortIsStable(Kind kind) {
+    Random random = new Random(42);
+    List<Tuple> pairs = kind.create(0);
+    List<Tuple> expected = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      Tuple pair = kind.pair(random.nextInt(20) - 10, i);
+      pairs.add(pair);
+      expected.add(pair);
+    }
+
+    kind.sortBy(pairs, 0);
+    expected.sort(Comparator.comparingDouble(pair -> ((Number) pair.get(0)).doubleValue()));
+
+    assertThat(pairs).as("Same order as a stable sort").isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @EnumSource(Kind.class)
+  void stream(Kind kind) {
+    List<Tuple> pairs = kind.create(10_000);
+    for (int i = 0; i < 10_000; i++) {
+      kind.add(pairs, i, 1);
+    }
+
+    Spliterator<Tuple> spliterator = pairs.spliterator();
+    assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED))
+        .as("Sized and subsized")
+        .isTrue();
+    assertThat(spliterator.trySplit().estimateSize()).as("Split in halves").isEqualTo(5_000);
+    assertThat(
+            pairs.parallelStream().mapToDouble(pair -> ((Number) pair.get(1)).doubleValue()).sum())
+        .as("Parallel sum")
+        .isEqualTo(10_000.0);
+  }
+
+  @Test
+  void intSortCoversTheWholeRange() {
+    // Ints are sorted by packing value and index in a long, which must not overflow
+    IntPairList pairs = new IntPairList();
+    pairs.add(Integer.MAX_VALUE, 0);
+    pairs.add(-1, 1);
+    pairs.add(Integer.MIN_VALUE, 2);
+    pairs.add(0, 3);
+    pairs.add(-1, 4);
+    pairs.add(Integer.MIN_VALUE, 5);
+
+    pairs.sortByFirst();
+
+    assertThat(pairs)
+        .as("Sorted by first, ties in insertion order")
+        .containsExactly(
+            Tuple.ofInts(Integer.MIN_VALUE, 2),
+            Tuple.ofInts(Integer.MIN_VALUE, 5),
+            Tuple.ofInts(-1, 1),
+            Tuple.ofInts(-1, 4),
+            Tuple.ofInts(0, 3),
+            Tuple.ofInts(Integer.MAX_VALUE, 0));
+    assertThat(pairs.stream().mapToInt(IntPair::second))
+        .as("Seconds follow their firsts")
+        .containsExactly(2, 5, 1, 4, 3, 0);
+  }
+
+  @Test
+  void doubleSortOrdersNaNAndNegativeZero() {
+    DoublePairList pairs = new DoublePairList();
+    pairs.add(Double.NaN, 0);
+    pairs.add(0.0, 1);
+    pairs.add(-0.0, 2);
+    pairs.add(Double.NEGATIVE_INFINITY, 3);
+    pairs.add(Double.NaN, 4);
+    pairs.add(-0.0, 5);
+
+    pairs.sortByFirst();
+
+    assertThat(pairs.stream().mapToDouble(DoublePair::second))
+        .as("As by Double.compare: negative zero before zero, NaN last, ties in insertion order")
+        .containsExactly(3.0, 2.0, 5.0, 1.0, 0.0, 4.0);
+  }
+}
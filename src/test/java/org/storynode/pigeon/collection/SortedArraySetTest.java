@@ -0,0 +1,141 @@
+package org.storynode.pigeon.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+class SortedArraySetTest {
+
+  @Test
+  void addKeepsOrder() {
+    SortedArraySet<Integer> set = new SortedArraySet<>();
+    assertThat(set.add(5)).as("New value").isTrue();
+    assertThat(set.add(1)).as("New value").isTrue();
+    assertThat(set.add(3)).as("New value").isTrue();
+    assertThat(set.add(3)).as("Pending duplicate").isFalse();
+    assertThat(set).as("Sorted").containsExactly(1, 3, 5);
+    assertThat(set.add(1)).as("Merged duplicate").isFalse();
+    assertThat(set.size()).as("Size").isEqualTo(3);
+  }
+
+  @Test
+  void matchesTreeSet() {
+    Random random = new Random(42);
+    SortedArraySet<Integer> set = new SortedArraySet<>();
+    TreeSet<Integer> expected = new TreeSet<>();
+    for (int i = 0; i < 20_000; i++) {
+      int value = random.nextInt(5_000);
+      if (random.nextInt(4) == 0) {
+        assertThat(set.remove(value)).as("Remove %d", value).isEqualTo(expected.remove(value));
+      } else {
+        assertThat(set.add(value)).as("Add %d", value).isEqualTo(expected.add(value));
+      }
+      if (i % 997 == 0) {
+        assertThat(set).as("Same values in the same order").containsExactlyElementsOf(expected);
+      }
+    }
+    assertThat(set.size()).as("Size").isEqualTo(expected.size());
+    assertThat(set.contains(expected.first())).as("Contains").isTrue();
+    assertThat(set).containsExactlyElementsOf(expected);
+  }
+
+  @Test
+  void addAllMergesRuns() {
+    SortedArraySet<Integer> set = new SortedArraySet<>(SortedRun.ofSorted(List.of(2, 4, 6)));
+    set.add(5);
+    assertThat(set.addAll(SortedRun.ofSorted(List.of(1, 4, 7)))).as("Changed").isTrue();
+    assertThat(set).as("Merged").containsExactly(1, 2, 4, 5, 6, 7);
+    assertThat(set.addAll(SortedRun.ofSorted(List.of(1, 2)))).as("Nothing new").isFalse();
+    assertThat(set.addAll(List.of(3, 0))).as("Unsorted collection").isTrue();
+    assertThat(set).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+  }
+
+  @Test
+  void iteratorRemove() {
+    SortedArraySet<Integer> set = new SortedArraySet<>(SortedRun.ofSorted(List.of(1, 2, 3, 4)));
+    Iterator<Integer> iterator = set.iterator();
+    List<Integer> seen = new ArrayList<>();
+    while (iterator.hasNext()) {
+      int value = iterator.next();
+      seen.add(value);
+      if (value % 2 == 0) {
+        iterator.remove();
+      }
+    }
+    assertThat(seen).as("Every value seen").containsExactly(1, 2, 3, 4);
+    assertThat(set).as("Even values removed").containsExactly(1, 3);
+  }
+
+  @Test
+  void iteratorIsFailFast() {
+    SortedArraySet<Integer> set = new SortedArraySet<>(SortedRun.ofSorted(List.of(1, 2)));
+    Iterator<Integer> iterator = set.iterator();
+    set.add(3);
+    assertThatThrownBy(iterator::next)
+        .as("Changed while iterating")
+        .isInstanceOf(ConcurrentModificationException.class);
+  }
+
+  @Test
+  void ranges() {
+    SortedArraySet<Integer> set = new SortedArraySet<>(SortedRun.ofSorted(List.of(1, 3, 5, 7, 9)));
+    SortedSet<Integer> middle = set.subSet(3, 9);
+    assertThat(middle).as("Sub set").containsExactly(3, 5, 7);
+    assertThat(set.headSet(5)).as("Head").containsExactly(1, 3);
+    assertThat(set.tailSet(6)).as("Tail").containsExactly(7, 9);
+    assertThat(middle.headSet(7).tailSet(4)).as("Nested").containsExactly(5);
+    assertThat(middle.first()).as("First").isEqualTo(3);
+    assertThat(middle.last()).as("Last").isEqualTo(7);
+
+    set.add(4);
+    set.remove(7);
+    assertThat(middle).as("Live view").containsExactly(3, 4, 5).hasSize(3);
+    assertThat(middle.contains(9)).as("Out of range").isFalse();
+    assertThatThrownBy(() -> middle.add(10))
+        .as("Adding out of range")
+        .isInstanceOf(IllegalArgumentException.class);
+    middle.removeIf(n -> n % 2 == 0);
+    assertThat(set).as("Removed through the view").containsExactly(1, 3, 5, 9);
+    assertThat(set.subSet(6, 8)).as("Empty range").isEmpty();
+    assertThatThrownBy(() -> set.subSet(6, 8).first())
+        .as("First of an empty range")
+        .isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  void descendingIterator() {
+    SortedArraySet<Integer> set = new SortedArraySet<>(SortedRun.ofSorted(List.of(1, 2, 3, 4)));
+    set.add(5);
+    Iterator<Integer> iterator = set.descendingIterator();
+    List<Integer> seen = new ArrayList<>();
+    while (iterator.hasNext()) {
+      int value = iterator.next();
+      seen.add(value);
+      if (value % 2 == 0) {
+        iterator.remove();
+      }
+    }
+    assertThat(seen).as("Reverse order").containsExactly(5, 4, 3, 2, 1);
+    assertThat(set).as("Even values removed").containsExactly(1, 3, 5);
+    assertThat(set.first()).as("First").isEqualTo(1);
+    assertThat(set.last()).as("Last").isEqualTo(5);
+  }
+
+  @Test
+  void clear() {
+    SortedArraySet<Integer> set = new SortedArraySet<>(SortedRun.ofSorted(List.of(1, 2)));
+    set.add(3);
+    set.clear();
+    assertThat(set).as("Empty").isEmpty();
+    assertThat(set.contains(3)).as("Pending value cleared").isFalse();
+  }
+}
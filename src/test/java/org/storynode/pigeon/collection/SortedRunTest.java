@@ -0,0 +1,61 @@
+package org.storynode.pigeon.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+class SortedRunTest {
+  private final SortedRun<Integer> run = SortedRun.ofSorted(List.of(1, 1, 3, 5, 5, 5, 7));
+
+  @Test
+  void ofSortedDropsDuplicates() {
+    assertThat(run).as("Distinct elements").containsExactly(1, 3, 5, 7);
+    assertThat(run.size()).as("Size").isEqualTo(4);
+  }
+
+  @Test
+  void contains() {
+    assertThat(run.contains(5)).as("Present").isTrue();
+    assertThat(run.contains(4)).as("Absent").isFalse();
+    assertThat(run.contains(null)).as("Null").isFalse();
+  }
+
+  @Test
+  void firstAndLast() {
+    assertThat(run.first()).as("First").isEqualTo(1);
+    assertThat(run.last()).as("Last").isEqualTo(7);
+    assertThatThrownBy(() -> SortedRun.ofSorted(List.of()).first())
+        .as("Empty run")
+        .isInstanceOf(NoSuchElementException.class);
+  }
+
+  @Test
+  void headAndTail() {
+    assertThat(run.head(2)).as("Head").containsExactly(1, 3);
+    assertThat(run.tail(3)).as("Tail").containsExactly(3, 5, 7);
+    assertThat(run.head(10)).as("Head larger than the run").isSameAs(run);
+    assertThat(run.tail(4)).as("Tail as large as the run").isSameAs(run);
+  }
+
+  @Test
+  void ranges() {
+    assertThat(run.headSet(5)).as("Head").containsExactly(1, 3);
+    assertThat(run.tailSet(4)).as("Tail").containsExactly(5, 7);
+    assertThat(run.subSet(3, 7)).as("Sub set").containsExactly(3, 5);
+    assertThat(run.subSet(3, 7).headSet(5)).as("Nested").containsExactly(3);
+    assertThatThrownBy(() -> run.subSet(7, 3))
+        .as("Inverted range")
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void buildsTreeSets() {
+    assertThat(run.comparator()).as("Natural ordering").isEqualTo(Comparator.naturalOrder());
+    assertThat(new TreeSet<>(run)).as("Copied into a tree").containsExactly(1, 3, 5, 7);
+  }
+}
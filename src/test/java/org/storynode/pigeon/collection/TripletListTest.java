@@ -0,0 +1,87 @@
+package org.storynode.pigeon.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.storynode.pigeon.tuple.Triplet;
+import org.storynode.pigeon.tuple.Tuple;
+
+class TripletListTest {
+  private TripletList<String, Integer, Boolean> list;
+
+  @BeforeEach
+  void setUp() {
+    list = new TripletList<>();
+    list.add("c", 1, true);
+    list.add("a", 2, false);
+    list.add("b", 3, true);
+  }
+
+  @Test
+  void get() {
+    assertThat(list).as("Size").hasSize(3);
+    assertThat(list.get(1)).as("Triplet at 1").isEqualTo(Tuple.of("a", 2, false));
+    assertThat(list.first(2)).as("First at 2").isEqualTo("b");
+    assertThat(list.second(0)).as("Second at 0").isEqualTo(1);
+    assertThat(list.third(1)).as("Third at 1").isFalse();
+    assertThatThrownBy(() -> list.third(3))
+        .as("Index out of range")
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void insertSetRemove() {
+    list.add(3, Tuple.of("z", 0, false));
+    assertThat(list.get(3)).as("After insert").isEqualTo(Tuple.of("z", 0, false));
+
+    assertThat(list.set(0, Tuple.of("y", 9, false)))
+        .as("Replaced")
+        .isEqualTo(Tuple.of("c", 1, true));
+
+    assertThat(list.remove(1)).as("Removed").isEqualTo(Tuple.of("a", 2, false));
+    assertThat(list)
+        .as("After remove")
+        .isEqualTo(
+            List.of(Tuple.of("y", 9, false), Tuple.of("b", 3, true), Tuple.of("z", 0, false)));
+
+    list.clear();
+    assertThat(list).as("After clear").isEmpty();
+  }
+
+  @Test
+  void sort() {
+    list.sortByFirst(Comparator.naturalOrder());
+    assertThat(list)
+        .as("Sorted by first")
+        .containsExactly(Tuple.of("a", 2, false), Tuple.of("b", 3, true), Tuple.of("c", 1, true));
+
+    list.sortByThird(Comparator.naturalOrder());
+    assertThat(list)
+        .as("Sorted by third, stable")
+        .containsExactly(Tuple.of("a", 2, false), Tuple.of("b", 3, true), Tuple.of("c", 1, true));
+
+    list.sortBySecond(Comparator.reverseOrder());
+    assertThat(list)
+        .as("Sorted by second, descending")
+        .containsExactly(Tuple.of("b", 3, true), Tuple.of("a", 2, false), Tuple.of("c", 1, true));
+  }
+
+  @Test
+  void stream() {
+    TripletList<Integer, Integer, Integer> triplets =
+        IntStream.range(0, 1_000).mapToObj(i -> Tuple.of(i, i, i)).collect(TripletList.collector());
+
+    assertThat(triplets.spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED))
+        .as("Sized and subsized")
+        .isTrue();
+    assertThat(triplets.parallelStream().mapToInt(Triplet::third).sum())
+        .as("Parallel sum")
+        .isEqualTo(IntStream.range(0, 1_000).sum());
+  }
+}
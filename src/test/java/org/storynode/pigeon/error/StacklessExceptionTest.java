@@ -0,0 +1,28 @@
+package org.storynode.pigeon.error;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.storynode.pigeon.option.Option;
+
+class StacklessExceptionTest {
+  private enum Code implements ErrorCode {
+    NOT_FOUND
+  }
+
+  @Test
+  void noStackTrace() {
+    StacklessException exception = new StacklessException("Nope");
+    assertThat(exception.getStackTrace()).as("Stack trace").isEmpty();
+    assertThat(exception.getMessage()).as("Message").isEqualTo("Nope");
+    assertThat(exception.code()).as("Error code").isEqualTo(Option.none());
+  }
+
+  @Test
+  void fromErrorCode() {
+    StacklessException exception = new StacklessException(Code.NOT_FOUND);
+    assertThat(exception.getStackTrace()).as("Stack trace").isEmpty();
+    assertThat(exception.getMessage()).as("Message").isEqualTo("NOT_FOUND");
+    assertThat(exception.code()).as("Error code").isEqualTo(Option.some(Code.NOT_FOUND));
+  }
+}
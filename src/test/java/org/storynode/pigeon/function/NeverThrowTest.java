@@ -24,6 +24,10 @@ class NeverThrowTest {
         .returns(true, Result::isOk)
         .returns(none(), Result::unwrap);
 
+    assertThat(NeverThrow.executing(() -> {}))
+        .as("Shared run result")
+        .isSameAs(NeverThrow.executing(() -> {}));
+
     assertThat(
             NeverThrow.executing(
                 () -> {
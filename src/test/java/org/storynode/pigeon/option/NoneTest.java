@@ -9,4 +9,9 @@ class NoneTest {
   void testEquals() {
     assertThat(None.none()).isEqualTo(None.none());
   }
+
+  @Test
+  void testHashCode() {
+    assertThat(None.none().hashCode()).isEqualTo(Option.none().hashCode());
+  }
 }
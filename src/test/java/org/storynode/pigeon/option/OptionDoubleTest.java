@@ -0,0 +1,35 @@
+package org.storynode.pigeon.option;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.OptionalDouble;
+import org.junit.jupiter.api.Test;
+
+class OptionDoubleTest {
+  @Test
+  void orElse() {
+    assertThat(OptionDouble.some(1D).orElse(2D)).isEqualTo(1D);
+    assertThat(OptionDouble.none().orElse(2D)).isEqualTo(2D);
+  }
+
+  @Test
+  void map() {
+    assertThat(OptionDouble.some(2D).map(v -> v * v)).isEqualTo(OptionDouble.some(4D));
+    assertThat(OptionDouble.some(2D).mapToInt(v -> (int) v + 1)).isEqualTo(OptionInt.some(3));
+    assertThat(OptionDouble.none().mapToInt(v -> (int) v)).isEqualTo(OptionInt.none());
+  }
+
+  @Test
+  void stream() {
+    assertThat(OptionDouble.some(1D).stream().sum()).isEqualTo(1D);
+    assertThat(OptionDouble.none().stream().count()).isZero();
+  }
+
+  @Test
+  void conversions() {
+    assertThat(OptionDouble.some(1D).toOptional()).isEqualTo(OptionalDouble.of(1D));
+    assertThat(OptionDouble.from(OptionalDouble.empty())).isSameAs(OptionDouble.none());
+    assertThat(OptionDouble.some(1D).toOption()).isEqualTo(Option.some(1D));
+    assertThat(Option.some("Hello").mapToDouble(String::length)).isEqualTo(OptionDouble.some(5D));
+  }
+}
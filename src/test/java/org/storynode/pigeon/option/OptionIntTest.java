@@ -0,0 +1,79 @@
+package org.storynode.pigeon.option;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.storynode.pigeon.error.UnwrapException;
+
+class OptionIntTest {
+  @Test
+  void construction() {
+    assertThat(OptionInt.some(1).isSome()).as("Some value").isTrue();
+    assertThat(OptionInt.none().isNone()).as("No value").isTrue();
+    assertThat(OptionInt.none()).as("Shared empty instance").isSameAs(OptionInt.none());
+  }
+
+  @Test
+  void unwrap() {
+    assertThat(OptionInt.some(1).unwrap()).isEqualTo(1);
+    assertThatExceptionOfType(UnwrapException.class).isThrownBy(OptionInt.none()::unwrap);
+    assertThatExceptionOfType(NoSuchElementException.class)
+        .isThrownBy(OptionInt.none()::orElseThrow);
+  }
+
+  @Test
+  void orElse() {
+    assertThat(OptionInt.some(1).orElse(2)).isEqualTo(1);
+    assertThat(OptionInt.none().orElse(2)).isEqualTo(2);
+    assertThat(OptionInt.none().orElseGet(() -> 3)).isEqualTo(3);
+  }
+
+  @Test
+  void ifPresentOrElse() {
+    AtomicInteger value = new AtomicInteger(0);
+    OptionInt.some(1).ifPresentOrElse(value::set, () -> value.set(-1));
+    assertThat(value.get()).as("Modified value").isEqualTo(1);
+    OptionInt.none().ifPresentOrElse(value::set, () -> value.set(-1));
+    assertThat(value.get()).as("Modified value").isEqualTo(-1);
+  }
+
+  @Test
+  void filterAndMap() {
+    assertThat(OptionInt.some(2).filter(v -> v % 2 == 0)).isEqualTo(OptionInt.some(2));
+    assertThat(OptionInt.some(3).filter(v -> v % 2 == 0)).isEqualTo(OptionInt.none());
+    assertThat(OptionInt.some(2).map(v -> v * v)).isEqualTo(OptionInt.some(4));
+    assertThat(OptionInt.none().map(v -> v * v)).isEqualTo(OptionInt.none());
+    assertThat(OptionInt.some(2).mapToLong(v -> v * 10L)).isEqualTo(OptionLong.some(20L));
+    assertThat(OptionInt.some(2).mapToObj(Integer::toString)).isEqualTo(Option.some("2"));
+    assertThat(OptionInt.some(2).flatMap(v -> OptionInt.none())).isEqualTo(OptionInt.none());
+    assertThat(OptionInt.none().or(() -> OptionInt.some(5))).isEqualTo(OptionInt.some(5));
+  }
+
+  @Test
+  void stream() {
+    assertThat(OptionInt.some(1).stream().sum()).isEqualTo(1);
+    assertThat(OptionInt.none().stream().count()).isZero();
+  }
+
+  @Test
+  void conversions() {
+    assertThat(OptionInt.some(1).toOptional()).isEqualTo(OptionalInt.of(1));
+    assertThat(OptionInt.none().toOptional()).isEqualTo(OptionalInt.empty());
+    assertThat(OptionInt.from(OptionalInt.of(1))).isEqualTo(OptionInt.some(1));
+    assertThat(OptionInt.from(OptionalInt.empty())).isEqualTo(OptionInt.none());
+    assertThat(OptionInt.some(1).toOption()).isEqualTo(Option.some(1));
+    assertThat(Option.some("Hello").mapToInt(String::length)).isEqualTo(OptionInt.some(5));
+    assertThat(Option.<String>none().mapToInt(String::length)).isEqualTo(OptionInt.none());
+  }
+
+  @Test
+  void equality() {
+    assertThat(OptionInt.some(1)).isEqualTo(OptionInt.some(1)).isNotEqualTo(OptionInt.some(2));
+    assertThat(OptionInt.some(0)).isNotEqualTo(OptionInt.none());
+    assertThat(OptionInt.some(1).hashCode()).isEqualTo(OptionInt.some(1).hashCode());
+  }
+}
@@ -0,0 +1,35 @@
+package org.storynode.pigeon.option;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+
+class OptionLongTest {
+  @Test
+  void orElse() {
+    assertThat(OptionLong.some(1L).orElse(2L)).isEqualTo(1L);
+    assertThat(OptionLong.none().orElse(2L)).isEqualTo(2L);
+  }
+
+  @Test
+  void map() {
+    assertThat(OptionLong.some(2L).map(v -> v * v)).isEqualTo(OptionLong.some(4L));
+    assertThat(OptionLong.some(2L).mapToInt(v -> (int) v + 1)).isEqualTo(OptionInt.some(3));
+    assertThat(OptionLong.none().mapToInt(v -> (int) v)).isEqualTo(OptionInt.none());
+  }
+
+  @Test
+  void stream() {
+    assertThat(OptionLong.some(1L).stream().sum()).isEqualTo(1L);
+    assertThat(OptionLong.none().stream().count()).isZero();
+  }
+
+  @Test
+  void conversions() {
+    assertThat(OptionLong.some(1L).toOptional()).isEqualTo(OptionalLong.of(1L));
+    assertThat(OptionLong.from(OptionalLong.empty())).isSameAs(OptionLong.none());
+    assertThat(OptionLong.some(1L).toOption()).isEqualTo(Option.some(1L));
+    assertThat(Option.some("Hello").mapToLong(String::length)).isEqualTo(OptionLong.some(5L));
+  }
+}
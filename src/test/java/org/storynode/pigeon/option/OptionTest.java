@@ -16,6 +16,14 @@ class OptionTest {
     assertThat(Option.some(1)).as("Some value").isNotEmpty().isInstanceOf(Some.class);
   }
 
+  @Test
+  void shared() {
+    assertThat(Option.some(true)).as("Shared boolean").isSameAs(Option.of(Boolean.TRUE));
+    assertThat(Option.some(false)).as("Shared boolean").isSameAs(Option.of(Boolean.FALSE));
+    assertThat(Option.some(42)).as("Shared small int").isSameAs(Option.of(42));
+    assertThat(Option.some(4242)).as("Large int").isEqualTo(Option.of(4242));
+  }
+
   @Test
   void unwrap() {
     assertThat(Option.some(1)).as("Some value").returns(1, Option::unwrap);
@@ -131,6 +139,20 @@ class OptionTest {
     Assertions.assertThat(Option.some(1).stream().count()).isEqualTo(1);
   }
 
+  @Test
+  void variants() {
+    Assertions.assertThat(Option.class.getPermittedSubclasses())
+        .as("Option variants")
+        .containsExactlyInAnyOrder(Some.class, None.class);
+
+    Option<Integer> value = Option.some(1);
+    if (value instanceof Some<Integer> some) {
+      Assertions.assertThat(some.value()).as("Some value").isEqualTo(1);
+    } else {
+      throw new AssertionError("Expected a Some variant");
+    }
+  }
+
   @Test
   void tryUnwraps() {
     assertThat(Option.none().tryUnwrap()).isError();
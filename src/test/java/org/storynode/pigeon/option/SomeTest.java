@@ -14,4 +14,14 @@ class SomeTest {
     assertThat(some(1)).as("Some value").isNotEqualTo(some(new Object()));
     assertThat(some(1)).as("Some value").isNotEqualTo(none());
   }
+
+  @Test
+  void testHashCode() {
+    assertThat(some(new String("Hello")).hashCode())
+        .as("Equal values hashcode")
+        .isEqualTo(some(new String("Hello")).hashCode());
+    assertThat(some(Double.valueOf("1")).hashCode())
+        .as("Equal values hashcode")
+        .isEqualTo(some(Double.valueOf("1")).hashCode());
+  }
 }
@@ -0,0 +1,45 @@
+package org.storynode.pigeon.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.Test;
+import org.storynode.pigeon.error.UnwrapException;
+
+class DoubleResultTest {
+
+  @Test
+  void okAndErr() {
+    assertThat(DoubleResult.ok(3D).unwrap()).as("Unwrapped value").isEqualTo(3D);
+    assertThat(DoubleResult.err("Nope").unwrapError()).as("Unwrapped error").isEqualTo("Nope");
+    assertThatExceptionOfType(UnwrapException.class).isThrownBy(DoubleResult.err("Nope")::unwrap);
+  }
+
+  @Test
+  void orElse() {
+    assertThat(DoubleResult.ok(1D).orElse(2D)).isEqualTo(1D);
+    assertThat(DoubleResult.err("Nope").orElse(2D)).isEqualTo(2D);
+  }
+
+  @Test
+  void map() {
+    assertThat(DoubleResult.ok(2D).map(v -> v * v)).isEqualTo(DoubleResult.ok(4D));
+    assertThat(DoubleResult.ok(2D).mapToInt(v -> (int) v + 1)).isEqualTo(IntResult.ok(3));
+    assertThat(DoubleResult.<String>err("Nope").mapToInt(v -> (int) v))
+        .isEqualTo(IntResult.err("Nope"));
+  }
+
+  @Test
+  void equality() {
+    assertThat(DoubleResult.ok(Double.NaN)).isEqualTo(DoubleResult.ok(Double.NaN));
+    assertThat(DoubleResult.ok(0D)).isNotEqualTo(DoubleResult.ok(-0D));
+  }
+
+  @Test
+  void conversions() {
+    assertThat(DoubleResult.from(Result.ok(7D))).isEqualTo(DoubleResult.ok(7D));
+    assertThat(DoubleResult.ok(7D).toResult()).isEqualTo(Result.ok(7D));
+    assertThat(Result.<String, String>ok("Hello").mapToDouble(String::length))
+        .isEqualTo(DoubleResult.ok(5D));
+  }
+}
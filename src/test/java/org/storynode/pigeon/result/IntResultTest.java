@@ -0,0 +1,87 @@
+package org.storynode.pigeon.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.storynode.pigeon.error.UnwrapException;
+
+class IntResultTest {
+
+  @Test
+  void ok() {
+    IntResult<String> result = IntResult.ok(42);
+    assertThat(result.isOk()).as("Is ok").isTrue();
+    assertThat(result.unwrap()).as("Unwrapped value").isEqualTo(42);
+    assertThatExceptionOfType(UnwrapException.class).isThrownBy(result::unwrapError);
+  }
+
+  @Test
+  void err() {
+    IntResult<String> result = IntResult.err("Nope");
+    assertThat(result.isErr()).as("Is error").isTrue();
+    assertThat(result.unwrapError()).as("Unwrapped error").isEqualTo("Nope");
+    assertThatExceptionOfType(UnwrapException.class).isThrownBy(result::unwrap);
+  }
+
+  @Test
+  void orElse() {
+    assertThat(IntResult.ok(1).orElse(2)).as("Value with default").isEqualTo(1);
+    assertThat(IntResult.err("Nope").orElse(2)).as("Error with default").isEqualTo(2);
+    assertThat(IntResult.err("Nope").orElseGet(() -> 3)).as("Error with supplier").isEqualTo(3);
+  }
+
+  @Test
+  void map() {
+    assertThat(IntResult.ok(2).map(v -> v * v)).isEqualTo(IntResult.ok(4));
+    assertThat(IntResult.<String>err("Nope").map(v -> v * v)).isEqualTo(IntResult.err("Nope"));
+    assertThat(IntResult.ok(2).mapToLong(v -> v * 10L)).isEqualTo(LongResult.ok(20L));
+    assertThat(IntResult.ok(2).mapToDouble(v -> v / 4D)).isEqualTo(DoubleResult.ok(0.5D));
+    assertThat(IntResult.ok(2).mapToObj(Integer::toString)).isEqualTo(Result.ok("2"));
+    assertThat(IntResult.<String>err("Nope").mapToObj(Integer::toString))
+        .isEqualTo(Result.err("Nope"));
+  }
+
+  @Test
+  void flatMap() {
+    assertThat(IntResult.ok(2).flatMap(v -> IntResult.ok(v + 1))).isEqualTo(IntResult.ok(3));
+    assertThat(IntResult.ok(2).flatMap(v -> IntResult.err("Odd"))).isEqualTo(IntResult.err("Odd"));
+  }
+
+  @Test
+  void mapError() {
+    assertThat(IntResult.err("Nope").mapError(String::length)).isEqualTo(IntResult.err(4));
+    assertThat(IntResult.<String>ok(1).mapError(String::length)).isEqualTo(IntResult.ok(1));
+  }
+
+  @Test
+  void ifOkOrElse() {
+    AtomicInteger probe = new AtomicInteger(0);
+    IntResult.ok(2).ifOkOrElse(probe::set, err -> probe.set(-1));
+    assertThat(probe.get()).as("Probe value").isEqualTo(2);
+
+    IntResult.err("Nope").ifOkOrElse(probe::set, err -> probe.set(-1));
+    assertThat(probe.get()).as("Probe value").isEqualTo(-1);
+  }
+
+  @Test
+  void conversions() {
+    assertThat(Result.<String, String>ok("Hello").mapToInt(String::length))
+        .isEqualTo(IntResult.ok(5));
+    assertThat(Result.<String, String>err("Nope").mapToInt(String::length))
+        .isEqualTo(IntResult.err("Nope"));
+    assertThat(IntResult.from(Result.ok(7))).isEqualTo(IntResult.ok(7));
+    assertThat(IntResult.ok(7).toResult()).isEqualTo(Result.ok(7));
+    assertThat(IntResult.err("Nope").toResult()).isEqualTo(Result.err("Nope"));
+  }
+
+  @Test
+  void equality() {
+    assertThat(IntResult.ok(1)).isEqualTo(IntResult.ok(1)).isNotEqualTo(IntResult.ok(2));
+    assertThat(IntResult.ok(1)).isNotEqualTo(IntResult.err(1));
+    assertThat(IntResult.ok(1).hashCode()).isEqualTo(IntResult.ok(1).hashCode());
+    assertThat(IntResult.err("Nope").hashCode()).isEqualTo(IntResult.err("Nope").hashCode());
+    assertThat(IntResult.ok(32).hashCode()).isNotEqualTo(IntResult.err(1).hashCode());
+  }
+}
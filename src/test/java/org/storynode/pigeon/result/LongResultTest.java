@@ -0,0 +1,39 @@
+package org.storynode.pigeon.result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.jupiter.api.Test;
+import org.storynode.pigeon.error.UnwrapException;
+
+class LongResultTest {
+
+  @Test
+  void okAndErr() {
+    assertThat(LongResult.ok(3L).unwrap()).as("Unwrapped value").isEqualTo(3L);
+    assertThat(LongResult.err("Nope").unwrapError()).as("Unwrapped error").isEqualTo("Nope");
+    assertThatExceptionOfType(UnwrapException.class).isThrownBy(LongResult.err("Nope")::unwrap);
+  }
+
+  @Test
+  void orElse() {
+    assertThat(LongResult.ok(1L).orElse(2L)).isEqualTo(1L);
+    assertThat(LongResult.err("Nope").orElse(2L)).isEqualTo(2L);
+  }
+
+  @Test
+  void map() {
+    assertThat(LongResult.ok(2L).map(v -> v * v)).isEqualTo(LongResult.ok(4L));
+    assertThat(LongResult.ok(2L).mapToInt(v -> (int) v + 1)).isEqualTo(IntResult.ok(3));
+    assertThat(LongResult.<String>err("Nope").mapToInt(v -> (int) v))
+        .isEqualTo(IntResult.err("Nope"));
+  }
+
+  @Test
+  void conversions() {
+    assertThat(LongResult.from(Result.ok(7L))).isEqualTo(LongResult.ok(7L));
+    assertThat(LongResult.ok(7L).toResult()).isEqualTo(Result.ok(7L));
+    assertThat(Result.<String, String>ok("Hello").mapToLong(String::length))
+        .isEqualTo(LongResult.ok(5L));
+  }
+}
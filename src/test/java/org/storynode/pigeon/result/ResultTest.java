@@ -6,10 +6,14 @@ import static org.storynode.pigeon.assertion.Assertions.assertThat;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
+import org.storynode.pigeon.error.ErrorCode;
 import org.storynode.pigeon.error.UnwrapException;
 import org.storynode.pigeon.tuple.Tuple;
+import org.storynode.pigeon.tuple.Unit;
 
 class ResultTest {
 
@@ -21,6 +25,18 @@ class ResultTest {
     assertThatExceptionOfType(UnwrapException.class).isThrownBy(obj::unwrapError);
   }
 
+  @Test
+  void okShared() {
+    assertThat(Result.ok()).as("Unit result").isOk().unwraps(Unit.unit());
+    assertThat(Result.ok()).as("Shared unit result").isSameAs(Result.ok());
+    assertThat(Result.ok(true)).as("Shared boolean result").isSameAs(Result.ok(Boolean.TRUE));
+    assertThat(Result.ok(false)).as("Shared boolean result").isSameAs(Result.ok(Boolean.FALSE));
+    assertThat(Result.ok(-128)).as("Shared small int result").isSameAs(Result.ok(-128));
+    assertThat(Result.ok(127)).as("Shared small int result").isSameAs(Result.ok(127));
+    assertThat(Result.ok(1000)).as("Large int result").isEqualTo(Result.ok(1000)).unwraps(1000);
+    assertThat(Result.ok(1).map(v -> v + 1)).as("Mapped small int").isSameAs(Result.ok(2));
+  }
+
   @Test
   void error() {
     Result<Object, String> obj = Result.error("Nope");
@@ -29,6 +45,17 @@ class ResultTest {
     assertThatExceptionOfType(UnwrapException.class).isThrownBy(obj::unwrap);
   }
 
+  @Test
+  void failure() {
+    Result<Object, Rejection> obj = Result.failure(Rejection.RATE_LIMITED);
+    assertThat(obj).as("Result").isError();
+    assertThat(obj.unwrapError()).isEqualTo(Rejection.RATE_LIMITED);
+    assertThat(obj).as("Equal to a fresh Err").isEqualTo(Result.err(Rejection.RATE_LIMITED));
+    assertThat(Result.failure(Rejection.RATE_LIMITED)).as("Shared instance").isSameAs(obj);
+    assertThat(Result.failure(Rejection.NOT_FOUND)).isNotEqualTo(obj);
+    assertThat(Result.failure(Rejection.NOT_FOUND).unwrapError()).isEqualTo(Rejection.NOT_FOUND);
+  }
+
   @Test
   void of_static() {
     assertThat(Result.of(() -> "Hello world"))
@@ -159,6 +186,56 @@ class ResultTest {
     assertThat(Result.err(new IllegalArgumentException("Ops")).hashCode())
         .as("Result hashcode")
         .isNotZero();
+
+    assertThat(Result.ok(new String("Hello")).hashCode())
+        .as("Equal ok results hashcode")
+        .isEqualTo(Result.ok(new String("Hello")).hashCode());
+    assertThat(Result.err(new String("Nope")).hashCode())
+        .as("Equal err results hashcode")
+        .isEqualTo(Result.err(new String("Nope")).hashCode());
+    assertThat(Result.ok("Hello").hashCode())
+        .as("Ok and Err with the same content")
+        .isNotEqualTo(Result.err("Hello").hashCode());
+    assertThat(Result.ok(32).hashCode())
+        .as("Ok and Err with related content")
+        .isNotEqualTo(Result.err(1).hashCode());
+
+    Map<Result<String, String>, Integer> cache = new HashMap<>();
+    cache.put(Result.ok(new String("Hello")), 1);
+    cache.put(Result.err(new String("Hello")), 2);
+    assertThat(cache.get(Result.ok("Hello"))).as("Cached ok").isEqualTo(1);
+    assertThat(cache.get(Result.err("Hello"))).as("Cached err").isEqualTo(2);
+  }
+
+  @Test
+  void variants() {
+    assertThat(Result.class.getPermittedSubclasses())
+        .as("Result variants")
+        .containsExactlyInAnyOrder(Ok.class, Err.class);
+
+    Result<Integer, String> ok = Result.ok(1);
+    if (ok instanceof Ok<Integer, String> okVariant) {
+      assertThat(okVariant.value()).as("Ok value").isEqualTo(1);
+    } else {
+      throw new AssertionError("Expected an Ok variant");
+    }
+
+    Result<Integer, String> err = Result.err("Nope");
+    if (err instanceof Err<Integer, String> errVariant) {
+      assertThat(errVariant.error()).as("Err error").isEqualTo("Nope");
+    } else {
+      throw new AssertionError("Expected an Err variant");
+    }
+  }
+
+  private enum Rejection implements ErrorCode {
+    RATE_LIMITED,
+    NOT_FOUND {
+      @Override
+      public String message() {
+        return "Not found";
+      }
+    }
   }
 
   private static class DummyThrower {
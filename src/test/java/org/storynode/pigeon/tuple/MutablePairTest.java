@@ -0,0 +1,92 @@
+package org.storynode.pigeon.tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.storynode.pigeon.option.Option;
+
+class MutablePairTest {
+
+  @Test
+  void cardinality() {
+    assertThat(new MutablePair<>(1, 2).cardinality()).as("Cardinality").isEqualTo(2);
+  }
+
+  @Test
+  void empty() {
+    MutablePair<Integer, String> pair = new MutablePair<>();
+    assertThat(pair.first()).as("First").isNull();
+    assertThat(pair.second()).as("Second").isNull();
+  }
+
+  @Test
+  void atAndGet() {
+    MutablePair<Integer, String> pair = new MutablePair<>(1, "a");
+    assertThat(pair.at(0)).as("Index 0").isEqualTo(Option.of(1));
+    assertThat(pair.at(1)).as("Index 1").isEqualTo(Option.of("a"));
+    assertThat(pair.at(2)).as("Index out of range").isEqualTo(Option.none());
+    assertThat(pair.get(1)).as("Get index 1").isEqualTo("a");
+    assertThatThrownBy(() -> pair.get(2))
+        .as("Get out of range")
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void set() {
+    MutablePair<Integer, String> pair = new MutablePair<>(1, "a");
+    assertThat(pair.setFirst(2)).as("Chained").isSameAs(pair);
+    assertThat(pair.first()).as("First after setFirst").isEqualTo(2);
+    pair.setSecond("b");
+    assertThat(pair.second()).as("Second after setSecond").isEqualTo("b");
+    pair.set(3, "c");
+    assertThat(pair.get(0)).as("First after set").isEqualTo(3);
+    assertThat(pair.at(1)).as("Second after set").isEqualTo(Option.of("c"));
+  }
+
+  @Test
+  void enumerate() {
+    MutablePair<Integer, String> pair = new MutablePair<>(1, "a");
+    pair.setSecond("b");
+    assertThat(pair.enumerate())
+        .as("Enumerates the current elements")
+        .containsExactly(Tuple.of(1, 0), Tuple.of("b", 1));
+  }
+
+  @Test
+  void freeze() {
+    MutablePair<Integer, String> pair = new MutablePair<>(1, "a");
+    Pair<Integer, String> frozen = pair.freeze();
+    pair.set(2, "b");
+    assertThat(frozen).as("Unaffected by later changes").isEqualTo(Tuple.of(1, "a"));
+    assertThat(pair.freeze()).as("Current elements").isEqualTo(Tuple.of(2, "b"));
+  }
+
+  @Test
+  void equals() {
+    assertThat(new MutablePair<>(1, "a"))
+        .as("Simple equality check")
+        .isEqualTo(new MutablePair<>(1, "a"))
+        .as("Simple inequality check")
+        .isNotEqualTo(new MutablePair<>(1, "b"))
+        .as("Not equal to an immutable pair")
+        .isNotEqualTo(Tuple.of(1, "a"));
+  }
+
+  @Test
+  void testHashCode() {
+    MutablePair<Integer, String> pair = new MutablePair<>(1, "a");
+    assertThat(pair.hashCode()).as("Same as the frozen pair").isEqualTo(pair.freeze().hashCode());
+    pair.setFirst(2);
+    assertThat(pair.hashCode())
+        .as("Follows the current elements")
+        .isEqualTo(Tuple.of(2, "a").hashCode());
+  }
+
+  @Test
+  void testToString() {
+    assertThat(new MutablePair<>(1, "a"))
+        .as("String representation")
+        .hasToString("MutablePair[first=1, second=a]");
+  }
+}
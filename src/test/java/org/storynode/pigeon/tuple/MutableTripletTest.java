@@ -0,0 +1,81 @@
+package org.storynode.pigeon.tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.storynode.pigeon.option.Option;
+
+class MutableTripletTest {
+
+  @Test
+  void cardinality() {
+    assertThat(new MutableTriplet<>(1, 2, 3).cardinality()).as("Cardinality").isEqualTo(3);
+  }
+
+  @Test
+  void atAndGet() {
+    MutableTriplet<Integer, String, Long> triplet = new MutableTriplet<>(1, "a", 10L);
+    assertThat(triplet.at(2)).as("Index 2").isEqualTo(Option.of(10L));
+    assertThat(triplet.at(3)).as("Index out of range").isEqualTo(Option.none());
+    assertThat(triplet.get(0)).as("Get index 0").isEqualTo(1);
+    assertThatThrownBy(() -> triplet.get(3))
+        .as("Get out of range")
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void set() {
+    MutableTriplet<Integer, String, Long> triplet = new MutableTriplet<>();
+    assertThat(triplet.third()).as("Initially null").isNull();
+    triplet.setFirst(1).setSecond("a").setThird(10L);
+    assertThat(triplet.freeze()).as("After chained setters").isEqualTo(Tuple.of(1, "a", 10L));
+    assertThat(triplet.set(2, "b", 20L)).as("Chained").isSameAs(triplet);
+    assertThat(triplet.first()).as("First after set").isEqualTo(2);
+    assertThat(triplet.second()).as("Second after set").isEqualTo("b");
+    assertThat(triplet.third()).as("Third after set").isEqualTo(20L);
+  }
+
+  @Test
+  void accumulator() {
+    MutableTriplet<Integer, Long, Integer> stats = new MutableTriplet<>(0, 0L, Integer.MIN_VALUE);
+    for (int value : new int[] {3, 7, 5}) {
+      stats.set(stats.first() + 1, stats.second() + value, Math.max(stats.third(), value));
+    }
+    assertThat(stats.freeze()).as("Count, sum and max").isEqualTo(Tuple.of(3, 15L, 7));
+  }
+
+  @Test
+  void freeze() {
+    MutableTriplet<Integer, String, Long> triplet = new MutableTriplet<>(1, "a", 10L);
+    Triplet<Integer, String, Long> frozen = triplet.freeze();
+    triplet.setThird(20L);
+    assertThat(frozen).as("Unaffected by later changes").isEqualTo(Tuple.of(1, "a", 10L));
+  }
+
+  @Test
+  void equals() {
+    assertThat(new MutableTriplet<>(1, "a", 10L))
+        .as("Simple equality check")
+        .isEqualTo(new MutableTriplet<>(1, "a", 10L))
+        .as("Simple inequality check")
+        .isNotEqualTo(new MutableTriplet<>(1, "a", 11L))
+        .as("Not equal to an immutable triplet")
+        .isNotEqualTo(Tuple.of(1, "a", 10L));
+  }
+
+  @Test
+  void testHashCode() {
+    MutableTriplet<Integer, String, Long> triplet = new MutableTriplet<>(1, null, 10L);
+    assertThat(triplet.hashCode())
+        .as("Same as the frozen triplet")
+        .isEqualTo(triplet.freeze().hashCode());
+  }
+
+  @Test
+  void testToString() {
+    assertThat(new MutableTriplet<>(1, "a", 10L))
+        .as("String representation")
+        .hasToString("MutableTriplet[first=1, second=a, third=10]");
+  }
+}
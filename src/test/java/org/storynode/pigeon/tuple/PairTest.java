@@ -1,7 +1,9 @@
 package org.storynode.pigeon.tuple;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Objects;
 import org.junit.jupiter.api.Test;
 import org.storynode.pigeon.option.Option;
 
@@ -52,6 +54,23 @@ class PairTest {
         .isFalse();
   }
 
+  @Test
+  void compareTo() {
+    assertThat(Tuple.of(1, "b"))
+        .as("First element decides")
+        .isLessThan(Tuple.of(2, "a"))
+        .as("Second element breaks ties")
+        .isGreaterThan(Tuple.of(1, "a"))
+        .as("Equal elements")
+        .isEqualByComparingTo(Tuple.of(1, "b"));
+
+    assertThat(Tuple.<Integer, String>of(null, "b")).as("Nulls first").isLessThan(Tuple.of(1, "a"));
+
+    assertThatThrownBy(() -> Tuple.of(new Object(), 1).compareTo(Tuple.of(new Object(), 1)))
+        .as("Elements that are not comparable")
+        .isInstanceOf(ClassCastException.class);
+  }
+
   @Test
   void testToString() {
     Tuple value = new Pair<>("Hello", "World");
@@ -68,5 +87,27 @@ class PairTest {
   @Test
   void testHashCode() {
     assertThat(Tuple.of(1, 2).hashCode()).as("Hash code").isNotZero();
+
+    assertThat(new Pair<>(1, "Hello").hashCode())
+        .as("Equal tuples hash code")
+        .isEqualTo(new Pair<>(1, new String("Hello")).hashCode());
+    assertThat(new Pair<>(1, "Hello").hashCode())
+        .as("Same as Objects.hash")
+        .isEqualTo(Objects.hash(1, "Hello"));
+  }
+
+  @Test
+  void cachedHashCode() {
+    Pair<Integer, String> tuple = new Pair<>(1, "Hello");
+    int first = tuple.hashCode();
+    assertThat(tuple.hashCode()).as("Stable across calls").isEqualTo(first);
+    assertThat(new Pair<>(1, new String("Hello")).hashCode())
+        .as("Equal to the hash code of an equal tuple")
+        .isEqualTo(first);
+
+    Pair<Object, Integer> zero = new Pair<>(null, -961);
+    assertThat(zero.hashCode()).as("Elements hashing to 0").isZero();
+    assertThat(zero.hashCode()).as("Stable when the hash is 0").isZero();
+    assertThat(zero).as("Still equal").isEqualTo(new Pair<>(null, -961));
   }
 }
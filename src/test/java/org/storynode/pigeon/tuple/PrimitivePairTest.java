@@ -0,0 +1,154 @@
+package org.storynode.pigeon.tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.storynode.pigeon.option.Option;
+
+class PrimitivePairTest {
+
+  /** Each primitive pair, along with the boxed pair holding the same values */
+  enum Kind {
+    INT(
+        () -> Tuple.ofInts(1, 2),
+        Tuple.ofInts(1, 3),
+        new Pair<>(1, 2),
+        pair -> ((IntPair) pair).first(),
+        pair -> ((IntPair) pair).second(),
+        pair -> ((IntPair) pair).toPair()),
+    LONG(
+        () -> Tuple.ofLongs(1L, 2L),
+        Tuple.ofLongs(1L, 3L),
+        new Pair<>(1L, 2L),
+        pair -> ((LongPair) pair).first(),
+        pair -> ((LongPair) pair).second(),
+        pair -> ((LongPair) pair).toPair()),
+    DOUBLE(
+        () -> Tuple.ofDoubles(1.5, 2.5),
+        Tuple.ofDoubles(1.5, 3.5),
+        new Pair<>(1.5, 2.5),
+        pair -> ((DoublePair) pair).first(),
+        pair -> ((DoublePair) pair).second(),
+        pair -> ((DoublePair) pair).toPair()),
+    INT_LONG(
+        () -> Tuple.ofIntLong(1, 2L),
+        Tuple.ofIntLong(1, 3L),
+        new Pair<>(1, 2L),
+        pair -> ((IntLongPair) pair).first(),
+        pair -> ((IntLongPair) pair).second(),
+        pair -> ((IntLongPair) pair).toPair());
+
+    private final Supplier<Tuple> pair;
+    private final Tuple different;
+    private final Pair<?, ?> boxed;
+    private final Function<Tuple, Object> first;
+    private final Function<Tuple, Object> second;
+    private final Function<Tuple, Pair<?, ?>> toPair;
+
+    Kind(
+        Supplier<Tuple> pair,
+        Tuple different,
+        Pair<?, ?> boxed,
+        Function<Tuple, Object> first,
+        Function<Tuple, Object> second,
+        Function<Tuple, Pair<?, ?>> toPair) {
+      this.pair = pair;
+      this.different = different;
+      this.boxed = boxed;
+      this.first = first;
+      this.second = second;
+      this.toPair = toPair;
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(Kind.class)
+  void cardinality(Kind kind) {
+    assertThat(kind.pair.get().cardinality()).as("Cardinality").isEqualTo(2);
+  }
+
+  @ParameterizedTest
+  @EnumSource(Kind.class)
+  void at(Kind kind) {
+    Tuple pair = kind.pair.get();
+    assertThat(pair.at(0)).as("Index 0").isEqualTo(Option.of(kind.boxed.first()));
+    assertThat(pair.at(1)).as("Index 1").isEqualTo(Option.of(kind.boxed.second()));
+    assertThat(pair.at(2)).as("Index out of range").isEqualTo(Option.none());
+  }
+
+  @ParameterizedTest
+  @EnumSource(Kind.class)
+  void get(Kind kind) {
+    Tuple pair = kind.pair.get();
+    assertThat(pair.get(0)).as("Index 0").isEqualTo(kind.boxed.first());
+    assertThat(pair.get(1)).as("Index 1").isEqualTo(kind.boxed.second());
+    assertThatThrownBy(() -> pair.get(2))
+        .as("Index out of range")
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @ParameterizedTest
+  @EnumSource(Kind.class)
+  void firstAndSecond(Kind kind) {
+    Tuple pair = kind.pair.get();
+    assertThat(kind.first.apply(pair)).as("First").isEqualTo(kind.boxed.first());
+    assertThat(kind.second.apply(pair)).as("Second").isEqualTo(kind.boxed.second());
+  }
+
+  @ParameterizedTest
+  @EnumSource(Kind.class)
+  void toPair(Kind kind) {
+    assertThat(kind.toPair.apply(kind.pair.get())).as("Boxed pair").isEqualTo(kind.boxed);
+  }
+
+  @ParameterizedTest
+  @EnumSource(Kind.class)
+  void equals(Kind kind) {
+    assertThat(kind.pair.get())
+        .as("Simple equality check")
+        .isEqualTo(kind.pair.get())
+        .as("Simple inequality check")
+        .isNotEqualTo(kind.different)
+        .as("Not equal to the boxed pair")
+        .isNotEqualTo(kind.boxed);
+  }
+
+  @Test
+  void equalsNaN() {
+    assertThat(Tuple.ofDoubles(Double.NaN, 0.0))
+        .as("NaN equals itself")
+        .isEqualTo(Tuple.ofDoubles(Double.NaN, 0.0))
+        .as("Zero is not negative zero")
+        .isNotEqualTo(Tuple.ofDoubles(Double.NaN, -0.0));
+  }
+
+  @ParameterizedTest
+  @EnumSource(Kind.class)
+  void testHashCode(Kind kind) {
+    assertThat(kind.pair.get().hashCode())
+        .as("Equal tuples hash code")
+        .isEqualTo(kind.pair.get().hashCode())
+        .as("Same as the boxed pair")
+        .isEqualTo(kind.boxed.hashCode());
+  }
+
+  @ParameterizedTest
+  @EnumSource(Kind.class)
+  void testToString(Kind kind) {
+    Tuple pair = kind.pair.get();
+    assertThat(pair)
+        .as("String representation")
+        .hasToString(
+            pair.getClass().getSimpleName()
+                + "[first="
+                + kind.boxed.first()
+                + ", second="
+                + kind.boxed.second()
+                + "]");
+  }
+}
@@ -2,6 +2,7 @@ package org.storynode.pigeon.tuple;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Objects;
 import org.junit.jupiter.api.Test;
 import org.storynode.pigeon.option.Option;
 
@@ -74,5 +75,12 @@ class QuartetTest {
   @Test
   void testHashCode() {
     assertThat(Tuple.of(1, 2, 3, 4).hashCode()).as("Hash code").isNotZero();
+
+    assertThat(new Quartet<>(1, "Hello", 3L, null).hashCode())
+        .as("Equal tuples hash code")
+        .isEqualTo(new Quartet<>(1, new String("Hello"), 3L, null).hashCode());
+    assertThat(new Quartet<>(1, "Hello", 3L, null).hashCode())
+        .as("Same as Objects.hash")
+        .isEqualTo(Objects.hash(1, "Hello", 3L, null));
   }
 }
@@ -2,6 +2,7 @@ package org.storynode.pigeon.tuple;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Objects;
 import org.junit.jupiter.api.Test;
 import org.storynode.pigeon.option.Option;
 
@@ -84,5 +85,12 @@ class QuintetTest {
   @Test
   void testHashCode() {
     assertThat(Tuple.of(1, 2, 3, 4, 5).hashCode()).as("Hash code").isNotZero();
+
+    assertThat(new Quintet<>(1, "Hello", 3L, null, 5D).hashCode())
+        .as("Equal tuples hash code")
+        .isEqualTo(new Quintet<>(1, new String("Hello"), 3L, null, 5D).hashCode());
+    assertThat(new Quintet<>(1, "Hello", 3L, null, 5D).hashCode())
+        .as("Same as Objects.hash")
+        .isEqualTo(Objects.hash(1, "Hello", 3L, null, 5D));
   }
 }
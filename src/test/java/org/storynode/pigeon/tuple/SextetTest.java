@@ -0,0 +1,88 @@
+package org.storynode.pigeon.tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+import org.storynode.pigeon.option.Option;
+
+class SextetTest {
+  @Test
+  void cardinality() {
+    assertThat(Tuple.of(1, 2, 3, 4, 5, 6).cardinality()).as("Cardinality").isEqualTo(6);
+  }
+
+  @Test
+  void at() {
+    Sextet<Integer, Integer, Integer, Integer, Integer, Integer> value = Tuple.of(1, 2, 3, 4, 5, 6);
+    assertThat(value.at(0)).as("Index 0").isEqualTo(Option.of(1));
+    assertThat(value.at(1)).as("Index 1").isEqualTo(Option.of(2));
+    assertThat(value.at(2)).as("Index 2").isEqualTo(Option.of(3));
+    assertThat(value.at(3)).as("Index 3").isEqualTo(Option.of(4));
+    assertThat(value.at(4)).as("Index 4").isEqualTo(Option.of(5));
+    assertThat(value.at(5)).as("Index 5").isEqualTo(Option.of(6));
+    assertThat(value.at(6)).as("Index out of range").isEqualTo(Option.none());
+  }
+
+  @Test
+  void get() {
+    Sextet<Integer, Integer, Integer, Integer, Integer, Integer> value = Tuple.of(1, 2, 3, 4, 5, 6);
+    assertThat(value.get(0)).as("Index 0").isEqualTo(1);
+    assertThat(value.get(1)).as("Index 1").isEqualTo(2);
+    assertThat(value.get(2)).as("Index 2").isEqualTo(3);
+    assertThat(value.get(3)).as("Index 3").isEqualTo(4);
+    assertThat(value.get(4)).as("Index 4").isEqualTo(5);
+    assertThat(value.get(5)).as("Index 5").isEqualTo(6);
+    assertThatThrownBy(() -> value.get(6))
+        .as("Index out of range")
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void accessors() {
+    Sextet<Integer, Integer, Integer, Integer, Integer, Integer> value =
+        new Sextet<>(1, 2, 3, 4, 5, 6);
+    assertThat(value.first()).as("First").isEqualTo(1);
+    assertThat(value.second()).as("Second").isEqualTo(2);
+    assertThat(value.third()).as("Third").isEqualTo(3);
+    assertThat(value.fourth()).as("Fourth").isEqualTo(4);
+    assertThat(value.fifth()).as("Fifth").isEqualTo(5);
+    assertThat(value.sixth()).as("Sixth").isEqualTo(6);
+  }
+
+  @Test
+  void equals() {
+    assertThat(Tuple.of(1, "Hello", 3, null, 5, 6))
+        .as("Simple equality check")
+        .isEqualTo(Tuple.of(1, new String("Hello"), 3, null, 5, 6))
+        .as("Simple inequality check")
+        .isNotEqualTo(Tuple.of(1, "World", 3, null, 5, 6));
+  }
+
+  @Test
+  void compareTo() {
+    assertThat(Tuple.of(1, 2, 3, 4, 5, 6))
+        .as("Equal")
+        .isEqualByComparingTo(Tuple.of(1, 2, 3, 4, 5, 6))
+        .as("Last element decides")
+        .isLessThan(Tuple.of(1, 2, 3, 4, 5, 7));
+  }
+
+  @Test
+  void testToString() {
+    assertThat(Tuple.of(1, 2, 3, 4, 5, 6).toString())
+        .as("String representation")
+        .startsWith("Sextet[first=1, second=2")
+        .endsWith("sixth=6]");
+  }
+
+  @Test
+  void testHashCode() {
+    assertThat(Tuple.of(1, "Hello", 3, null, 5, 6).hashCode())
+        .as("Equal tuples hash code")
+        .isEqualTo(Tuple.of(1, new String("Hello"), 3, null, 5, 6).hashCode())
+        .as("Same as Objects.hash")
+        .isEqualTo(Objects.hash(1, "Hello", 3, null, 5, 6));
+  }
+}
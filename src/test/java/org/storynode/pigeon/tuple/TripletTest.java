@@ -2,6 +2,7 @@ package org.storynode.pigeon.tuple;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Objects;
 import org.junit.jupiter.api.Test;
 import org.storynode.pigeon.option.Option;
 
@@ -66,5 +67,27 @@ class TripletTest {
   @Test
   void testHashCode() {
     assertThat(Tuple.of(1, 2, 3).hashCode()).as("Hash code").isNotZero();
+
+    assertThat(new Triplet<>(1, "Hello", 3L).hashCode())
+        .as("Equal tuples hash code")
+        .isEqualTo(new Triplet<>(1, new String("Hello"), 3L).hashCode());
+    assertThat(new Triplet<>(1, "Hello", 3L).hashCode())
+        .as("Same as Objects.hash")
+        .isEqualTo(Objects.hash(1, "Hello", 3L));
+  }
+
+  @Test
+  void cachedHashCode() {
+    Triplet<Integer, String, Long> tuple = new Triplet<>(1, "Hello", 3L);
+    int first = tuple.hashCode();
+    assertThat(tuple.hashCode()).as("Stable across calls").isEqualTo(first);
+    assertThat(new Triplet<>(1, new String("Hello"), 3L).hashCode())
+        .as("Equal to the hash code of an equal tuple")
+        .isEqualTo(first);
+
+    Triplet<Object, Object, Integer> zero = new Triplet<>(null, null, -29_791);
+    assertThat(zero.hashCode()).as("Elements hashing to 0").isZero();
+    assertThat(zero.hashCode()).as("Stable when the hash is 0").isZero();
+    assertThat(zero).as("Still equal").isEqualTo(new Triplet<>(null, null, -29_791));
   }
 }
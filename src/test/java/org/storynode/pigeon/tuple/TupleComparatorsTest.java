@@ -0,0 +1,133 @@
+package org.storynode.pigeon.tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class TupleComparatorsTest {
+
+  @Test
+  void naturalMatchesCompareTo() {
+    Random random = new Random(7);
+    List<Triplet<Integer, String, Long>> triplets = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      triplets.add(
+          Tuple.of(
+              random.nextInt(5),
+              random.nextInt(10) == 0 ? null : String.valueOf(random.nextInt(5)),
+              random.nextLong()));
+    }
+
+    List<Triplet<Integer, String, Long>> byComparator = new ArrayList<>(triplets);
+    byComparator.sort(TupleComparators.triplet());
+    List<Triplet<Integer, String, Long>> byCompareTo = new ArrayList<>(triplets);
+    byCompareTo.sort(null);
+
+    assertThat(byComparator).as("Same order as compareTo").isEqualTo(byCompareTo);
+  }
+
+  @Test
+  void orderings() {
+    List<Pair<String, Integer>> pairs =
+        new ArrayList<>(
+            List.of(
+                Tuple.of("b", 1),
+                Tuple.of("a", 2),
+                Tuple.of(null, 3),
+                Tuple.of("a", null),
+                Tuple.of("a", 1)));
+
+    pairs.sort(
+        TupleComparators.pair(Ordering.ASCENDING_NULLS_LAST, Ordering.DESCENDING_NULLS_FIRST));
+    assertThat(pairs)
+        .as("First ascending with nulls last, second descending with nulls first")
+        .containsExactly(
+            Tuple.of("a", null),
+            Tuple.of("a", 2),
+            Tuple.of("a", 1),
+            Tuple.of("b", 1),
+            Tuple.of(null, 3));
+
+    pairs.sort(
+        TupleComparators.pair(Ordering.DESCENDING_NULLS_FIRST, Ordering.ASCENDING_NULLS_LAST));
+    assertThat(pairs)
+        .as("First descending with nulls first, second ascending with nulls last")
+        .containsExactly(
+            Tuple.of(null, 3),
+            Tuple.of("b", 1),
+            Tuple.of("a", 1),
+            Tuple.of("a", 2),
+            Tuple.of("a", null));
+  }
+
+  @Test
+  void nullsRejected() {
+    Comparator<Pair<String, Integer>> comparator =
+        TupleComparators.pair(Ordering.ASCENDING, Ordering.DESCENDING);
+
+    assertThat(comparator.compare(Tuple.of("a", 1), Tuple.of("a", 2)))
+        .as("Descending second element")
+        .isPositive();
+    assertThatThrownBy(() -> comparator.compare(Tuple.of(null, 1), Tuple.of("a", 1)))
+        .as("Null element")
+        .isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void cached() {
+    assertThat(
+            TupleComparators.quartet(
+                Ordering.ASCENDING, Ordering.DESCENDING, Ordering.ASCENDING, Ordering.DESCENDING))
+        .as("Same orderings, same comparator")
+        .isSameAs(
+            TupleComparators.quartet(
+                Ordering.ASCENDING, Ordering.DESCENDING, Ordering.ASCENDING, Ordering.DESCENDING));
+    assertThat(TupleComparators.<Integer, Integer>pair())
+        .as("Natural comparator")
+        .isSameAs(TupleComparators.pair());
+  }
+
+  @Test
+  void largestArity() {
+    Decet<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>
+        low = Tuple.of(1, 1, 1, 1, 1, 1, 1, 1, 1, 1);
+    Decet<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer>
+        high = Tuple.of(1, 1, 1, 1, 1, 1, 1, 1, 1, 2);
+
+    Comparator<
+            Decet<
+                Integer,
+                Integer,
+                Integer,
+                Integer,
+                Integer,
+                Integer,
+                Integer,
+                Integer,
+                Integer,
+                Integer>>
+        natural = TupleComparators.decet();
+    Ordering d = Ordering.DESCENDING;
+    Comparator<
+            Decet<
+                Integer,
+                Integer,
+                Integer,
+                Integer,
+                Integer,
+                Integer,
+                Integer,
+                Integer,
+                Integer,
+                Integer>>
+        descending = TupleComparators.decet(d, d, d, d, d, d, d, d, d, d);
+
+    assertThat(natural.compare(low, high)).as("Natural").isNegative();
+    assertThat(descending.compare(low, high)).as("Descending").isPositive();
+  }
+}
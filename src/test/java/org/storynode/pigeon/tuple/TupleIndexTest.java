@@ -0,0 +1,116 @@
+package org.storynode.pigeon.tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.storynode.pigeon.option.Option;
+
+class TupleIndexTest {
+  private TupleIndex<Triplet<String, Integer, Long>> rows;
+  private TupleIndex.Lookup<Triplet<String, Integer, Long>> byFirst;
+  private TupleIndex.Lookup<Triplet<String, Integer, Long>> byFirstAndSecond;
+
+  @BeforeEach
+  void setUp() {
+    rows =
+        new TupleIndex<>(
+            List.of(
+                Tuple.of("a", 1, 10L),
+                Tuple.of("a", 2, 20L),
+                Tuple.of("b", 1, 30L),
+                Tuple.of(null, 3, 40L)));
+    byFirst = rows.index(0);
+    byFirstAndSecond = rows.index(0, 1);
+  }
+
+  @Test
+  void lookups() {
+    assertThat(byFirst.get("a"))
+        .as("By first")
+        .containsExactly(Tuple.of("a", 1, 10L), Tuple.of("a", 2, 20L));
+    assertThat(byFirst.get((Object) null)).as("Null key").containsExactly(Tuple.of(null, 3, 40L));
+    assertThat(byFirstAndSecond.get("a", 2))
+        .as("By first and second")
+        .containsExactly(Tuple.of("a", 2, 20L));
+    assertThat(byFirstAndSecond.get("b", 2)).as("No match").isEmpty();
+    assertThat(rows.index(2).first(30L)).as("By third").isEqualTo(Option.of(Tuple.of("b", 1, 30L)));
+    assertThat(byFirst.first("z")).as("First, no match").isEqualTo(Option.none());
+    assertThat(byFirstAndSecond.containsKey("b", 1)).as("Contains key").isTrue();
+    assertThat(byFirst.keyCount()).as("Distinct keys").isEqualTo(3);
+  }
+
+  @Test
+  void incrementalUpdates() {
+    Set<Triplet<String, Integer, Long>> matches = byFirst.get("c");
+    assertThat(matches).as("Empty view").isEmpty();
+
+    assertThat(rows.add(Tuple.of("c", 5, 50L))).as("Added").isTrue();
+    assertThat(rows.add(Tuple.of("c", 5, 50L))).as("Already present").isFalse();
+    assertThat(matches).as("View sees additions").containsExactly(Tuple.of("c", 5, 50L));
+
+    assertThat(rows.remove(Tuple.of("c", 5, 50L))).as("Removed").isTrue();
+    assertThat(matches).as("View sees removals").isEmpty();
+    assertThat(byFirst.containsKey("c")).as("Empty keys are dropped").isFalse();
+
+    Iterator<Triplet<String, Integer, Long>> iterator = rows.iterator();
+    iterator.next();
+    iterator.remove();
+    assertThat(byFirstAndSecond.get("a", 1)).as("Removed through the iterator").isEmpty();
+
+    rows.clear();
+    assertThat(byFirst.get("a")).as("After clear").isEmpty();
+  }
+
+  @Test
+  void indexesAreShared() {
+    assertThat(rows.index(0, 1)).as("Same positions, same index").isSameAs(byFirstAndSecond);
+    assertThat(rows.index(1, 0))
+        .as("Different order, different index")
+        .isNotSameAs(byFirstAndSecond);
+  }
+
+  @Test
+  void viewsAreReadOnly() {
+    assertThatThrownBy(() -> byFirst.get("a").clear())
+        .as("Clear through a view")
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void nullLookups() {
+    assertThat(byFirst.get(null)).as("Get").containsExactly(Tuple.of(null, 3, 40L));
+    assertThat(byFirst.first(null)).as("First").isEqualTo(Option.of(Tuple.of(null, 3, 40L)));
+    assertThat(byFirst.containsKey(null)).as("Contains key").isTrue();
+    assertThat(rows.index(1).containsKey(null)).as("Missing null key").isFalse();
+    assertThatThrownBy(() -> byFirstAndSecond.get(null))
+        .as("Wrong number of values")
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void invalidIndexes() {
+    assertThatThrownBy(() -> rows.index()).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> rows.index(-1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> rows.index(1, 1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> rows.index(3)).isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> byFirstAndSecond.get("a"))
+        .as("Wrong number of values")
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void rowsThatDoNotFit() {
+    TupleIndex<Tuple> mixed = new TupleIndex<>();
+    mixed.index(2);
+
+    assertThatThrownBy(() -> mixed.add(Tuple.of("a", 1)))
+        .as("Row too short for an index")
+        .isInstanceOf(IndexOutOfBoundsException.class);
+    assertThat(mixed).as("Row not added").isEmpty();
+  }
+}
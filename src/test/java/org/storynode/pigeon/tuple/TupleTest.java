@@ -1,8 +1,14 @@
 package org.storynode.pigeon.tuple;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import org.junit.jupiter.api.Test;
 import org.storynode.pigeon.option.Option;
 
@@ -61,4 +67,44 @@ class TupleTest {
 
     assertThat(counter.get()).as("Number of cycles").isEqualTo(tuple.cardinality());
   }
+
+  @Test
+  void get() {
+    Tuple t = Tuple.of(1, "Hello", null, new Pair<>(10, 9), 7D);
+    assertThat(t.get(0)).as("First element").isEqualTo(1);
+    assertThat(t.get(2)).as("Null element").isNull();
+    assertThat(t.get(4)).as("Last element").isEqualTo(7D);
+    assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> t.get(5));
+    assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> t.get(-1));
+  }
+
+  @Test
+  void enumerateTwice() {
+    Iterable<Pair<Object, Integer>> enumeration = Tuple.of("a", 1, "b").enumerate();
+    assertThat(enumeration).as("First traversal").hasSize(3);
+    assertThat(enumeration).as("Second traversal").hasSize(3);
+  }
+
+  @Test
+  void iteration() {
+    Tuple t = Tuple.of("a", 1, "b", 2);
+    List<Object> items = new ArrayList<>();
+    t.iterator().forEachRemaining(items::add);
+    assertThat(items).as("Iterated items").containsExactly("a", 1, "b", 2);
+    assertThat(t.stream()).as("Streamed items").containsExactly("a", 1, "b", 2);
+    assertThat(t.spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED))
+        .as("Sized spliterator")
+        .isTrue();
+    assertThat(t.spliterator().getExactSizeIfKnown()).as("Spliterator size").isEqualTo(4);
+    assertThat(StreamSupport.stream(t.spliterator(), true).collect(Collectors.toList()))
+        .as("Parallel items")
+        .containsExactly("a", 1, "b", 2);
+  }
+
+  @Test
+  void equalsWithNulls() {
+    assertThat(Tuple.of(null, null, "c")).isEqualTo(Tuple.of(null, null, "c"));
+    assertThat(Tuple.of(null, "b", "c", "d")).isNotEqualTo(Tuple.of("a", "b", "c", "d"));
+    assertThat(Tuple.of("a", "b", "c", "d", null)).isNotEqualTo(Tuple.of("a", "b", "c", "d", "e"));
+  }
 }
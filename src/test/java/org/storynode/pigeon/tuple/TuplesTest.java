@@ -0,0 +1,162 @@
+package org.storynode.pigeon.tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.Test;
+
+class TuplesTest {
+
+  @Test
+  void zipLists() {
+    assertThat(Tuples.zip(List.of(1, 2, 3), List.of("a", "b")))
+        .as("Random access lists, stops at the shortest")
+        .containsExactly(Tuple.of(1, "a"), Tuple.of(2, "b"));
+    assertThat(Tuples.zip(new LinkedList<>(List.of(1, 2)), List.of("a", "b"), List.of(true)))
+        .as("Sequential lists")
+        .containsExactly(Tuple.of(1, "a", true));
+  }
+
+  @Test
+  void zipArrays() {
+    assertThat(Tuples.zip(new Integer[] {1, 2}, new String[] {"a", "b"}))
+        .as("Pairs")
+        .containsExactly(Tuple.of(1, "a"), Tuple.of(2, "b"));
+    assertThat(Tuples.zip(new Integer[] {1, 2}, new String[] {"a", "b"}, new Long[] {3L}))
+        .as("Triplets")
+        .containsExactly(Tuple.of(1, "a", 3L));
+  }
+
+  @Test
+  void zipStreams() {
+    assertThat(Tuples.zip(Stream.of(1, 2, 3), Stream.iterate("a", s -> s + "a")))
+        .as("Stops at the shortest, even if infinite")
+        .containsExactly(Tuple.of(1, "a"), Tuple.of(2, "aa"), Tuple.of(3, "aaa"));
+
+    AtomicInteger closed = new AtomicInteger();
+    Tuples.zip(
+            Stream.of(1).onClose(closed::incrementAndGet),
+            Stream.of(2).onClose(closed::incrementAndGet),
+            Stream.of(3).onClose(closed::incrementAndGet))
+        .close();
+    assertThat(closed).as("Inputs closed").hasValue(3);
+  }
+
+  @Test
+  void zipStreamsSized() {
+    Spliterator<Pair<Integer, Integer>> spliterator =
+        Tuples.zip(IntStream.range(0, 1000).boxed(), List.copyOf(range(1000)).stream())
+            .spliterator();
+    assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED))
+        .as("Sized and subsized")
+        .isTrue();
+    assertThat(spliterator.getExactSizeIfKnown()).as("Exact size").isEqualTo(1000);
+
+    Spliterator<Pair<Integer, Integer>> unsized =
+        Tuples.zip(Stream.of(1, 2), Stream.of(1, 2, 3)).spliterator();
+    assertThat(unsized.hasCharacteristics(Spliterator.SIZED))
+        .as("Inputs of different sizes")
+        .isFalse();
+  }
+
+  @Test
+  void zipParallel() {
+    int size = 100_000;
+    List<Pair<Integer, Integer>> zipped =
+        Tuples.zip(range(size).parallelStream(), range(size).stream()).collect(Collectors.toList());
+
+    assertThat(zipped).as("Size").hasSize(size);
+    assertThat(zipped)
+        .as("Aligned and in order")
+        .allSatisfy(pair -> assertThat(pair.first()).isEqualTo(pair.second()))
+        .isSortedAccordingTo(TupleComparators.pair());
+  }
+
+  @Test
+  void zipParallelUnevenSplits() {
+    int size = 10_000;
+    Stream<Integer> thirds = StreamSupport.stream(new ThirdsSpliterator(0, size), true);
+    List<Triplet<Integer, Integer, Integer>> zipped =
+        Tuples.zip(thirds, range(size).stream(), IntStream.range(0, size).boxed())
+            .collect(Collectors.toList());
+
+    assertThat(zipped).as("Size").hasSize(size);
+    assertThat(zipped)
+        .as("Aligned even if the inputs split at different points")
+        .allSatisfy(
+            triplet -> {
+              assertThat(triplet.first()).isEqualTo(triplet.second());
+              assertThat(triplet.second()).isEqualTo(triplet.third());
+            });
+  }
+
+  @Test
+  void unzip() {
+    Pair<List<Integer>, List<String>> columns =
+        IntStream.range(0, 10_000)
+            .parallel()
+            .mapToObj(i -> Tuple.of(i, String.valueOf(i)))
+            .collect(Tuples.unzipPairs());
+    assertThat(columns.first()).as("First column").isEqualTo(range(10_000));
+    assertThat(columns.second()).as("Second column").hasSize(10_000).startsWith("0", "1", "2");
+
+    Triplet<List<Integer>, List<String>, List<Boolean>> triplets =
+        Stream.of(Tuple.of(1, "a", true), Tuple.of(2, "b", false)).collect(Tuples.unzipTriplets());
+    assertThat(triplets)
+        .as("Three columns")
+        .isEqualTo(Tuple.of(List.of(1, 2), List.of("a", "b"), List.of(true, false)));
+  }
+
+  private static List<Integer> range(int size) {
+    return IntStream.range(0, size).boxed().collect(Collectors.toList());
+  }
+
+  /** A sized spliterator over a range of ints that splits off the first third */
+  private static final class ThirdsSpliterator implements Spliterator<Integer> {
+    private int index;
+    private final int fence;
+
+    private ThirdsSpliterator(int origin, int fence) {
+      this.index = origin;
+      this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Integer> action) {
+      if (index >= fence) {
+        return false;
+      }
+      action.accept(index++);
+      return true;
+    }
+
+    @Override
+    public Spliterator<Integer> trySplit() {
+      int third = index + (fence - index) / 3;
+      if (third <= index) {
+        return null;
+      }
+      Spliterator<Integer> prefix = new ThirdsSpliterator(index, third);
+      index = third;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL;
+    }
+  }
+}
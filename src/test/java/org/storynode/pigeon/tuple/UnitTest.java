@@ -0,0 +1,15 @@
+package org.storynode.pigeon.tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.storynode.pigeon.option.Option;
+
+class UnitTest {
+  @Test
+  void unit() {
+    assertThat(Unit.unit()).as("Unit").isSameAs(Unit.unit()).returns(0, Tuple::cardinality);
+    assertThat(Unit.unit().at(0)).as("Index 0").isEqualTo(Option.none());
+    assertThat(Unit.unit().enumerate()).as("Elements").isEmpty();
+  }
+}